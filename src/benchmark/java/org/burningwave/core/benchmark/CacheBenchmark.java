@@ -0,0 +1,97 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CacheBenchmark {
+
+	@Param({"10000"})
+	int pathCount;
+	Cache cache;
+	String[] paths;
+	ByteBuffer content;
+
+	@Setup
+	public void setUp() throws Throwable {
+		cache = Cache.create();
+		content = ByteBuffer.allocate(512);
+		paths = new String[pathCount];
+		for (int i = 0; i < pathCount; i++) {
+			paths[i] = "/benchmark/libraries/library-" + (i % 16) + ".jar/" +
+				Fixtures.PACKAGE_PREFIX + "Class" + i + ".class";
+			cache.pathForContents.getOrUploadIfAbsent(paths[i], () -> content);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		cache.clear(false);
+	}
+
+	@Benchmark
+	public ByteBuffer getOrUploadIfAbsentHit() {
+		return cache.pathForContents.getOrUploadIfAbsent(
+			paths[ThreadLocalRandom.current().nextInt(pathCount)], () -> content
+		);
+	}
+
+	@Benchmark
+	public ByteBuffer uploadAndRemove() {
+		String path = paths[ThreadLocalRandom.current().nextInt(pathCount)] + ".copy";
+		ByteBuffer item = cache.pathForContents.getOrUploadIfAbsent(path, () -> content);
+		cache.pathForContents.remove(path, false);
+		return item;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.io.FileSystemItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSystemItemBenchmark {
+	private static final int NESTED_JAR_COUNT = 4;
+
+	@Param({"1000", "5000"})
+	int classCount;
+	File folder;
+	FileSystemItem nestedArchive;
+	FileSystemItem nestedClassFile;
+	FileSystemItem.Criteria filesCriteria;
+
+	@Setup
+	public void setUp() throws Throwable {
+		folder = Fixtures.createTemporaryFolder("file-system-item-benchmark");
+		String nestedArchivePath = Fixtures.createNestedArchive(
+			folder, "libraries.zip", NESTED_JAR_COUNT, classCount / NESTED_JAR_COUNT
+		).getAbsolutePath();
+		nestedArchive = FileSystemItem.ofPath(nestedArchivePath);
+		nestedClassFile = FileSystemItem.ofPath(
+			nestedArchivePath + "/lib/library-0.jar/" + Fixtures.PACKAGE_PREFIX +
+			Fixtures.toPackageName("library-0") + "/Class0.class"
+		);
+		filesCriteria = FileSystemItem.Criteria.forAllFileThat(FileSystemItem::isFile);
+	}
+
+	@TearDown
+	public void tearDown() {
+		nestedClassFile.destroy();
+		nestedArchive.destroy();
+		Fixtures.delete(folder);
+	}
+
+	@Benchmark
+	public int findInAllChildren() {
+		return nestedArchive.findInAllChildren(filesCriteria).size();
+	}
+
+	@Benchmark
+	public int findInAllChildrenAfterReset() {
+		return nestedArchive.reset().findInAllChildren(filesCriteria).size();
+	}
+
+	@Benchmark
+	public ByteBuffer toByteBuffer() {
+		return nestedClassFile.toByteBuffer();
+	}
+
+	@Benchmark
+	public ByteBuffer toByteBufferAfterReset() {
+		return nestedClassFile.reset().toByteBuffer();
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+//Builds at setup time the archives scanned by the benchmarks so that every run works on the same content
+final class Fixtures {
+	static final String PACKAGE_PREFIX = "org/burningwave/core/benchmark/fixture/";
+	static final String CLASS_NAME_PREFIX = PACKAGE_PREFIX.replace("/", ".");
+
+	private Fixtures() {}
+
+	static File createTemporaryFolder(String prefix) throws IOException {
+		return Files.createTempDirectory(prefix).toFile();
+	}
+
+	//A jar containing classCount empty classes
+	static File createJar(File folder, String name, int classCount) throws IOException {
+		File jar = new File(folder, name);
+		try (OutputStream outputStream = new FileOutputStream(jar)) {
+			writeJar(outputStream, name.substring(0, name.lastIndexOf('.')), classCount);
+		}
+		return jar;
+	}
+
+	//A zip containing jarCount jars, each one containing classCountPerJar empty classes
+	static File createNestedArchive(File folder, String name, int jarCount, int classCountPerJar) throws IOException {
+		File archive = new File(folder, name);
+		try (ZipOutputStream outputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+			for (int i = 0; i < jarCount; i++) {
+				String jarName = "library-" + i;
+				ByteArrayOutputStream jarContent = new ByteArrayOutputStream();
+				writeJar(jarContent, jarName, classCountPerJar);
+				outputStream.putNextEntry(new ZipEntry("lib/" + jarName + ".jar"));
+				jarContent.writeTo(outputStream);
+				outputStream.closeEntry();
+			}
+		}
+		return archive;
+	}
+
+	static String toPackageName(String archiveName) {
+		return archiveName.replaceAll("[^A-Za-z0-9]", "_");
+	}
+
+	static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private static void writeJar(OutputStream outputStream, String archiveName, int classCount) throws IOException {
+		String packageName = PACKAGE_PREFIX + toPackageName(archiveName) + "/";
+		JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+		for (int i = 0; i < classCount; i++) {
+			String className = packageName + "Class" + i;
+			jarOutputStream.putNextEntry(new ZipEntry(className + ".class"));
+			jarOutputStream.write(toByteCode(className));
+			jarOutputStream.closeEntry();
+		}
+		jarOutputStream.finish();
+	}
+
+	//The bytecode of a public class, compiled for Java 8, without members
+	static byte[] toByteCode(String className) throws IOException {
+		ByteArrayOutputStream byteCode = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(byteCode)) {
+			output.writeInt(0xCAFEBABE);
+			output.writeShort(0);
+			output.writeShort(52);
+			output.writeShort(5);
+			output.writeByte(1);
+			output.writeUTF(className);
+			output.writeByte(7);
+			output.writeShort(1);
+			output.writeByte(1);
+			output.writeUTF("java/lang/Object");
+			output.writeByte(7);
+			output.writeShort(3);
+			//ACC_PUBLIC | ACC_SUPER
+			output.writeShort(0x0021);
+			output.writeShort(2);
+			output.writeShort(4);
+			//Interfaces, fields, methods and attributes
+			output.writeShort(0);
+			output.writeShort(0);
+			output.writeShort(0);
+			output.writeShort(0);
+		}
+		return byteCode.toByteArray();
+	}
+
+}
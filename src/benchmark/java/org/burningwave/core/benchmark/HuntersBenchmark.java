@@ -0,0 +1,139 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.ByteCodeHunter;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassHunter;
+import org.burningwave.core.classes.ClassPathHunter;
+import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.io.FileSystemItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HuntersBenchmark {
+	private static final int NESTED_JAR_COUNT = 4;
+
+	@Param({"1000", "5000"})
+	int classCount;
+	File folder;
+	String jarPath;
+	String nestedArchivePath;
+	ComponentSupplier componentSupplier;
+
+	@Setup
+	public void setUp() throws Throwable {
+		folder = Fixtures.createTemporaryFolder("hunters-benchmark");
+		jarPath = Fixtures.createJar(folder, "classes.jar", classCount).getAbsolutePath();
+		nestedArchivePath = Fixtures.createNestedArchive(
+			folder, "libraries.zip", NESTED_JAR_COUNT, classCount / NESTED_JAR_COUNT
+		).getAbsolutePath();
+		componentSupplier = ComponentSupplier.getInstance();
+	}
+
+	@TearDown
+	public void tearDown() {
+		componentSupplier.closeHuntersSearchResults();
+		FileSystemItem.ofPath(jarPath).destroy();
+		FileSystemItem.ofPath(nestedArchivePath).destroy();
+		Fixtures.delete(folder);
+	}
+
+	@Benchmark
+	public int classHunterFindByInJar() {
+		return findClasses(jarPath);
+	}
+
+	@Benchmark
+	public int classHunterFindByInNestedJars() {
+		return findClasses(nestedArchivePath);
+	}
+
+	@Benchmark
+	public int byteCodeHunterFindByInJar() {
+		return findByteCodes(jarPath);
+	}
+
+	@Benchmark
+	public int byteCodeHunterFindByInNestedJars() {
+		return findByteCodes(nestedArchivePath);
+	}
+
+	@Benchmark
+	public int classPathHunterFindByInNestedJars() {
+		try (ClassPathHunter.SearchResult result = componentSupplier.getClassPathHunter().findBy(
+			SearchConfig.forPaths(nestedArchivePath).by(
+				ClassCriteria.create().className(className -> className.endsWith("Class0"))
+			)
+		)) {
+			return result.getClassPaths().size();
+		}
+	}
+
+	int findClasses(String path) {
+		try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+			SearchConfig.forPaths(path).by(newClassCriteria())
+		)) {
+			return result.getClasses().size();
+		}
+	}
+
+	int findByteCodes(String path) {
+		try (ByteCodeHunter.SearchResult result = componentSupplier.getByteCodeHunter().findBy(
+			SearchConfig.forPaths(path).by(newClassCriteria())
+		)) {
+			return result.getClasses().size();
+		}
+	}
+
+	ClassCriteria newClassCriteria() {
+		return ClassCriteria.create().className(className -> className.startsWith(Fixtures.CLASS_NAME_PREFIX));
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.JavaMemoryCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JavaMemoryCompilerBenchmark {
+
+	@Param({"1", "50"})
+	int sourceCount;
+	Collection<String> sources;
+	JavaMemoryCompiler javaMemoryCompiler;
+
+	@Setup
+	public void setUp() {
+		javaMemoryCompiler = ComponentSupplier.getInstance().getJavaMemoryCompiler();
+		sources = new ArrayList<>();
+		String packageName = Fixtures.CLASS_NAME_PREFIX + "compiled";
+		for (int i = 0; i < sourceCount; i++) {
+			sources.add(
+				"package " + packageName + ";\n" +
+				"public class Source" + i + " implements java.util.function.Supplier<String> {\n" +
+				"	public String get() {\n" +
+				"		return \"Source" + i + "\";\n" +
+				"	}\n" +
+				"}\n"
+			);
+		}
+	}
+
+	@Benchmark
+	public Map<String, ByteBuffer> compile() {
+		return javaMemoryCompiler.compile(
+			JavaMemoryCompiler.Compilation.Config.withSources(sources).storeCompiledClasses(false)
+		).join().getCompiledFiles();
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MethodsBenchmark {
+
+	Target target;
+	Method method;
+	Integer first;
+	Long second;
+
+	@Setup
+	public void setUp() throws Throwable {
+		target = new Target();
+		method = Target.class.getDeclaredMethod("sum", int.class, long.class);
+		method.setAccessible(true);
+		first = 1;
+		second = 2L;
+	}
+
+	@Benchmark
+	public Object reflection() throws Throwable {
+		return method.invoke(target, first, second);
+	}
+
+	@Benchmark
+	public Object invokeDirect() {
+		return Methods.invokeDirect(target, "sum", first, second);
+	}
+
+	//The steps performed by invokeDirect before the handles were cached for each class
+	@Benchmark
+	public Object invokeDirectWithoutClassValueCache() throws Throwable {
+		Object[] arguments = new Object[] {first, second};
+		List<Object> argumentList = new ArrayList<>();
+		argumentList.add(target);
+		for (Object argument : arguments) {
+			argumentList.add(argument);
+		}
+		return Methods.findDirectHandle(
+			Classes.retrieveFrom(target), "sum", Classes.retrieveFrom(arguments)
+		).invokeWithArguments(argumentList);
+	}
+
+	public static class Target {
+
+		private long sum(int first, long second) {
+			return first + second;
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamsBenchmark {
+
+	@Param({"4096", "1048576", "8388608"})
+	int size;
+	byte[] content;
+	File file;
+
+	@Setup
+	public void setUp() throws Throwable {
+		content = new byte[size];
+		new Random(size).nextBytes(content);
+		file = File.createTempFile("streams-benchmark", ".bin");
+		try (FileOutputStream outputStream = new FileOutputStream(file)) {
+			outputStream.write(content);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public ByteBuffer fileWithKnownSize() throws Throwable {
+		try (InputStream inputStream = new java.io.FileInputStream(file)) {
+			return Streams.toByteBuffer(inputStream, (int)file.length());
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer fileWithUnknownSize() throws Throwable {
+		try (InputStream inputStream = new java.io.FileInputStream(file)) {
+			return Streams.toByteBuffer(inputStream);
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer streamWithKnownSize() {
+		return Streams.toByteBuffer(new ByteArrayInputStream(content), size);
+	}
+
+	@Benchmark
+	public ByteBuffer streamWithUnknownSize() {
+		return Streams.toByteBuffer(new ByteArrayInputStream(content));
+	}
+
+	//The chunked copy with expansions performed by Streams.toByteBuffer before the size was used
+	@Benchmark
+	public ByteBuffer streamWithChunkedCopy() throws Throwable {
+		InputStream inputStream = new ByteArrayInputStream(content);
+		byte[] heapBuffer = BufferHandler.newByteArrayWithDefaultSize();
+		int bytesRead;
+		ByteBuffer byteBuffer = BufferHandler.newByteBufferWithDefaultSize();
+		while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
+			byteBuffer = BufferHandler.put(byteBuffer, heapBuffer, bytesRead);
+		}
+		return BufferHandler.shareContent(byteBuffer);
+	}
+
+}
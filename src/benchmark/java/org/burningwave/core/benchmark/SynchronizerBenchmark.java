@@ -0,0 +1,117 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.concurrent.Synchronizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class SynchronizerBenchmark {
+
+	@Param({"false", "true"})
+	public boolean mutexStripingEnabled;
+
+	//A few ids simulate many threads loading the same resources, a lot of ids simulate a class path scan
+	@Param({"64", "65536"})
+	public int idCount;
+
+	Synchronizer synchronizer;
+	String idPrefix;
+	String[] ids;
+	int idMask;
+
+	@Setup
+	public void setUp() {
+		Map<Object, Object> config = new HashMap<>();
+		config.put(Synchronizer.Configuration.Key.MUTEX_STRIPING_ENABLED, mutexStripingEnabled);
+		synchronizer = Synchronizer.create("Synchronizer benchmark", config, false);
+		idPrefix = toString() + "_mutexManagerForLoadedResources_";
+		ids = new String[Integer.highestOneBit(idCount)];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = "/benchmark/resources/package" + (i % 32) + "/Resource" + i + ".class";
+		}
+		idMask = ids.length - 1;
+	}
+
+	@TearDown
+	public void tearDown() {
+		synchronizer.close();
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index = ThreadLocalRandom.current().nextInt();
+
+		String next(SynchronizerBenchmark benchmark) {
+			return benchmark.ids[index++ & benchmark.idMask];
+		}
+	}
+
+	@Benchmark
+	public String executeWithConcatenatedId(Cursor cursor) {
+		String id = cursor.next(this);
+		return synchronizer.execute(idPrefix + id, () -> id);
+	}
+
+	@Benchmark
+	public String executeWithTwoPartsId(Cursor cursor) {
+		String id = cursor.next(this);
+		return synchronizer.execute(idPrefix, id, () -> id);
+	}
+
+	@Benchmark
+	public String executeOnStripe(Cursor cursor) {
+		String id = cursor.next(this);
+		return synchronizer.executeOnStripe(idPrefix, id, () -> id);
+	}
+
+}
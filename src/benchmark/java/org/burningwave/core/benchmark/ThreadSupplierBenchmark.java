@@ -0,0 +1,96 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.concurrent.Thread;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+//Each task simulates a blocking I/O operation: with platform threads the tasks exceeding the thread limits wait for
+//a free thread while with virtual threads they all block at the same time
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ThreadSupplierBenchmark {
+
+	@Param({"false", "true"})
+	public boolean virtualThreadsEnabled;
+
+	@Param({"1000"})
+	public int taskCount;
+
+	@Param({"10"})
+	public long blockingTime;
+
+	Thread.Supplier threadSupplier;
+
+	@Setup
+	public void setUp() {
+		Map<Object, Object> config = new HashMap<>(Thread.Supplier.Configuration.DEFAULT_VALUES);
+		config.put(Thread.Supplier.Configuration.Key.VIRTUAL_THREADS_ENABLED, virtualThreadsEnabled);
+		threadSupplier = Thread.Supplier.create("Benchmark thread supplier", config, false);
+	}
+
+	@TearDown
+	public void tearDown() {
+		threadSupplier.shutDownAllThreads(true);
+	}
+
+	@Benchmark
+	public long runBlockingTasks() throws InterruptedException {
+		CountDownLatch tasksEnding = new CountDownLatch(taskCount);
+		for (int i = 0; i < taskCount; i++) {
+			threadSupplier.getOrCreateThread().setExecutable(thread -> {
+				java.lang.Thread.sleep(blockingTime);
+				tasksEnding.countDown();
+			}).start();
+		}
+		tasksEnding.await();
+		return tasksEnding.getCount();
+	}
+
+}
@@ -32,24 +32,36 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Background
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Metrics;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import org.burningwave.core.classes.Members;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
@@ -57,9 +69,55 @@ import org.burningwave.core.function.TriConsumer;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 
 public class Cache {
+
+	public static abstract class Configuration {
+
+		public static abstract class Key {
+
+			public static final String PREFIX = "cache.";
+			public static final String MAX_ENTRIES_SUFFIX = ".max-entries";
+			public static final String MAX_WEIGHT_SUFFIX = ".max-weight";
+			public static final String TIME_TO_IDLE_SUFFIX = ".time-to-idle";
+			public static final String FREQUENCY_BASED_ADMISSION_ENABLED_SUFFIX = ".frequency-based-admission.enabled";
+
+			public static final String PATH_FOR_CONTENTS = "path-for-contents";
+			public static final String PATH_FOR_FILE_SYSTEM_ITEMS = "path-for-file-system-items";
+			public static final String PATH_FOR_ITERABLE_ZIP_CONTAINERS = "path-for-iterable-zip-containers";
+			public static final String CLASS_LOADER_FOR_FIELDS = "class-loader-for-fields";
+			public static final String CLASS_LOADER_FOR_METHODS = "class-loader-for-methods";
+			public static final String CLASS_LOADER_FOR_CONSTRUCTORS = "class-loader-for-constructors";
+			public static final String UNIQUE_KEY_FOR_FIELDS = "unique-key-for-fields";
+			public static final String UNIQUE_KEY_FOR_CONSTRUCTORS = "unique-key-for-constructors";
+			public static final String UNIQUE_KEY_FOR_METHODS = "unique-key-for-methods";
+			public static final String BINDED_FUNCTIONAL_INTERFACES = "binded-functional-interfaces";
+			public static final String UNIQUE_KEY_FOR_EXECUTABLE_AND_METHOD_HANDLE = "unique-key-for-executable-and-method-handle";
+
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+
+			for (String cacheName : new String[] {
+				Key.PATH_FOR_CONTENTS,
+				Key.PATH_FOR_FILE_SYSTEM_ITEMS,
+				Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS
+			}) {
+				defaultValues.put(Key.PREFIX + cacheName + Key.MAX_ENTRIES_SUFFIX, -1);
+				defaultValues.put(Key.PREFIX + cacheName + Key.MAX_WEIGHT_SUFFIX, -1);
+				defaultValues.put(Key.PREFIX + cacheName + Key.TIME_TO_IDLE_SUFFIX, -1);
+				defaultValues.put(Key.PREFIX + cacheName + Key.FREQUENCY_BASED_ADMISSION_ENABLED_SUFFIX, false);
+			}
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+
 	public final PathForResources<ByteBuffer> pathForContents;
 	public final PathForResources<FileSystemItem> pathForFileSystemItems;
 	public final PathForResources<IterableZipContainer> pathForIterableZipContainers;
@@ -72,34 +130,129 @@ public class Cache {
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
 	public final ObjectAndPathForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
 
-	private Cache() {
+	private Cache(Map<?, ?> config) {
 		ManagedLoggerRepository.logInfo(getClass()::getName, "Building cache");
-		pathForContents = new PathForResources<>(BufferHandler::shareContent);
+		pathForContents = new PathForResources<>(
+			1L, BufferHandler::shareContent, null,
+			//Mapped buffers live outside the heap so they are not weighed
+			buffer -> buffer instanceof MappedByteBuffer ? 0L : buffer.limit(),
+			retrieveEvictionConfig(config, Configuration.Key.PATH_FOR_CONTENTS),
+			new Statistics()
+		);
+		//The evicted items are still referenced by their parents and by the class loaders, so only the
+		//reference of the cache is dropped
 		pathForFileSystemItems = new PathForResources<>(
+			1L, item -> item,
 			(path, fileSystemItem) ->
-				fileSystemItem.destroy()
+				fileSystemItem.destroy(),
+			null,
+			retrieveEvictionConfig(config, Configuration.Key.PATH_FOR_FILE_SYSTEM_ITEMS),
+			new Statistics(),
+			null
 		);
+		//The evicted containers have already been removed from the cache, where in the meantime another
+		//container could have been uploaded for the same path
 		pathForIterableZipContainers = new PathForResources<>(
+			1L, item -> item,
+			(path, zipFileContainer) ->
+				zipFileContainer.destroy(),
+			null,
+			retrieveEvictionConfig(config, Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS),
+			new Statistics(),
 			(path, zipFileContainer) ->
-				zipFileContainer.destroy()
+				zipFileContainer.destroy(false)
 		);
-		classLoaderForFields = new ObjectAndPathForResources<>();
-		classLoaderForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForFields = new ObjectAndPathForResources<>();
-		uniqueKeyForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForConstructors = new ObjectAndPathForResources<>();
-		classLoaderForConstructors = new ObjectAndPathForResources<>();
-		bindedFunctionalInterfaces = new ObjectAndPathForResources<>();
-		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>();
+		classLoaderForFields = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.CLASS_LOADER_FOR_FIELDS));
+		classLoaderForMethods = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.CLASS_LOADER_FOR_METHODS));
+		uniqueKeyForFields = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.UNIQUE_KEY_FOR_FIELDS));
+		uniqueKeyForMethods = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.UNIQUE_KEY_FOR_METHODS));
+		uniqueKeyForConstructors = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.UNIQUE_KEY_FOR_CONSTRUCTORS));
+		classLoaderForConstructors = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.CLASS_LOADER_FOR_CONSTRUCTORS));
+		bindedFunctionalInterfaces = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.BINDED_FUNCTIONAL_INTERFACES));
+		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>(1L, item -> item, null, retrieveEvictionConfig(config, Configuration.Key.UNIQUE_KEY_FOR_EXECUTABLE_AND_METHOD_HANDLE));
+		registerMetrics(Configuration.Key.PATH_FOR_CONTENTS, pathForContents.getStatistics());
+		registerMetrics(Configuration.Key.PATH_FOR_FILE_SYSTEM_ITEMS, pathForFileSystemItems.getStatistics());
+		registerMetrics(Configuration.Key.PATH_FOR_ITERABLE_ZIP_CONTAINERS, pathForIterableZipContainers.getStatistics());
+		registerMetrics(Configuration.Key.CLASS_LOADER_FOR_FIELDS, classLoaderForFields.getStatistics());
+		registerMetrics(Configuration.Key.CLASS_LOADER_FOR_METHODS, classLoaderForMethods.getStatistics());
+		registerMetrics(Configuration.Key.CLASS_LOADER_FOR_CONSTRUCTORS, classLoaderForConstructors.getStatistics());
+		registerMetrics(Configuration.Key.UNIQUE_KEY_FOR_FIELDS, uniqueKeyForFields.getStatistics());
+		registerMetrics(Configuration.Key.UNIQUE_KEY_FOR_METHODS, uniqueKeyForMethods.getStatistics());
+		registerMetrics(Configuration.Key.UNIQUE_KEY_FOR_CONSTRUCTORS, uniqueKeyForConstructors.getStatistics());
+		registerMetrics(Configuration.Key.BINDED_FUNCTIONAL_INTERFACES, bindedFunctionalInterfaces.getStatistics());
+		registerMetrics(Configuration.Key.UNIQUE_KEY_FOR_EXECUTABLE_AND_METHOD_HANDLE, uniqueKeyForExecutableAndMethodHandle.getStatistics());
+	}
+
+	private void registerMetrics(String cacheName, Statistics statistics) {
+		String prefix = Configuration.Key.PREFIX + cacheName;
+		org.burningwave.core.Metrics.Gauges.register(prefix + ".hit-count", statistics::getHitCount);
+		org.burningwave.core.Metrics.Gauges.register(prefix + ".miss-count", statistics::getMissCount);
+		org.burningwave.core.Metrics.Gauges.register(prefix + ".eviction-count", statistics::getEvictionCount);
 	}
 
 	public static Cache create() {
-		return new Cache();
+		return new Cache(Collections.emptyMap());
+	}
+
+	public static Cache create(Map<?, ?> config) {
+		return new Cache(config);
+	}
+
+	private EvictionConfig retrieveEvictionConfig(Map<?, ?> config, String cacheName) {
+		String keyPrefix = Configuration.Key.PREFIX + cacheName;
+		EvictionConfig evictionConfig = EvictionConfig.create();
+		String value = resolveConfigValue(config, keyPrefix + Configuration.Key.MAX_ENTRIES_SUFFIX);
+		if (value != null) {
+			evictionConfig.setMaxEntries(Long.valueOf(value));
+		}
+		value = resolveConfigValue(config, keyPrefix + Configuration.Key.MAX_WEIGHT_SUFFIX);
+		if (value != null) {
+			evictionConfig.setMaxWeight(toWeight(value));
+		}
+		value = resolveConfigValue(config, keyPrefix + Configuration.Key.TIME_TO_IDLE_SUFFIX);
+		if (value != null) {
+			evictionConfig.setTimeToIdle(Long.valueOf(value));
+		}
+		value = resolveConfigValue(config, keyPrefix + Configuration.Key.FREQUENCY_BASED_ADMISSION_ENABLED_SUFFIX);
+		if (value != null) {
+			evictionConfig.setFrequencyBasedAdmission(Boolean.valueOf(value));
+		}
+		if (evictionConfig.isBounded()) {
+			ManagedLoggerRepository.logInfo(getClass()::getName, "{}: {}", cacheName, evictionConfig);
+			return evictionConfig;
+		}
+		return null;
+	}
+
+	private String resolveConfigValue(Map<?, ?> config, String key) {
+		Object value = IterableObjectHelper.resolveValue(
+			ResolveConfig.forNamedKey(key)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		);
+		String valueAsString;
+		return value != null && !(valueAsString = value.toString().trim()).isEmpty() ? valueAsString : null;
+	}
+
+	private long toWeight(String value) {
+		String unit = value.length() > 2 ? value.substring(value.length() - 2) : "";
+		long unitSize;
+		if (unit.equalsIgnoreCase("KB")) {
+			unitSize = 1024L;
+		} else if (unit.equalsIgnoreCase("MB")) {
+			unitSize = 1024L * 1024;
+		} else if (unit.equalsIgnoreCase("GB")) {
+			unitSize = 1024L * 1024 * 1024;
+		} else {
+			return Long.valueOf(value);
+		}
+		return new BigDecimal(value.substring(0, value.length() - 2).trim()).multiply(new BigDecimal(unitSize)).longValue();
 	}
 
 	public static class ObjectAndPathForResources<T, R> {
 		Map<T, PathForResources<R>> resources;
 		Supplier<PathForResources<R>> pathForResourcesSupplier;
+		Statistics statistics;
 		String instanceId;
 
 		public ObjectAndPathForResources() {
@@ -115,11 +268,21 @@ public class Cache {
 		}
 
 		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
+			this(partitionStartLevel, sharer, itemDestroyer, null);
+		}
+
+		//The eviction config is applied to each path partition of the objects and the statistics are shared among them
+		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer, EvictionConfig evictionConfig) {
 			this.resources = new ConcurrentHashMap<>();
-			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer);
+			this.statistics = new Statistics();
+			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer, null, evictionConfig, statistics);
 			this.instanceId = Objects.getId(this);
 		}
 
+		public Statistics getStatistics() {
+			return statistics;
+		}
+
 		public R getOrUploadIfAbsent(T object, String path, Supplier<R> resourceSupplier) {
 			PathForResources<R> pathForResources = resources.get(object);
 			if (pathForResources == null) {
@@ -215,7 +378,13 @@ public class Cache {
 		Long partitionStartLevel;
 		Function<R, R> sharer;
 		BiConsumer<String, R> itemDestroyer;
+		//Releases the items evicted or not admitted by the evictor
+		BiConsumer<String, R> evictedItemDestroyer;
+		Evictor<R> evictor;
+		Statistics statistics;
 		String instanceId;
+		String mutexIdPrefixForPartitions;
+		String mutexIdPrefixForLoadedResources;
 
 		private PathForResources() {
 			this(1L, item -> item, null);
@@ -246,11 +415,45 @@ public class Cache {
 		}
 
 		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
+			this(partitionStartLevel, sharer, itemDestroyer, null, null, new Statistics());
+		}
+
+		private PathForResources(
+			Long partitionStartLevel,
+			Function<R, R> sharer,
+			BiConsumer<String, R> itemDestroyer,
+			ToLongFunction<R> weigher,
+			EvictionConfig evictionConfig,
+			Statistics statistics
+		) {
+			this(partitionStartLevel, sharer, itemDestroyer, weigher, evictionConfig, statistics, itemDestroyer);
+		}
+
+		private PathForResources(
+			Long partitionStartLevel,
+			Function<R, R> sharer,
+			BiConsumer<String, R> itemDestroyer,
+			ToLongFunction<R> weigher,
+			EvictionConfig evictionConfig,
+			Statistics statistics,
+			BiConsumer<String, R> evictedItemDestroyer
+		) {
 			this.partitionStartLevel = partitionStartLevel;
 			this.sharer = sharer;
 			this.resources = new ConcurrentHashMap<>();
 			this.itemDestroyer = itemDestroyer;
+			this.evictedItemDestroyer = evictedItemDestroyer;
+			this.statistics = statistics;
+			if (evictionConfig != null && evictionConfig.isBounded()) {
+				this.evictor = new Evictor<>(evictionConfig, weigher != null ? weigher : item -> 1L);
+			}
 			this.instanceId = this.toString();
+			this.mutexIdPrefixForPartitions = instanceId + "_mutexManagerForPartitions_";
+			this.mutexIdPrefixForLoadedResources = instanceId + "_mutexManagerForLoadedResources_";
+		}
+
+		public Statistics getStatistics() {
+			return statistics;
 		}
 
 		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, Long partitionIndex, String path) {
@@ -262,7 +465,7 @@ public class Cache {
 			Map<String, R> innerPartion = partion.get(partitionKey);
 			if (innerPartion == null) {
 				String finalPartitionKey = partitionKey;
-				innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
+				innerPartion = Synchronizer.executeOnStripe(mutexIdPrefixForPartitions, finalPartitionKey, () -> {
 					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
 					if (innerPartionTemp == null) {
 						partion.put(finalPartitionKey, innerPartionTemp = new ConcurrentHashMap<>());
@@ -274,18 +477,50 @@ public class Cache {
 		}
 
 		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
+			Evictor<R> evictor = this.evictor;
 			R resource = loadedResources.get(path);
+			if (resource != null && evictor != null && !evictor.recordAccess(path)) {
+				if (evictor.remove(path, resource)) {
+					destroyEvicted(Collections.singletonList(new AbstractMap.SimpleEntry<>(path, resource)));
+				}
+				resource = null;
+			}
 			if (resource == null) {
-				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+				//The lookups without a supplier do not load anything and are not counted as misses
+				if (resourceSupplier != null) {
+					statistics.missCount.increment();
+				}
+				Collection<Map.Entry<String, R>> evictedItems = evictor != null ? new ArrayList<>() : null;
+				Collection<R> rejectedItems = evictor != null && evictedItemDestroyer != null ? new ArrayList<>(1) : null;
+				resource = Synchronizer.execute(mutexIdPrefixForLoadedResources, path, () -> {
 					R resourceTemp = loadedResources.get(path);
 					if ((resourceTemp == null) && (resourceSupplier != null)) {
+						Metrics.Sample sample = Metrics.startSample("cache.resource-loading");
 						resourceTemp = resourceSupplier.get();
+						sample.stop(path);
 						if (resourceTemp != null) {
-							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+							resourceTemp = sharer.apply(resourceTemp);
+							if (evictor == null) {
+								loadedResources.put(path, resourceTemp);
+							} else if (!evictor.admit(loadedResources, path, resourceTemp, false, evictedItems) && rejectedItems != null) {
+								//The items not admitted are released like the evicted ones, so they can't be returned
+								rejectedItems.add(resourceTemp);
+								resourceTemp = null;
+							}
 						}
 					}
 					return resourceTemp;
 				});
+				if (evictedItems != null) {
+					destroyEvicted(evictedItems);
+				}
+				if (rejectedItems != null) {
+					for (R rejectedItem : rejectedItems) {
+						evictedItemDestroyer.accept(path, rejectedItem);
+					}
+				}
+			} else {
+				statistics.hitCount.increment();
 			}
 			return resource != null?
 				sharer.apply(resource) :
@@ -294,15 +529,39 @@ public class Cache {
 
 		public R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
 			R oldResource = remove(path, destroy);
-			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+			Evictor<R> evictor = this.evictor;
+			Collection<Map.Entry<String, R>> evictedItems = evictor != null ? new ArrayList<>() : null;
+			Synchronizer.execute(mutexIdPrefixForLoadedResources, path, () -> {
 				R resourceTemp = resourceSupplier.get();
 				if (resourceTemp != null) {
-					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+					resourceTemp = sharer.apply(resourceTemp);
+					if (evictor == null) {
+						loadedResources.put(path, resourceTemp);
+					} else {
+						evictor.admit(loadedResources, path, resourceTemp, true, evictedItems);
+					}
 				}
 			});
+			if (evictedItems != null) {
+				destroyEvicted(evictedItems);
+			}
 			return oldResource;
 		}
 
+		//Evicted items are removed only if they are still mapped to the same instance and are destroyed outside of
+		//the mutex of the path that caused the eviction to avoid lock ordering issues
+		private void destroyEvicted(Collection<Map.Entry<String, R>> evictedItems) {
+			for (Map.Entry<String, R> evictedItem : evictedItems) {
+				String evictedPath = evictedItem.getKey();
+				if (getNestedPartition(evictedPath).remove(evictedPath, evictedItem.getValue())) {
+					statistics.evictionCount.increment();
+					if (evictedItemDestroyer != null) {
+						evictedItemDestroyer.accept(evictedPath, evictedItem.getValue());
+					}
+				}
+			}
+		}
+
 		Map<String, Map<String, R>> retrievePartition(Map<Long, Map<String, Map<String, R>>> partitionedResources, Long partitionIndex) {
 			Map<String, Map<String, R>> resources = partitionedResources.get(partitionIndex);
 			if (resources == null) {
@@ -339,8 +598,12 @@ public class Cache {
 
 		public R remove(String path, boolean destroy) {
 			Map<String, R> nestedPartition = getNestedPartition(path);
-			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				return nestedPartition.remove(path);
+			R item = Synchronizer.execute(mutexIdPrefixForLoadedResources, path, () -> {
+				R removedItem = nestedPartition.remove(path);
+				if (removedItem != null && evictor != null) {
+					evictor.remove(path, removedItem);
+				}
+				return removedItem;
 			});
 			if ((itemDestroyer != null) && destroy && (item != null)) {
 				String finalPath = path;
@@ -368,6 +631,9 @@ public class Cache {
 			synchronized (this.resources) {
 				partitions = this.resources;
 				this.resources = new ConcurrentHashMap<>();
+				if (evictor != null) {
+					evictor.clear();
+				}
 			}
 			return BackgroundExecutor.createTask(task -> {
 				clearResources(partitions, destroyItems);
@@ -443,6 +709,337 @@ public class Cache {
 	}
 
 
+	public static class EvictionConfig {
+		private long maxEntries;
+		private long maxWeight;
+		private long timeToIdle;
+		private boolean frequencyBasedAdmission;
+
+		private EvictionConfig() {
+			maxEntries = -1;
+			maxWeight = -1;
+			timeToIdle = -1;
+		}
+
+		public static EvictionConfig create() {
+			return new EvictionConfig();
+		}
+
+		public long getMaxEntries() {
+			return maxEntries;
+		}
+
+		public EvictionConfig setMaxEntries(long maxEntries) {
+			this.maxEntries = maxEntries;
+			return this;
+		}
+
+		public long getMaxWeight() {
+			return maxWeight;
+		}
+
+		public EvictionConfig setMaxWeight(long maxWeight) {
+			this.maxWeight = maxWeight;
+			return this;
+		}
+
+		public long getTimeToIdle() {
+			return timeToIdle;
+		}
+
+		public EvictionConfig setTimeToIdle(long timeToIdle) {
+			this.timeToIdle = timeToIdle;
+			return this;
+		}
+
+		public boolean isFrequencyBasedAdmissionEnabled() {
+			return frequencyBasedAdmission;
+		}
+
+		public EvictionConfig setFrequencyBasedAdmission(boolean flag) {
+			this.frequencyBasedAdmission = flag;
+			return this;
+		}
+
+		public boolean isBounded() {
+			return maxEntries > 0 || maxWeight > 0 || timeToIdle > 0;
+		}
+
+		@Override
+		public String toString() {
+			return "max entries: " + maxEntries + ", max weight: " + maxWeight + ", time to idle: " + timeToIdle +
+				", frequency based admission: " + frequencyBasedAdmission;
+		}
+	}
+
+	public static class Statistics {
+		final LongAdder hitCount;
+		final LongAdder missCount;
+		final LongAdder evictionCount;
+
+		Statistics() {
+			hitCount = new LongAdder();
+			missCount = new LongAdder();
+			evictionCount = new LongAdder();
+		}
+
+		public long getHitCount() {
+			return hitCount.sum();
+		}
+
+		public long getMissCount() {
+			return missCount.sum();
+		}
+
+		public long getEvictionCount() {
+			return evictionCount.sum();
+		}
+
+		public double getHitRate() {
+			long hitCount = getHitCount();
+			long requestCount = hitCount + getMissCount();
+			return requestCount > 0 ? (double)hitCount / requestCount : 1.0d;
+		}
+
+		public void reset() {
+			hitCount.reset();
+			missCount.reset();
+			evictionCount.reset();
+		}
+
+		@Override
+		public String toString() {
+			return "hits: " + getHitCount() + ", misses: " + getMissCount() + ", evictions: " + getEvictionCount();
+		}
+	}
+
+	//Keeps the items in access order (LRU) and, when enabled, uses a frequency sketch (TinyLFU) to decide if a new
+	//item must replace the items that would be evicted. The access order is updated only if the lock is free, so
+	//under contention some reorderings are lost in exchange of lock free reads
+	static class Evictor<R> {
+		private final EvictionConfig config;
+		private final ToLongFunction<R> weigher;
+		private final Map<String, Node<R>> nodes;
+		private final LinkedHashMap<String, Node<R>> accessOrder;
+		private final FrequencySketch frequencySketch;
+		private final ReentrantLock lock;
+		private long totalWeight;
+
+		Evictor(EvictionConfig config, ToLongFunction<R> weigher) {
+			this.config = config;
+			this.weigher = weigher;
+			this.nodes = new ConcurrentHashMap<>();
+			this.accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+			this.frequencySketch = config.isFrequencyBasedAdmissionEnabled() ?
+				new FrequencySketch(config.getMaxEntries() > 0 ? config.getMaxEntries() : 4096) :
+				null;
+			this.lock = new ReentrantLock();
+		}
+
+		//Returns false if the item is expired
+		boolean recordAccess(String path) {
+			if (frequencySketch != null) {
+				frequencySketch.increment(path);
+			}
+			Node<R> node = nodes.get(path);
+			if (node == null) {
+				return true;
+			}
+			long now = System.currentTimeMillis();
+			if (isExpired(node, now)) {
+				return false;
+			}
+			node.lastAccessTime = now;
+			if (lock.tryLock()) {
+				try {
+					accessOrder.get(path);
+				} finally {
+					lock.unlock();
+				}
+			}
+			return true;
+		}
+
+		//The item is put in the loaded resources while holding the lock: an eviction that selects its node can so
+		//only happen after the put and always finds the item to be removed
+		boolean admit(Map<String, R> loadedResources, String path, R item, boolean force, Collection<Map.Entry<String, R>> evictedItems) {
+			long weight = weigher.applyAsLong(item);
+			long now = System.currentTimeMillis();
+			if (frequencySketch != null) {
+				frequencySketch.increment(path);
+			}
+			lock.lock();
+			try {
+				Iterator<Node<R>> nodesIterator = accessOrder.values().iterator();
+				while (nodesIterator.hasNext()) {
+					Node<R> node = nodesIterator.next();
+					if (!isExpired(node, now)) {
+						break;
+					}
+					nodesIterator.remove();
+					evict(node, evictedItems);
+				}
+				if (!force && config.getMaxWeight() > 0 && weight > config.getMaxWeight()) {
+					return false;
+				}
+				Node<R> oldNode = accessOrder.remove(path);
+				if (oldNode != null) {
+					nodes.remove(path);
+					totalWeight -= oldNode.weight;
+				}
+				Collection<Node<R>> victims = new ArrayList<>();
+				long entriesCount = accessOrder.size() + 1;
+				long weightAfterInsertion = totalWeight + weight;
+				nodesIterator = accessOrder.values().iterator();
+				int maxVictimFrequency = 0;
+				while (nodesIterator.hasNext() && isOverCapacity(entriesCount, weightAfterInsertion)) {
+					Node<R> victim = nodesIterator.next();
+					victims.add(victim);
+					entriesCount--;
+					weightAfterInsertion -= victim.weight;
+					if (frequencySketch != null) {
+						maxVictimFrequency = Math.max(maxVictimFrequency, frequencySketch.frequency(victim.path));
+					}
+				}
+				if (!force && frequencySketch != null && frequencySketch.frequency(path) < maxVictimFrequency) {
+					return false;
+				}
+				for (Node<R> victim : victims) {
+					accessOrder.remove(victim.path);
+					evict(victim, evictedItems);
+				}
+				loadedResources.put(path, item);
+				Node<R> node = new Node<>(path, item, weight, now);
+				accessOrder.put(path, node);
+				nodes.put(path, node);
+				totalWeight += weight;
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		boolean remove(String path, R item) {
+			lock.lock();
+			try {
+				Node<R> node = accessOrder.get(path);
+				if (node != null && node.item == item) {
+					accessOrder.remove(path);
+					nodes.remove(path);
+					totalWeight -= node.weight;
+					return true;
+				}
+				return false;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void clear() {
+			lock.lock();
+			try {
+				accessOrder.clear();
+				nodes.clear();
+				totalWeight = 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void evict(Node<R> node, Collection<Map.Entry<String, R>> evictedItems) {
+			nodes.remove(node.path);
+			totalWeight -= node.weight;
+			evictedItems.add(new AbstractMap.SimpleEntry<>(node.path, node.item));
+		}
+
+		private boolean isOverCapacity(long entriesCount, long weight) {
+			return (config.getMaxEntries() > 0 && entriesCount > config.getMaxEntries()) ||
+				(config.getMaxWeight() > 0 && weight > config.getMaxWeight());
+		}
+
+		private boolean isExpired(Node<R> node, long now) {
+			return config.getTimeToIdle() > 0 && now - node.lastAccessTime > config.getTimeToIdle();
+		}
+
+		private static class Node<R> {
+			private final String path;
+			private final R item;
+			private final long weight;
+			private volatile long lastAccessTime;
+
+			private Node(String path, R item, long weight, long lastAccessTime) {
+				this.path = path;
+				this.item = item;
+				this.weight = weight;
+				this.lastAccessTime = lastAccessTime;
+			}
+		}
+	}
+
+	//Count-min sketch with four rows of 4 bit saturating counters that are halved periodically so that the old
+	//accesses lose weight. The counters are updated without synchronization: a lost increment only makes the
+	//estimate slightly less accurate
+	static class FrequencySketch {
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additionsCount;
+
+		FrequencySketch(long expectedEntries) {
+			int tableSize = Integer.highestOneBit((int)Math.min(Math.max(expectedEntries, 64), 1 << 24) - 1) << 1;
+			table = new long[tableSize];
+			tableMask = tableSize - 1;
+			sampleSize = 10 * tableSize;
+		}
+
+		int frequency(String item) {
+			int hash = spread(item.hashCode());
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				frequency = Math.min(frequency, (int)((table[indexOf(hash, i)] >>> counterOffset(hash, i)) & 0xFL));
+			}
+			return frequency;
+		}
+
+		void increment(String item) {
+			int hash = spread(item.hashCode());
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				int offset = counterOffset(hash, i);
+				if (((table[index] >>> offset) & 0xFL) != 0xFL) {
+					table[index] += 1L << offset;
+					added = true;
+				}
+			}
+			if (added && ++additionsCount >= sampleSize) {
+				reset();
+			}
+		}
+
+		private void reset() {
+			for (int i = 0; i < table.length; i++) {
+				table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+			}
+			additionsCount /= 2;
+		}
+
+		private int indexOf(int hash, int row) {
+			long rowHash = (hash + (row + 1) * 0x9E3779B97F4A7C15L) * 0x9E3779B97F4A7C15L;
+			return (int)(rowHash >>> 32) & tableMask;
+		}
+
+		private int counterOffset(int hash, int row) {
+			//Each long holds 16 counters: each row uses its own group of 4
+			return ((row << 2) + ((hash >>> (row << 3)) & 3)) << 2;
+		}
+
+		private int spread(int hash) {
+			hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+			return (hash >>> 16) ^ hash;
+		}
+	}
+
 	public void clear(boolean destroyItems, Object... excluded) {
 		Set<Object> toBeExcluded = (excluded != null) && (excluded.length > 0) ?
 			new HashSet<>(Arrays.asList(excluded)) :
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+
+public class InMemoryMetrics implements Metrics {
+	private final Map<String, LongAdder> counters;
+	private final Map<String, Distribution> distributions;
+	private final Map<String, LongSupplier> gauges;
+
+	public InMemoryMetrics(Map<?, ?> config) {
+		counters = new ConcurrentHashMap<>();
+		distributions = new ConcurrentHashMap<>();
+		gauges = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void incrementCounter(String name, long delta) {
+		//The get before the computeIfAbsent avoids the locking of the bin on JDK 8 when the counter exists
+		LongAdder counter = counters.get(name);
+		if (counter == null) {
+			counter = counters.computeIfAbsent(name, key -> new LongAdder());
+		}
+		counter.add(delta);
+	}
+
+	@Override
+	public void recordValue(String name, long value) {
+		Distribution distribution = distributions.get(name);
+		if (distribution == null) {
+			distribution = distributions.computeIfAbsent(name, key -> new Distribution());
+		}
+		distribution.record(value);
+	}
+
+	@Override
+	public void registerGauge(String name, LongSupplier valueSupplier) {
+		gauges.put(name, valueSupplier);
+	}
+
+	public long getCounter(String name) {
+		LongAdder counter = counters.get(name);
+		return counter != null ? counter.sum() : 0L;
+	}
+
+	public Distribution getDistribution(String name) {
+		return distributions.get(name);
+	}
+
+	public Long getGauge(String name) {
+		LongSupplier gauge = gauges.get(name);
+		return gauge != null ? gauge.getAsLong() : null;
+	}
+
+	//Returns the current values of all the metrics ordered by name: the counters and the gauges are mapped to a Long
+	//and the recorded values to a Distribution
+	public Map<String, Object> getSnapshot() {
+		Map<String, Object> snapshot = new TreeMap<>();
+		counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+		gauges.forEach((name, gauge) -> snapshot.put(name, gauge.getAsLong()));
+		snapshot.putAll(distributions);
+		return snapshot;
+	}
+
+	public void reset() {
+		counters.clear();
+		distributions.clear();
+	}
+
+	@Override
+	public void close() {
+		counters.clear();
+		distributions.clear();
+		gauges.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder();
+		getSnapshot().forEach((name, value) ->
+			description.append(name).append(": ").append(value).append("\n")
+		);
+		return description.toString();
+	}
+
+	public static class Distribution {
+		private final LongAdder count;
+		private final LongAdder total;
+		private final LongAccumulator max;
+
+		Distribution() {
+			count = new LongAdder();
+			total = new LongAdder();
+			max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+		}
+
+		void record(long value) {
+			count.increment();
+			total.add(value);
+			max.accumulate(value);
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotal() {
+			return total.sum();
+		}
+
+		public long getMax() {
+			return getCount() > 0 ? max.get() : 0L;
+		}
+
+		public double getMean() {
+			long count = getCount();
+			return count > 0 ? (double)getTotal() / count : 0d;
+		}
+
+		@Override
+		public String toString() {
+			return "count: " + getCount() + ", total: " + getTotal() + ", max: " + getMax() + ", mean: " + getMean();
+		}
+	}
+
+}
@@ -109,6 +109,8 @@ public interface ManagedLogger {
 
 				public static final String TYPE = "managed-logger.repository";
 				public static final String ENABLED_FLAG = "managed-logger.repository.enabled";
+				public static final String ASYNC_WRITING_ENABLED = "managed-logger.repository.async-writing.enabled";
+				public static final String ASYNC_WRITING_BUFFER_SIZE = "managed-logger.repository.async-writing.buffer-size";
 
 				private static final String LOGGING_LEVEL_FLAG_PREFIX = "managed-logger.repository.logging";
 				private static final String LOGGING_LEVEL_DISABLED_FLAG_SUFFIX = "disabled-for";
@@ -128,6 +130,8 @@ public interface ManagedLogger {
 
 				defaultValues.put(Key.TYPE, "autodetect");
 				defaultValues.put(Key.ENABLED_FLAG, String.valueOf(true));
+				defaultValues.put(Key.ASYNC_WRITING_ENABLED, String.valueOf(false));
+				defaultValues.put(Key.ASYNC_WRITING_BUFFER_SIZE, String.valueOf(8192));
 
 				String defaultValuesSeparator = (String)org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES.get(
 					org.burningwave.core.iterable.IterableObjectHelper.Configuration.Key.DEFAULT_VALUES_SEPERATOR
@@ -0,0 +1,177 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
+import org.burningwave.core.jvm.FlightRecorderEvents;
+
+
+public interface Metrics extends Closeable {
+
+	public static abstract class Configuration {
+
+		public static abstract class Key {
+
+			public static final String TYPE = "metrics.registry";
+
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+
+			defaultValues.put(Key.TYPE, "none");
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+
+	public static Metrics create(Map<?, ?> config) {
+		try {
+			String className = IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.TYPE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			).trim();
+			Metrics metrics;
+			if ("none".equalsIgnoreCase(className)) {
+				metrics = new NoOp();
+			} else if ("in-memory".equalsIgnoreCase(className)) {
+				metrics = new InMemoryMetrics(config);
+			} else {
+				metrics = (Metrics)Driver.getClassByName(className, false,
+					Metrics.class.getClassLoader(),
+					Metrics.class
+				).getConstructor(Map.class).newInstance(config);
+			}
+			Gauges.registerAllOn(metrics);
+			return metrics;
+		} catch (Throwable exc) {
+			return Driver.throwException(exc);
+		}
+	}
+
+	public boolean isEnabled();
+
+	public void incrementCounter(String name, long delta);
+
+	public void recordValue(String name, long value);
+
+	public void registerGauge(String name, LongSupplier valueSupplier);
+
+	public default void incrementCounter(String name) {
+		incrementCounter(name, 1);
+	}
+
+	//When the sample is stopped the elapsed nanoseconds are recorded as a value of the metric and, if the event is
+	//enabled in a running recording, an event is emitted to the Flight Recorder
+	public default Sample startSample(String name) {
+		boolean isEnabled = isEnabled();
+		Object event = FlightRecorderEvents.begin();
+		if (!isEnabled && event == null) {
+			return Sample.DISABLED;
+		}
+		return new Sample(isEnabled ? this : null, name, event);
+	}
+
+	//The gauges of the components are kept apart from the registries: each registry created through the create method
+	//pulls all of them, so they are still reported after the registry of the StaticComponentContainer is replaced
+	public static abstract class Gauges {
+		private static final Map<String, LongSupplier> ALL = new ConcurrentHashMap<>();
+
+		public static void register(String name, LongSupplier valueSupplier) {
+			ALL.put(name, valueSupplier);
+			org.burningwave.core.assembler.StaticComponentContainer.Metrics.registerGauge(name, valueSupplier);
+		}
+
+		static void registerAllOn(Metrics metrics) {
+			ALL.forEach(metrics::registerGauge);
+		}
+
+	}
+
+	public static class Sample {
+		static final Sample DISABLED = new Sample(null, null, null);
+
+		private final Metrics metrics;
+		private final String name;
+		private final Object event;
+		private final long startTime;
+
+		private Sample(Metrics metrics, String name, Object event) {
+			this.metrics = metrics;
+			this.name = name;
+			this.event = event;
+			this.startTime = metrics != null ? System.nanoTime() : 0L;
+		}
+
+		public void stop() {
+			stop(null);
+		}
+
+		public void stop(String target) {
+			if (metrics != null) {
+				metrics.recordValue(name, System.nanoTime() - startTime);
+			}
+			if (event != null) {
+				FlightRecorderEvents.commit(event, name, target);
+			}
+		}
+
+	}
+
+	public static class NoOp implements Metrics {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void incrementCounter(String name, long delta) {}
+
+		@Override
+		public void recordValue(String name, long value) {}
+
+		@Override
+		public void registerGauge(String name, LongSupplier valueSupplier) {}
+
+	}
+
+}
@@ -33,7 +33,6 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -106,16 +105,34 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 		if (!isEnabled) {
 			return;
 		}
+		//The levels are checked before capturing the stack trace and before formatting the message
+		org.slf4j.Logger logger = getLogger(clientNameSupplier.get(), loggingLevel);
+		if (logger == null) {
+			return;
+		}
 		StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
 		StackTraceElement stackTraceElement = stackTraceElements[3].getClassName().equals(ManagedLogger.class.getName()) ?
 			stackTraceElements[4] : stackTraceElements[3];
-		String clientName = clientNameSupplier.get();
-		Optional.ofNullable(getLogger(clientName, loggingLevel)).ifPresent(logger -> loggerConsumer.accept(logger, stackTraceElement));
+		loggerConsumer.accept(logger, stackTraceElement);
 	}
 
 	private org.slf4j.Logger getLogger(String clientName, LoggingLevel loggingLevel) {
 		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = getLoggerEntry(clientName);
-		return loggerEntry.getValue().partialyMatch(loggingLevel)? loggerEntry.getKey() : null;
+		return loggerEntry.getValue().partialyMatch(loggingLevel) && isEnabledFor(loggerEntry.getKey(), loggingLevel) ?
+			loggerEntry.getKey() : null;
+	}
+
+	private boolean isEnabledFor(org.slf4j.Logger logger, LoggingLevel loggingLevel) {
+		if (loggingLevel == LoggingLevel.TRACE) {
+			return logger.isTraceEnabled();
+		} else if (loggingLevel == LoggingLevel.DEBUG) {
+			return logger.isDebugEnabled();
+		} else if (loggingLevel == LoggingLevel.INFO) {
+			return logger.isInfoEnabled();
+		} else if (loggingLevel == LoggingLevel.WARN) {
+			return logger.isWarnEnabled();
+		}
+		return logger.isErrorEnabled();
 	}
 
 	@Override
@@ -28,31 +28,63 @@
  */
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 
 import java.io.PrintStream;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.burningwave.core.ManagedLogger.Repository;
+import org.burningwave.core.function.Executor;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 public class SimpleManagedLoggerRepository extends Repository.Abst {
 	private Map<String, LoggingLevel.Mutable> loggers;
-	private SimpleDateFormat dateFormat;
+	private DateTimeFormatter dateFormatter;
+	private AsyncWriter asyncWriter;
 
 	public SimpleManagedLoggerRepository(Map<?, ?> properties) {
 		super(properties);
-		dateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss.SSS");
 	}
 
 
 	@Override
 	void initSpecificElements(Map<?, ?> properties) {
 		loggers = new HashMap<>();
+		//Unlike SimpleDateFormat this formatter is thread safe and can be shared among the writing threads
+		dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss.SSS");
+		if (org.burningwave.core.assembler.StaticComponentContainer.Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.ASYNC_WRITING_ENABLED)
+				.on(properties)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		)) {
+			asyncWriter = new AsyncWriter(
+				org.burningwave.core.assembler.StaticComponentContainer.Objects.toInt(
+					IterableObjectHelper.resolveValue(
+						ResolveConfig.forNamedKey(Configuration.Key.ASYNC_WRITING_BUFFER_SIZE)
+						.on(properties)
+						.withDefaultValues(Configuration.DEFAULT_VALUES)
+					)
+				)
+			);
+		}
 	}
 
 	@Override
@@ -109,22 +141,54 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 		loggers.put(client, new LoggingLevel.Mutable(level.flags));
 	}
 
-	private void log(Supplier<String> clientNameSupplier, LoggingLevel level, PrintStream printStream, String text, Throwable exception) {
+	private void log(Supplier<String> clientNameSupplier, LoggingLevel level, PrintStream printStream, String message, Object[] arguments, Throwable exception) {
 		if (!isEnabled) {
 			return;
 		}
+		//The level is checked before capturing the stack trace and before formatting the message
+		String clientName = clientNameSupplier.get();
+		if (!getLoggerEnabledFlag(clientName).partialyMatch(level)) {
+			return;
+		}
 		StackTraceElement[] stackTraceElements = Thread.currentThread().getStackTrace();
 		StackTraceElement stackTraceElement = stackTraceElements[3].getClassName().equals(ManagedLogger.class.getName()) ?
 			stackTraceElements[4] : stackTraceElements[3];
-		String clientName = clientNameSupplier.get();
-		if (getLoggerEnabledFlag(clientName).partialyMatch(level)) {
-			if (exception == null) {
-				printStream.println(dateFormat.format(new Date()) + " [" + Thread.currentThread().getName() + "] - " + clientName + " - " + addDetailsToMessage(text, stackTraceElement));
-			} else {
-				printStream.println(dateFormat.format(new Date()) + " [" + Thread.currentThread().getName() + "] - " + clientName + " - " + addDetailsToMessage(text, stackTraceElement));
-				exception.printStackTrace(printStream);
+		Entry entry = new Entry(
+			System.currentTimeMillis(),
+			Thread.currentThread().getName(),
+			clientName,
+			addDetailsToMessage(arguments != null ? Strings.compile(message, arguments) : message, stackTraceElement),
+			printStream,
+			exception
+		);
+		AsyncWriter asyncWriter = this.asyncWriter;
+		//If the buffer is full the entry is written by the calling thread
+		if (asyncWriter == null || !asyncWriter.offer(entry)) {
+			write(Collections.singletonList(entry));
+		}
+	}
+
+	private void write(Collection<Entry> entries) {
+		StringBuilder text = new StringBuilder();
+		PrintStream printStream = null;
+		for (Entry entry : entries) {
+			if (printStream != entry.printStream && text.length() > 0) {
+				printStream.print(text);
+				text.setLength(0);
+			}
+			printStream = entry.printStream;
+			text.append(
+				dateFormatter.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.time), ZoneId.systemDefault()))
+			).append(" [").append(entry.threadName).append("] - ").append(entry.clientName).append(" - ").append(entry.text).append(System.lineSeparator());
+			if (entry.exception != null) {
+				printStream.print(text);
+				text.setLength(0);
+				entry.exception.printStackTrace(printStream);
 			}
 		}
+		if (text.length() > 0) {
+			printStream.print(text);
+		}
 	}
 
 	@Override
@@ -138,73 +202,146 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 
 	@Override
 	public void logError(Supplier<String> clientNameSupplier, Throwable exc) {
-		log(clientNameSupplier, LoggingLevel.ERROR, System.err, "Exception occurred", exc);
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, "Exception occurred", null, exc);
 	}
 
 	@Override
 	public void logError(Supplier<String> clientNameSupplier, String message, Throwable exc, Object... arguments) {
-		log(clientNameSupplier, LoggingLevel.ERROR, System.err, Strings.compile(message, arguments), exc);
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, arguments, exc);
 	}
 
 	@Override
 	public void logError(Supplier<String> clientNameSupplier, String message, Throwable exc) {
-		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, exc);
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, null, exc);
 	}
 
 	@Override
 	public void logError(Supplier<String> clientNameSupplier, String message, Object... arguments) {
-		log(clientNameSupplier, LoggingLevel.ERROR, System.err, Strings.compile(message, arguments), null);
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, arguments, null);
 	}
 
 	@Override
 	public void logError(Supplier<String> clientNameSupplier, String message) {
-		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, null);
+		log(clientNameSupplier, LoggingLevel.ERROR, System.err, message, null, null);
 	}
 
 	@Override
 	public void logDebug(Supplier<String> clientNameSupplier, String message) {
-		log(clientNameSupplier, LoggingLevel.DEBUG, System.out, message, null);
+		log(clientNameSupplier, LoggingLevel.DEBUG, System.out, message, null, null);
 	}
 
 	@Override
 	public void logDebug(Supplier<String> clientNameSupplier, String message, Object... arguments) {
-		log(clientNameSupplier, LoggingLevel.DEBUG, System.out, Strings.compile(message, arguments), null);
+		log(clientNameSupplier, LoggingLevel.DEBUG, System.out, message, arguments, null);
 	}
 
 	@Override
 	public void logInfo(Supplier<String> clientNameSupplier, String message) {
-		log(clientNameSupplier, LoggingLevel.INFO, System.out, message, null);
+		log(clientNameSupplier, LoggingLevel.INFO, System.out, message, null, null);
 	}
 
 	@Override
 	public void logInfo(Supplier<String> clientNameSupplier, String message, Object... arguments) {
-		log(clientNameSupplier, LoggingLevel.INFO, System.out, Strings.compile(message, arguments), null);
+		log(clientNameSupplier, LoggingLevel.INFO, System.out, message, arguments, null);
 	}
 
 	@Override
 	public void logWarn(Supplier<String> clientNameSupplier, String message) {
-		log(clientNameSupplier, LoggingLevel.WARN, System.out, message, null);
+		log(clientNameSupplier, LoggingLevel.WARN, System.out, message, null, null);
 	}
 
 	@Override
 	public void logWarn(Supplier<String> clientNameSupplier, String message, Object... arguments) {
-		log(clientNameSupplier, LoggingLevel.WARN, System.out, Strings.compile(message, arguments), null);
+		log(clientNameSupplier, LoggingLevel.WARN, System.out, message, arguments, null);
 	}
 
 	@Override
 	public void logTrace(Supplier<String> clientNameSupplier, String message) {
-		log(clientNameSupplier, LoggingLevel.TRACE, System.out, message, null);
+		log(clientNameSupplier, LoggingLevel.TRACE, System.out, message, null, null);
 	}
 
 	@Override
 	public void logTrace(Supplier<String> clientNameSupplier, String message, Object... arguments) {
-		log(clientNameSupplier, LoggingLevel.TRACE, System.out, Strings.compile(message, arguments), null);
+		log(clientNameSupplier, LoggingLevel.TRACE, System.out, message, arguments, null);
 	}
 
 	@Override
 	public void close() {
+		AsyncWriter asyncWriter = this.asyncWriter;
+		if (asyncWriter != null) {
+			this.asyncWriter = null;
+			asyncWriter.close();
+		}
 		this.loggers.clear();
 		super.close();
 	}
 
+	private static class Entry {
+		private final long time;
+		private final String threadName;
+		private final String clientName;
+		private final String text;
+		private final PrintStream printStream;
+		private final Throwable exception;
+
+		private Entry(long time, String threadName, String clientName, String text, PrintStream printStream, Throwable exception) {
+			this.time = time;
+			this.threadName = threadName;
+			this.clientName = clientName;
+			this.text = text;
+			this.printStream = printStream;
+			this.exception = exception;
+		}
+	}
+
+	//Collects the entries in a bounded buffer and writes them in batch through a dedicated thread
+	private class AsyncWriter {
+		private BlockingQueue<Entry> entries;
+		private String threadName;
+		private Thread flusherOnShutdown;
+
+		private AsyncWriter(int bufferSize) {
+			entries = new ArrayBlockingQueue<>(bufferSize);
+			threadName = instanceId + " - async writer";
+			ThreadHolder.startLooping(threadName, true, Thread.NORM_PRIORITY, thread -> {
+				Entry entry;
+				try {
+					entry = entries.poll(1000, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException exc) {
+					return;
+				}
+				if (entry != null) {
+					List<Entry> batch = new ArrayList<>();
+					batch.add(entry);
+					entries.drainTo(batch);
+					write(batch);
+				}
+			});
+			//The writing thread is a daemon so the pending entries are written before the JVM exits and the
+			//subsequent ones are written by the calling threads
+			Runtime.getRuntime().addShutdownHook(flusherOnShutdown = new Thread(() -> {
+				SimpleManagedLoggerRepository.this.asyncWriter = null;
+				flush();
+			}));
+		}
+
+		private boolean offer(Entry entry) {
+			return entries.offer(entry);
+		}
+
+		private void flush() {
+			List<Entry> batch = new ArrayList<>();
+			entries.drainTo(batch);
+			if (!batch.isEmpty()) {
+				write(batch);
+			}
+		}
+
+		private void close() {
+			ThreadHolder.stop(threadName);
+			Executor.runAndIgnoreExceptions(() -> Runtime.getRuntime().removeShutdownHook(flusherOnShutdown));
+			flush();
+		}
+	}
+
 }
@@ -222,6 +222,7 @@ public class StaticComponentContainer {
 	public static final org.burningwave.core.ManagedLogger.Repository ManagedLoggerRepository;
 	public static final org.burningwave.core.classes.Members Members;
 	public static final org.burningwave.core.classes.Methods Methods;
+	public static final org.burningwave.core.Metrics Metrics;
 	public static final org.burningwave.core.classes.Modules Modules; // null on JDK 8
 	public static final org.burningwave.core.Objects Objects;
 	public static final org.burningwave.core.Strings.Paths Paths;
@@ -245,9 +246,13 @@ public class StaticComponentContainer {
 			Resources = new org.burningwave.core.io.Resources();
 			Properties properties = new Properties();
 			properties.putAll(org.burningwave.core.jvm.BufferHandler.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.Cache.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.ManagedLogger.Repository.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.Metrics.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.concurrent.Thread.Supplier.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.concurrent.Synchronizer.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.io.FileSystemItem.Configuration.DEFAULT_VALUES);
 			properties.putAll(Configuration.Default.VALUES);
 			Configuration.Default.FILE_NAME = Collections.unmodifiableMap(Configuration.Default.FILE_NAME);
 			String configFileName = Configuration.Default.FILE_NAME.get("file-name");
@@ -283,6 +288,10 @@ public class StaticComponentContainer {
 								ManagedLogger.Repository toBeReplaced = ManagedLoggerRepository;
 								Fields.setStaticDirect(StaticComponentContainer.class, "ManagedLoggerRepository", ManagedLogger.Repository.create(config));
 								toBeReplaced.close();
+							} else if (keyAsString.equals(org.burningwave.core.Metrics.Configuration.Key.TYPE)) {
+								org.burningwave.core.Metrics toBeReplaced = Metrics;
+								Fields.setStaticDirect(StaticComponentContainer.class, "Metrics", org.burningwave.core.Metrics.create(config));
+								toBeReplaced.close();
 							} else if (keyAsString.startsWith(Configuration.Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED.substring(0, Configuration.Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED.lastIndexOf(".")))) {
 								if (keyAsString.equals(Configuration.Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED)) {
 									if (!Objects.toBoolean(config.resolveValue(Configuration.Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED))) {
@@ -341,6 +350,7 @@ public class StaticComponentContainer {
 			} else {
 				Driver = io.github.toolfactory.jvm.Driver.Factory.getNewDynamic();
 			}
+			Metrics = org.burningwave.core.Metrics.create(GlobalProperties);
 			ThreadSupplier = org.burningwave.core.concurrent.Thread.Supplier.create(
 				getName("ThreadSupplier"),
 				GlobalProperties,
@@ -353,6 +363,7 @@ public class StaticComponentContainer {
 			);
 			Synchronizer = org.burningwave.core.concurrent.Synchronizer.create(
 				Optional.ofNullable(IterableObjectHelper.resolveStringValue(onGlobalPropertiesforNamedKey(Configuration.Key.GROUP_NAME_FOR_NAMED_ELEMENTS))).map(nm -> nm + " - ").orElseGet(() -> "") + "Synchronizer",
+				GlobalProperties,
 				true
 			);
 			if (Objects.toBoolean(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED)))) {
@@ -374,7 +385,7 @@ public class StaticComponentContainer {
 			BufferHandler = org.burningwave.core.jvm.BufferHandler.create(GlobalProperties);
 			Streams = org.burningwave.core.io.Streams.create();
 			Classes = org.burningwave.core.classes.Classes.create();
-			Cache = org.burningwave.core.Cache.create();
+			Cache = org.burningwave.core.Cache.create(GlobalProperties);
 			Members = org.burningwave.core.classes.Members.create();
 			Fields = org.burningwave.core.classes.Fields.create();
 			Constructors = org.burningwave.core.classes.Constructors.create();
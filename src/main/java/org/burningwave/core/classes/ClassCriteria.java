@@ -42,6 +42,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -54,6 +55,9 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	Map<String, MemberCriteria<?, ?, ?>> memberCriterias;
 	PentaPredicate<ClassCriteria, TestContext, MemberCriteria<?, ?, ?>, String, Class<?>> membersPredicate;
 	private boolean collectMembers;
+	Predicate<JavaClass> javaClassPredicate;
+	private Predicate<JavaClass> javaClassPredicateToBeConcatenated;
+	private BinaryOperator<Predicate<JavaClass>> javaClassPredicateLogicalOperator;
 
 	private ClassCriteria() {
 		super();
@@ -140,6 +144,103 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		return new ClassCriteria();
 	}
 
+	@Override
+	public ClassCriteria and() {
+		javaClassPredicateLogicalOperator = ClassCriteria::andJavaClassPredicates;
+		return super.and();
+	}
+
+	@Override
+	public ClassCriteria or() {
+		javaClassPredicateLogicalOperator = ClassCriteria::orJavaClassPredicates;
+		return super.or();
+	}
+
+	@Override
+	public ClassCriteria and(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.and(criteria);
+		newCriteria.javaClassPredicate = andJavaClassPredicates(
+			this.javaClassPredicate, criteria.javaClassPredicate
+		);
+		return newCriteria;
+	}
+
+	@Override
+	public ClassCriteria or(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.or(criteria);
+		newCriteria.javaClassPredicate =
+			this.hasNoPredicate() ? criteria.javaClassPredicate :
+			criteria.hasNoPredicate() ? this.javaClassPredicate :
+			orJavaClassPredicates(this.javaClassPredicate, criteria.javaClassPredicate);
+		return newCriteria;
+	}
+
+	@Override
+	public ClassCriteria negate() {
+		//A necessary condition can't be negated: after the negation every class must be loaded to be tested
+		javaClassPredicate = null;
+		return super.negate();
+	}
+
+	@Override
+	protected BiPredicate<TestContext, Class<?>> concat(
+		BiPredicate<TestContext, Class<?>> mainPredicate,
+		BiPredicate<TestContext, Class<?>> otherPredicate
+	) {
+		Predicate<JavaClass> otherJavaClassPredicate = javaClassPredicateToBeConcatenated;
+		BinaryOperator<Predicate<JavaClass>> javaClassPredicateLogicalOperator = this.javaClassPredicateLogicalOperator;
+		javaClassPredicateToBeConcatenated = null;
+		this.javaClassPredicateLogicalOperator = null;
+		if (otherPredicate != null) {
+			if (mainPredicate == null) {
+				javaClassPredicate = otherJavaClassPredicate;
+			} else if (javaClassPredicateLogicalOperator != null) {
+				javaClassPredicate = javaClassPredicateLogicalOperator.apply(javaClassPredicate, otherJavaClassPredicate);
+			}
+		}
+		return super.concat(mainPredicate, otherPredicate);
+	}
+
+	//A null java class predicate means that the criteria can't be decided from byte code
+	private static Predicate<JavaClass> andJavaClassPredicates(Predicate<JavaClass> left, Predicate<JavaClass> right) {
+		return left != null ?
+			(right != null ? left.and(right) : left) :
+			right;
+	}
+
+	private static Predicate<JavaClass> orJavaClassPredicates(Predicate<JavaClass> left, Predicate<JavaClass> right) {
+		return left != null && right != null ?
+			left.or(right) :
+			null;
+	}
+
+	private ClassCriteria concatWithJavaClassPredicate(
+		BiPredicate<TestContext, Class<?>> predicate,
+		Predicate<JavaClass> javaClassPredicate
+	) {
+		this.javaClassPredicateToBeConcatenated = javaClassPredicate;
+		this.predicate = concat(this.predicate, predicate);
+		return this;
+	}
+
+	boolean testJavaClass(JavaClass javaClass) {
+		Predicate<JavaClass> javaClassPredicate = this.javaClassPredicate;
+		return javaClassPredicate == null || javaClassPredicate.test(javaClass);
+	}
+
+	public ClassCriteria byJavaClass(Predicate<JavaClass> predicate) {
+		return concatWithJavaClassPredicate(
+			(context, cls) -> {
+				ClassCriteria criteria = context.getCriteria();
+				return JavaClass.extractByUsing(
+					criteria.byteCodeSupplier.apply(cls),
+					javaClass -> predicate.test(javaClass)
+				);
+			},
+			predicate
+		);
+	}
+
 	@Override
 	protected ClassCriteria logicOperation(
 		ClassCriteria leftCriteria, ClassCriteria rightCriteria,
@@ -163,25 +264,26 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	}
 
 	public ClassCriteria packageName(final Predicate<String> predicate) {
-		this.predicate = concat(
-			this.predicate,
+		return concatWithJavaClassPredicate(
 			(testContext, cls) -> {
 				Package pckg = cls.getPackage();
 				return pckg != null?
 					predicate.test(pckg.getName()):
 					predicate.test(null);
+			},
+			javaClass -> {
+				String packageName = javaClass.getPackageName();
+				return packageName == null || predicate.test(packageName);
 			}
 		);
-		return this;
 	}
 
 
 	public ClassCriteria className(final Predicate<String> predicate) {
-		this.predicate = concat(
-			this.predicate,
-			(testContext, cls) -> predicate.test(cls.getName())
+		return concatWithJavaClassPredicate(
+			(testContext, cls) -> predicate.test(cls.getName()),
+			javaClass -> predicate.test(javaClass.getName())
 		);
-		return this;
 	}
 
 
@@ -256,6 +358,8 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 			)
 		);
 		copy.collectMembers = this.collectMembers;
+		copy.javaClassPredicate = this.javaClassPredicate;
+		copy.javaClassPredicateLogicalOperator = this.javaClassPredicateLogicalOperator;
 		return copy;
 	}
 
@@ -297,6 +401,9 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		this.memberCriterias.clear();
 		this.memberCriterias = null;
 		this.membersPredicate = null;
+		this.javaClassPredicate = null;
+		this.javaClassPredicateToBeConcatenated = null;
+		this.javaClassPredicateLogicalOperator = null;
 		super.close();
 	}
 }
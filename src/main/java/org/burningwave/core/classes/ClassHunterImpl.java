@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
 import org.burningwave.core.io.FileSystemItem;
@@ -143,6 +144,25 @@ class ClassHunterImpl extends ClassPathScanner.Abst<Class<?>, ClassHunterImpl.Se
 			}
 		}
 
+		@Override
+		void addItemFound(String path, String key, Class<?> item) {
+			super.addItemFound(path, key, item);
+			if (membersFound != null || membersFoundFlatMap != null) {
+				resetMembersFound();
+			}
+		}
+
+		@Override
+		void removeItemsFound(Predicate<String> keyPredicate) {
+			super.removeItemsFound(keyPredicate);
+			resetMembersFound();
+		}
+
+		private synchronized void resetMembersFound() {
+			membersFound = null;
+			membersFoundFlatMap = null;
+		}
+
 		@Override
 		public void close() {
 			membersFound = null;
@@ -316,6 +316,16 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 	}
 
 
+	//Makes usable the class paths already known without searching them in the class repositories
+	Supplier<Map<String, String>> computeFromClassPaths(Collection<String> classPaths) {
+		return compute0(
+			classPaths,
+			null,
+			clsPaths ->
+				clsPaths.stream().map(FileSystemItem::ofPath).collect(Collectors.toSet())
+		);
+	}
+
 	private Supplier<Map<String, String>> compute0(
 		Collection<String> classRepositories,
 		Predicate<FileSystemItem> pathsToBeRefreshedPredicate,
@@ -0,0 +1,429 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.io.FileInputStream;
+import org.burningwave.core.io.FileOutputStream;
+import org.burningwave.core.io.FileSystemItem;
+
+//Keeps on disk, for each archive scanned by the hunters, the entries and the class file structure of the classes
+//found so that the unchanged archives don't need to be walked and their classes don't need to be read and parsed
+class ClassPathIndex implements Component {
+	//The index files are written in an explicit format and never through the Java serialization: a file that
+	//does not start with this header or that has another version is ignored and rebuilt
+	private static final int FORMAT_HEADER = 0x42574349;
+	private static final int FORMAT_VERSION = 2;
+	//The counts of the class file structures are unsigned shorts
+	private static final int MAX_CLASS_FILE_ITEMS_COUNT = 0xFFFF;
+
+	private final String folder;
+	private final String instanceId;
+	private final int maxLoadedContainersCount;
+	private volatile Map<String, Container> containers;
+	private final Queue<Container> evictedContainers;
+
+	private ClassPathIndex(String folder, int maxLoadedContainersCount) {
+		this.folder = Paths.clean(folder);
+		this.instanceId = Objects.getCurrentId(this);
+		this.maxLoadedContainersCount = maxLoadedContainersCount;
+		this.evictedContainers = new ConcurrentLinkedQueue<>();
+		//The least recently used containers are released: the modified ones are stored before
+		this.containers = Collections.synchronizedMap(new LinkedHashMap<String, Container>(16, 0.75f, true) {
+			private static final long serialVersionUID = -3056542207376187498L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Container> eldest) {
+				if (size() > ClassPathIndex.this.maxLoadedContainersCount) {
+					if (eldest.getValue().modified) {
+						evictedContainers.add(eldest.getValue());
+					}
+					return true;
+				}
+				return false;
+			}
+		});
+	}
+
+	static ClassPathIndex create(String folder, int maxLoadedContainersCount) {
+		if (maxLoadedContainersCount < 1) {
+			throw new IllegalArgumentException("maxLoadedContainersCount must be greater than zero");
+		}
+		return new ClassPathIndex(folder, maxLoadedContainersCount);
+	}
+
+	Container getContainer(FileSystemItem scannedPath) {
+		String absolutePath = scannedPath.getAbsolutePath();
+		File file = new File(absolutePath);
+		//Only the archives stored directly on the file system can be fingerprinted
+		if (!file.isFile()) {
+			return null;
+		}
+		Map<String, Container> containers = this.containers;
+		if (containers == null) {
+			return null;
+		}
+		Container indexedContainer = Synchronizer.execute(instanceId, absolutePath, () -> {
+			Container container = containers.get(absolutePath);
+			if (container == null) {
+				container = load(absolutePath);
+			}
+			if (container == null || !container.isValidFor(file)) {
+				container = new Container(absolutePath, file);
+			}
+			containers.put(absolutePath, container);
+			return container;
+		});
+		storeEvicted();
+		return indexedContainer;
+	}
+
+	void store() {
+		Map<String, Container> containers = this.containers;
+		if (containers == null) {
+			return;
+		}
+		Collection<Container> containersToBeStored;
+		synchronized (containers) {
+			containersToBeStored = new ArrayList<>(containers.values());
+		}
+		for (Container container : containersToBeStored) {
+			store0(container);
+		}
+		storeEvicted();
+	}
+
+	private void storeEvicted() {
+		Container container;
+		while ((container = evictedContainers.poll()) != null) {
+			store0(container);
+		}
+	}
+
+	private void store0(Container container) {
+		if (container.modified) {
+			Synchronizer.execute(instanceId, container.absolutePath, () -> {
+				if (container.modified) {
+					container.modified = false;
+					store(container);
+				}
+			});
+		}
+	}
+
+	private Container load(String absolutePath) {
+		File indexFile = new File(getIndexFilePath(absolutePath));
+		if (indexFile.exists()) {
+			try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(FileInputStream.create(indexFile)))) {
+				Container container = Container.readFrom(inputStream);
+				if (container != null && absolutePath.equals(container.absolutePath)) {
+					return container;
+				}
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load class path index {}: {}", indexFile.getAbsolutePath(), exc.toString());
+			}
+		}
+		return null;
+	}
+
+	private void store(Container container) {
+		File indexFile = new File(getIndexFilePath(container.absolutePath));
+		File temporaryIndexFile = new File(indexFile.getAbsolutePath() + ".tmp");
+		try {
+			indexFile.getParentFile().mkdirs();
+			try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(FileOutputStream.create(temporaryIndexFile)))) {
+				container.writeTo(outputStream);
+			}
+			Files.move(temporaryIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (Throwable exc) {
+			temporaryIndexFile.delete();
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store class path index {}: {}", indexFile.getAbsolutePath(), exc.toString());
+		}
+	}
+
+	private String getIndexFilePath(String containerAbsolutePath) {
+		return folder + "/" + UUID.nameUUIDFromBytes(containerAbsolutePath.getBytes(StandardCharsets.UTF_8)) + ".index";
+	}
+
+	@Override
+	public void close() {
+		closeResources(() -> containers == null, task -> {
+			store();
+			Map<String, Container> containers = this.containers;
+			this.containers = null;
+			containers.clear();
+		});
+	}
+
+	static class Container {
+		private final String absolutePath;
+		private final long size;
+		private final long lastModified;
+		private final Map<String, JavaClass.ClassFile> classFiles;
+		//The paths of the items found by the last complete walk of the archive: null if it has never been walked completely
+		private volatile Collection<String> entryPaths;
+		private volatile boolean modified;
+
+		private Container(String absolutePath, File file) {
+			this(absolutePath, file.length(), file.lastModified(), new ConcurrentHashMap<>(), null);
+			this.modified = true;
+		}
+
+		private Container(String absolutePath, long size, long lastModified, Map<String, JavaClass.ClassFile> classFiles, Collection<String> entryPaths) {
+			this.absolutePath = absolutePath;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.classFiles = classFiles;
+			this.entryPaths = entryPaths;
+		}
+
+		//The archive is fingerprinted by size and last modified time, like the build tools do, so that its
+		//content is never read to check the index
+		private boolean isValidFor(File file) {
+			return file.length() == size && file.lastModified() == lastModified;
+		}
+
+		String getClassName(FileSystemItem child) {
+			JavaClass.ClassFile classFile = classFiles.get(toEntryPath(child));
+			return classFile != null ? classFile.className : null;
+		}
+
+		//Returns a JavaClass built on the indexed class file structure: its byte code is read from the child only
+		//if it is requested
+		JavaClass toJavaClass(FileSystemItem child) {
+			JavaClass.ClassFile classFile = classFiles.get(toEntryPath(child));
+			if (classFile == null) {
+				return null;
+			}
+			JavaClass javaClass = new JavaClass(JavaClass.toNameOnlyByteCode(classFile.className)) {
+
+				@Override
+				protected ByteBuffer getByteCode0() {
+					return child.toByteBuffer();
+				}
+
+				@Override
+				protected void setByteCode0(ByteBuffer byteCode) {}
+
+			};
+			javaClass.setClassFile(classFile);
+			return javaClass;
+		}
+
+		void index(FileSystemItem child, JavaClass javaClass) {
+			String entryPath = toEntryPath(child);
+			if (classFiles.containsKey(entryPath)) {
+				return;
+			}
+			try {
+				classFiles.put(entryPath, javaClass.getClassFile());
+				modified = true;
+			} catch (RuntimeException exc) {
+				//Malformed class files are not indexed: they will be parsed again on demand
+			}
+		}
+
+		Collection<FileSystemItem> getEntries() {
+			Collection<String> entryPaths = this.entryPaths;
+			if (entryPaths == null) {
+				return null;
+			}
+			Collection<FileSystemItem> entries = new ArrayList<>(entryPaths.size());
+			for (String entryPath : entryPaths) {
+				entries.add(FileSystemItem.ofPath(absolutePath + entryPath));
+			}
+			return entries;
+		}
+
+		void setEntries(Collection<FileSystemItem> entries) {
+			if (this.entryPaths != null) {
+				return;
+			}
+			Collection<String> entryPaths = new ArrayList<>(entries.size());
+			for (FileSystemItem entry : entries) {
+				entryPaths.add(toEntryPath(entry));
+			}
+			this.entryPaths = Collections.unmodifiableCollection(entryPaths);
+			modified = true;
+		}
+
+		private String toEntryPath(FileSystemItem child) {
+			return child.getAbsolutePath().substring(absolutePath.length());
+		}
+
+		private void writeTo(DataOutputStream outputStream) throws IOException {
+			outputStream.writeInt(FORMAT_HEADER);
+			outputStream.writeInt(FORMAT_VERSION);
+			outputStream.writeUTF(absolutePath);
+			outputStream.writeLong(size);
+			outputStream.writeLong(lastModified);
+			Collection<Map.Entry<String, JavaClass.ClassFile>> classFiles = new ArrayList<>(this.classFiles.entrySet());
+			outputStream.writeInt(classFiles.size());
+			for (Map.Entry<String, JavaClass.ClassFile> entry : classFiles) {
+				JavaClass.ClassFile classFile = entry.getValue();
+				outputStream.writeUTF(entry.getKey());
+				outputStream.writeInt(classFile.accessFlags);
+				outputStream.writeUTF(classFile.className);
+				writeNullable(outputStream, classFile.superClassName);
+				writeNames(outputStream, classFile.interfaceNames);
+				writeNames(outputStream, classFile.annotationNames);
+				writeMembers(outputStream, classFile.fields);
+				writeMembers(outputStream, classFile.methods);
+			}
+			Collection<String> entryPaths = this.entryPaths;
+			outputStream.writeBoolean(entryPaths != null);
+			if (entryPaths != null) {
+				outputStream.writeInt(entryPaths.size());
+				for (String entryPath : entryPaths) {
+					outputStream.writeUTF(entryPath);
+				}
+			}
+		}
+
+		private static Container readFrom(DataInputStream inputStream) throws IOException {
+			if (inputStream.readInt() != FORMAT_HEADER || inputStream.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			String absolutePath = inputStream.readUTF();
+			long size = inputStream.readLong();
+			long lastModified = inputStream.readLong();
+			int classFilesCount = readCount(inputStream, Integer.MAX_VALUE);
+			Map<String, JavaClass.ClassFile> classFiles = new ConcurrentHashMap<>();
+			for (int i = 0; i < classFilesCount; i++) {
+				String entryPath = inputStream.readUTF();
+				int accessFlags = inputStream.readInt();
+				String className = inputStream.readUTF();
+				String superClassName = readNullable(inputStream);
+				Collection<String> interfaceNames = readNames(inputStream);
+				Collection<String> annotationNames = readNames(inputStream);
+				Collection<JavaClass.MemberInfo> fields = readMembers(inputStream);
+				Collection<JavaClass.MemberInfo> methods = readMembers(inputStream);
+				classFiles.put(
+					entryPath,
+					new JavaClass.ClassFile(accessFlags, className, superClassName, interfaceNames, annotationNames, fields, methods)
+				);
+			}
+			Collection<String> entryPaths = null;
+			if (inputStream.readBoolean()) {
+				int entryPathsCount = readCount(inputStream, Integer.MAX_VALUE);
+				entryPaths = new ArrayList<>(entryPathsCount);
+				for (int i = 0; i < entryPathsCount; i++) {
+					entryPaths.add(inputStream.readUTF());
+				}
+				entryPaths = Collections.unmodifiableCollection(entryPaths);
+			}
+			return new Container(absolutePath, size, lastModified, classFiles, entryPaths);
+		}
+
+		private static void writeNullable(DataOutputStream outputStream, String value) throws IOException {
+			outputStream.writeBoolean(value != null);
+			if (value != null) {
+				outputStream.writeUTF(value);
+			}
+		}
+
+		private static String readNullable(DataInputStream inputStream) throws IOException {
+			return inputStream.readBoolean() ? inputStream.readUTF() : null;
+		}
+
+		private static void writeNames(DataOutputStream outputStream, Collection<String> names) throws IOException {
+			outputStream.writeInt(names.size());
+			for (String name : names) {
+				outputStream.writeUTF(name);
+			}
+		}
+
+		private static Collection<String> readNames(DataInputStream inputStream) throws IOException {
+			int namesCount = readCount(inputStream, MAX_CLASS_FILE_ITEMS_COUNT);
+			if (namesCount == 0) {
+				return Collections.emptyList();
+			}
+			Collection<String> names = new ArrayList<>(namesCount);
+			for (int i = 0; i < namesCount; i++) {
+				names.add(inputStream.readUTF());
+			}
+			return Collections.unmodifiableCollection(names);
+		}
+
+		private static void writeMembers(DataOutputStream outputStream, Collection<JavaClass.MemberInfo> members) throws IOException {
+			outputStream.writeInt(members.size());
+			for (JavaClass.MemberInfo member : members) {
+				outputStream.writeInt(member.getAccessFlags());
+				outputStream.writeUTF(member.getName());
+				outputStream.writeUTF(member.getDescriptor());
+				writeNames(outputStream, member.getAnnotationNames());
+			}
+		}
+
+		private static Collection<JavaClass.MemberInfo> readMembers(DataInputStream inputStream) throws IOException {
+			int membersCount = readCount(inputStream, MAX_CLASS_FILE_ITEMS_COUNT);
+			Collection<JavaClass.MemberInfo> members = new ArrayList<>(membersCount);
+			for (int i = 0; i < membersCount; i++) {
+				int accessFlags = inputStream.readInt();
+				String name = inputStream.readUTF();
+				String descriptor = inputStream.readUTF();
+				members.add(new JavaClass.MemberInfo(accessFlags, name, descriptor, readNames(inputStream)));
+			}
+			return Collections.unmodifiableCollection(members);
+		}
+
+		private static int readCount(DataInputStream inputStream, int maxValue) throws IOException {
+			int count = inputStream.readInt();
+			if (count < 0 || count > maxValue) {
+				throw new IOException("Invalid items count " + count);
+			}
+			return count;
+		}
+	}
+}
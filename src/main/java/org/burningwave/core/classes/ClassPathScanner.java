@@ -28,25 +28,32 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Metrics;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.SearchContext.InitContext;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.iterable.Properties;
 import org.burningwave.core.iterable.Properties.Event;
 
@@ -57,6 +64,9 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 
 			public final static String DEFAULT_CHECK_FILE_OPTIONS = "hunters.default-search-config.check-file-option";
 			public static final String DEFAULT_SEARCH_CONFIG_PATHS = PathHelper.Configuration.Key.PATHS_PREFIX + "hunters.default-search-config.paths";
+			public final static String PERSISTENT_INDEX_ENABLED = "hunters.persistent-index.enabled";
+			public final static String PERSISTENT_INDEX_FOLDER = "hunters.persistent-index.folder";
+			public final static String PERSISTENT_INDEX_MAX_LOADED_CONTAINERS = "hunters.persistent-index.max-loaded-containers";
 
 		}
 
@@ -75,6 +85,12 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 				Key.DEFAULT_CHECK_FILE_OPTIONS,
 				"${" + PathScannerClassLoader.Configuration.Key.SEARCH_CONFIG_CHECK_FILE_OPTION + "}"
 			);
+			defaultValues.put(Key.PERSISTENT_INDEX_ENABLED, false);
+			defaultValues.put(
+				Key.PERSISTENT_INDEX_FOLDER,
+				"${system.properties:user.home}/.burningwave/class-path-index"
+			);
+			defaultValues.put(Key.PERSISTENT_INDEX_MAX_LOADED_CONTAINERS, 256);
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -93,6 +109,8 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		Collection<SearchResult<I>> searchResults;
 		String instanceId;
 		ClassLoaderManager<PathScannerClassLoader> defaultPathScannerClassLoaderManager;
+		ClassPathIndex classPathIndex;
+		volatile FolderWatcher folderWatcher;
 
 		Abst(
 			PathHelper pathHelper,
@@ -110,9 +128,42 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			this.defaultPathScannerClassLoaderManager = new ClassLoaderManager<>(
 				defaultPathScannerClassLoaderOrDefaultPathScannerClassLoaderSupplier
 			);
+			this.classPathIndex = createClassPathIndex();
 			checkAndListenTo(config);
 		}
 
+		ClassPathIndex createClassPathIndex() {
+			boolean persistentIndexEnabled = Objects.toBoolean(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.PERSISTENT_INDEX_ENABLED)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			);
+			if (!persistentIndexEnabled) {
+				return null;
+			}
+			return ClassPathIndex.create(
+				IterableObjectHelper.resolveStringValue(
+					ResolveConfig.forNamedKey(Configuration.Key.PERSISTENT_INDEX_FOLDER)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				),
+				Objects.toInt(
+					IterableObjectHelper.resolveValue(
+						ResolveConfig.forNamedKey(Configuration.Key.PERSISTENT_INDEX_MAX_LOADED_CONTAINERS)
+						.on(config)
+						.withDefaultValues(Configuration.DEFAULT_VALUES)
+					)
+				)
+			);
+		}
+
+		ClassPathIndex.Container getIndexedContainer(FileSystemItem scannedPath) {
+			ClassPathIndex classPathIndex = this.classPathIndex;
+			return classPathIndex != null ? classPathIndex.getContainer(scannedPath) : null;
+		}
+
 		@Override
 		public <K, V> void processChangeNotification(
 			Properties properties, Event event, K key, V newValue,
@@ -123,6 +174,12 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 					String keyAsString = (String)key;
 					if (keyAsString.startsWith(getNameInConfigProperties() + ".default-path-scanner-class-loader")) {
 						this.defaultPathScannerClassLoaderManager.reset();
+					} else if (keyAsString.startsWith("hunters.persistent-index")) {
+						ClassPathIndex classPathIndex = this.classPathIndex;
+						this.classPathIndex = createClassPathIndex();
+						if (classPathIndex != null) {
+							classPathIndex.close();
+						}
 					}
 				}
 			}
@@ -158,10 +215,13 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 									if (!currentScannedPath.isContainer()) {
 										throw new IllegalArgumentException(Strings.compile("{} is not a folder or archive", currentScannedPath.getAbsolutePath()));
 									}
+									org.burningwave.core.Metrics.Sample scanningSample = Metrics.startSample("class-path-scanner.path-scanning-time");
+									Collection<FileSystemItem> itemsFound = scanAndAddToPathScannerClassLoader(context, currentScannedPath);
+									scanningSample.stop(currentScannedPath.getAbsolutePath());
 									outputHandler.accept(output -> {
 										output.put(
 											currentScannedPath,
-											scanAndAddToPathScannerClassLoader(context, currentScannedPath)
+											itemsFound
 										);
 									});
 								}
@@ -185,6 +245,10 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 						searchConfig.priority
 					)
 				);
+				ClassPathIndex classPathIndex = this.classPathIndex;
+				if (classPathIndex != null) {
+					classPathIndex.store();
+				}
 				Collection<String> skippedClassesNames = context.getSkippedClassNames();
 				if (!skippedClassesNames.isEmpty()) {
 					ManagedLoggerRepository.logWarn(getClass()::getName, "Skipped classes count: {}", skippedClassesNames.size());
@@ -206,19 +270,20 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 				(!searchConfig.useDefaultPathScannerClassLoaderAsParent && !searchConfig.useDefaultPathScannerClassLoader && searchConfig.pathScannerClassLoader == null)) {
 				pathScannerClassLoader.setFileFilter(allFileFilters);
 			}
-			if (!searchConfig.getRefreshPathIf().test(currentScannedPath) &&
+			boolean refreshPath = searchConfig.isFolderWatchingEnabled() && currentScannedPath.isFolder() ?
+				applyChangesOfWatchedFolder(context, currentScannedPath) :
+				searchConfig.getRefreshPathIf().test(currentScannedPath);
+			if (!refreshPath &&
 				pathScannerClassLoader.hasBeenCompletelyLoaded(currentScannedPath.getAbsolutePath())) {
 				return searchConfig.getFindFunction(currentScannedPath).apply(
-					searchConfig.getRefreshPathIf().test(
-						currentScannedPath
-					) ?	currentScannedPath.refresh() : currentScannedPath,
+					currentScannedPath,
 					searchConfig.getAllFileFilters(currentScannedPath)
 				);
 			} else {
 				return Synchronizer.execute(pathScannerClassLoader.instanceId + "_" + currentScannedPath.getAbsolutePath(), () -> {
 					Boolean loadPathCompletely = null;
 					FileSystemItem.Criteria allFileFiltersInternal = allFileFilters;
-					if (searchConfig.getRefreshPathIf().test(currentScannedPath) ||
+					if (refreshPath ||
 						!pathScannerClassLoader.hasBeenCompletelyLoaded(currentScannedPath.getAbsolutePath())) {
 						if (!searchConfig.isFileFilterExternallySet() &&
 							searchConfig.getFindFunction(currentScannedPath) != FileSystemItem.Find.IN_CHILDREN) {
@@ -230,13 +295,22 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 							getPathScannerClassLoaderFiller(context, currentScannedPath)
 						);
 					}
-					Collection<FileSystemItem> itemsFound = searchConfig.getFindFunction(currentScannedPath).apply(
-						searchConfig.getRefreshPathIf().test(
-							currentScannedPath
-						) ? currentScannedPath.refresh() : currentScannedPath,
-						allFileFiltersInternal
-					);
+					//The archives walked completely are not walked again while their index is valid
+					ClassPathIndex.Container indexedContainer = loadPathCompletely == Boolean.TRUE && !refreshPath ?
+						getIndexedContainer(currentScannedPath) : null;
+					Collection<FileSystemItem> itemsFound = indexedContainer != null ?
+						findIndexedItems(indexedContainer, currentScannedPath, allFileFiltersInternal) : null;
+					if (itemsFound == null) {
+						itemsFound = searchConfig.getFindFunction(currentScannedPath).apply(
+							refreshPath ? currentScannedPath.refresh() : currentScannedPath,
+							allFileFiltersInternal
+						);
+						if (indexedContainer != null && itemsFound != null) {
+							indexedContainer.setEntries(itemsFound);
+						}
+					}
 					if (loadPathCompletely != null) {
+						pathScannerClassLoader.removeResourcesIndex(currentScannedPath.getAbsolutePath());
 						pathScannerClassLoader.loadedPaths.put(currentScannedPath.getAbsolutePath(), loadPathCompletely);
 					}
 					return itemsFound;
@@ -245,12 +319,183 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		}
 
 
+		Collection<FileSystemItem> findIndexedItems(
+			ClassPathIndex.Container indexedContainer,
+			FileSystemItem currentScannedPath,
+			FileSystemItem.Criteria filter
+		) {
+			Collection<FileSystemItem> entries = indexedContainer.getEntries();
+			if (entries == null) {
+				return null;
+			}
+			Predicate<FileSystemItem[]> predicate = filter.getPredicateOrTruePredicateIfPredicateIsNull();
+			Collection<FileSystemItem> itemsFound = ConcurrentHashMap.newKeySet();
+			for (FileSystemItem entry : entries) {
+				if (predicate.test(new FileSystemItem[] {entry, currentScannedPath})) {
+					itemsFound.add(entry);
+				}
+			}
+			return itemsFound;
+		}
+
+		//Returns true if the changes of the folder are unknown and so it must be completely refreshed
+		boolean applyChangesOfWatchedFolder(C context, FileSystemItem folder) {
+			String folderAbsolutePath = folder.getAbsolutePath();
+			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
+			context.watchedFolders.add(folderAbsolutePath);
+			FolderWatcher folderWatcher = getFolderWatcher();
+			Map<String, Boolean> changes = folderWatcher.drainChanges(folderAbsolutePath, pathScannerClassLoader);
+			if (changes == null) {
+				return pathScannerClassLoader.hasBeenCompletelyLoaded(folderAbsolutePath);
+			}
+			//The changes are applied to the class loaders and to the items of all the live searches on the folder:
+			//the items of the current search are found after
+			Collection<C> liveContexts = new ArrayList<>();
+			Collection<PathScannerClassLoader> pathScannerClassLoaders = Collections.newSetFromMap(new IdentityHashMap<>());
+			pathScannerClassLoaders.add(pathScannerClassLoader);
+			for (SearchResult<I> searchResult : searchResults) {
+				C searchResultContext = (C)searchResult.context;
+				if (searchResultContext != null && searchResultContext != context && searchResultContext.isWatching(folderAbsolutePath)) {
+					PathScannerClassLoader searchResultPathScannerClassLoader = searchResultContext.pathScannerClassLoader;
+					if (searchResultPathScannerClassLoader != null) {
+						liveContexts.add(searchResultContext);
+						//The changes received by the other class loaders are drained too, so that they are applied
+						//to all the class loaders now and never applied again on the next searches
+						if (pathScannerClassLoaders.add(searchResultPathScannerClassLoader)) {
+							Map<String, Boolean> changesOfClassLoader =
+								folderWatcher.drainKnownChanges(folderAbsolutePath, searchResultPathScannerClassLoader);
+							if (changesOfClassLoader != null) {
+								for (Map.Entry<String, Boolean> change : changesOfClassLoader.entrySet()) {
+									changes.putIfAbsent(change.getKey(), change.getValue());
+								}
+							}
+						}
+					}
+				}
+			}
+			if (changes.isEmpty()) {
+				return false;
+			}
+			for (Map.Entry<String, Boolean> change : changes.entrySet()) {
+				String absolutePath = change.getKey();
+				if (change.getValue()) {
+					removeDeletedItem(folderAbsolutePath, absolutePath, pathScannerClassLoaders, liveContexts);
+				} else if (absolutePath.endsWith(".class")) {
+					applyChangedItem(folder, absolutePath, pathScannerClassLoaders, liveContexts);
+				}
+				String parentAbsolutePath = absolutePath.substring(0, absolutePath.lastIndexOf("/"));
+				while (parentAbsolutePath.length() >= folderAbsolutePath.length()) {
+					FileSystemItem.ofPath(parentAbsolutePath).resetChildrenList();
+					parentAbsolutePath = parentAbsolutePath.substring(0, parentAbsolutePath.lastIndexOf("/"));
+				}
+			}
+			for (PathScannerClassLoader changedPathScannerClassLoader : pathScannerClassLoaders) {
+				changedPathScannerClassLoader.removeResourcesIndex(folderAbsolutePath);
+			}
+			return false;
+		}
+
+		//The content of a deleted file could have been already evicted from the cache, so the
+		//entries are removed by path: a deleted folder doesn't notify the deletion of its children
+		void removeDeletedItem(
+			String folderAbsolutePath,
+			String absolutePath,
+			Collection<PathScannerClassLoader> pathScannerClassLoaders,
+			Collection<C> liveContexts
+		) {
+			String relativePath = absolutePath.substring(folderAbsolutePath.length() + 1);
+			Predicate<String> classNamePredicate;
+			Predicate<String> itemKeyPredicate;
+			if (absolutePath.endsWith(".class")) {
+				String className = relativePath.substring(0, relativePath.length() - ".class".length()).replace("/", ".");
+				classNamePredicate = className::equals;
+				itemKeyPredicate = absolutePath::equals;
+			} else {
+				String packagePrefix = relativePath.replace("/", ".") + ".";
+				String pathPrefix = absolutePath + "/";
+				classNamePredicate = className -> className.startsWith(packagePrefix);
+				itemKeyPredicate = key -> key.startsWith(pathPrefix);
+			}
+			for (PathScannerClassLoader pathScannerClassLoader : pathScannerClassLoaders) {
+				pathScannerClassLoader.removeNotLoadedBytecodes(classNamePredicate);
+			}
+			for (C liveContext : liveContexts) {
+				liveContext.removeItemsFound(itemKeyPredicate);
+			}
+			FileSystemItem.ofPath(absolutePath).destroy();
+		}
+
+		void applyChangedItem(
+			FileSystemItem folder,
+			String absolutePath,
+			Collection<PathScannerClassLoader> pathScannerClassLoaders,
+			Collection<C> liveContexts
+		) {
+			FileSystemItem fileSystemItem = FileSystemItem.ofPath(absolutePath).reset();
+			JavaClass javaClass = fileSystemItem.toJavaClass();
+			if (javaClass == null) {
+				return;
+			}
+			String className = javaClass.getName();
+			for (PathScannerClassLoader pathScannerClassLoader : pathScannerClassLoaders) {
+				ByteBuffer definedClassByteCode = pathScannerClassLoader.loadedByteCodes.get(className);
+				if (definedClassByteCode == null) {
+					pathScannerClassLoader.addByteCode0(className, javaClass.getByteCode());
+				} else if (!definedClassByteCode.equals(javaClass.getByteCode())) {
+					//The byte code of the classes already defined can't be replaced: the change is reported so that
+					//the client can search again with a new class loader
+					Metrics.incrementCounter("class-path-scanner.stale-defined-classes");
+					ManagedLoggerRepository.logWarn(
+						getClass()::getName,
+						"Class {} has been changed in {} but it has already been defined by {}: the new byte code will be used only by a new class loader",
+						className, absolutePath, pathScannerClassLoader
+					);
+				}
+			}
+			for (C liveContext : liveContexts) {
+				liveContext.removeItemsFound(absolutePath::equals);
+				SearchConfig searchConfig = liveContext.searchConfig;
+				if (searchConfig != null && searchConfig.getAllFileFilters(folder).getPredicateOrTruePredicateIfPredicateIsNull().test(
+					new FileSystemItem[] {fileSystemItem, folder}
+				)) {
+					ClassCriteria.TestContext criteriaTestContext = testClassCriteria(liveContext, javaClass);
+					if (criteriaTestContext.getResult()) {
+						addToContext(
+							liveContext, criteriaTestContext, folder.getAbsolutePath(), fileSystemItem, javaClass
+						);
+					}
+				}
+			}
+		}
+
+		FolderWatcher getFolderWatcher() {
+			FolderWatcher folderWatcher = this.folderWatcher;
+			if (folderWatcher == null) {
+				synchronized (this) {
+					if ((folderWatcher = this.folderWatcher) == null) {
+						this.folderWatcher = folderWatcher = FolderWatcher.create();
+					}
+				}
+			}
+			return folderWatcher;
+		}
+
 		FileSystemItem.Criteria getPathScannerClassLoaderFiller(
 			C context,
 			FileSystemItem currentScannedPath
 		) {
 			PathScannerClassLoader pathScannerClassLoader = context.pathScannerClassLoader;
+			ClassPathIndex.Container indexedContainer = getIndexedContainer(currentScannedPath);
 			return FileSystemItem.Criteria.forAllFileThat(fileSystemItem -> {
+				String indexedClassName = indexedContainer != null ? indexedContainer.getClassName(fileSystemItem) : null;
+				if (indexedClassName != null) {
+					//The byte code is read only when the class is defined
+					if (pathScannerClassLoader.loadedByteCodes.get(indexedClassName) == null &&
+						pathScannerClassLoader.notLoadedByteCodes.get(indexedClassName) == null) {
+						pathScannerClassLoader.addByteCode0(indexedClassName, () -> BufferHandler.duplicate(fileSystemItem.toByteBuffer()));
+					}
+					return true;
+				}
 				JavaClass javaClass = fileSystemItem.toJavaClass();
 				try {
 					String className = javaClass.getName();
@@ -275,12 +520,19 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			FileSystemItem currentScannedPath = currentScannedPathAndChildren.getKey();
 			String currentScannedAbsolutePath = currentScannedPath.getAbsolutePath();
 			FileSystemItem.Criteria allFileFilters = context.searchConfig.getAllFileFilters(currentScannedPath);
+			ClassPathIndex.Container indexedContainer = getIndexedContainer(currentScannedPath);
 			IterableObjectHelper.iterate(
 				IterationConfig.of(
 					currentScannedPathAndChildren.getValue()
 				).withAction(
 					child -> {
-						JavaClass javaClass = child.toJavaClass();
+						JavaClass javaClass = indexedContainer != null ? indexedContainer.toJavaClass(child) : null;
+						if (javaClass == null) {
+							javaClass = child.toJavaClass();
+							if (indexedContainer != null && javaClass != null) {
+								indexedContainer.index(child, javaClass);
+							}
+						}
 						try {
 							ClassCriteria.TestContext criteriaTestContext = testClassCriteria(context, javaClass);
 							if (criteriaTestContext.getResult()) {
@@ -306,7 +558,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 
 
 		ClassCriteria.TestContext testClassCriteria(C context, JavaClass javaClass) {
-			return context.test(context.loadClass(javaClass.getName()));
+			return context.test(javaClass);
 		}
 
 
@@ -342,6 +594,14 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		@Override
 		public void close() {
 			checkAndUnregister(config);
+			if (classPathIndex != null) {
+				classPathIndex.close();
+				classPathIndex = null;
+			}
+			if (folderWatcher != null) {
+				folderWatcher.close();
+				folderWatcher = null;
+			}
 			pathHelper = null;
 			contextSupplier = null;
 			config = null;
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.io.FileSystemItem;
+
+//Maps the names of the classes and of the packages contained in the class repositories to the class paths
+//that contain them, so that the JavaMemoryCompiler can resolve its dependencies without scanning the repositories
+class ClassRepositoriesIndex implements Component {
+	private final String instanceId;
+	private ClassPathHelperImpl classPathHelper;
+	private Map<String, Repository> repositories;
+
+	private ClassRepositoriesIndex(ClassPathHelperImpl classPathHelper) {
+		this.instanceId = Objects.getCurrentId(this);
+		this.classPathHelper = classPathHelper;
+		this.repositories = new ConcurrentHashMap<>();
+	}
+
+	static ClassRepositoriesIndex create(ClassPathHelperImpl classPathHelper) {
+		return new ClassRepositoriesIndex(classPathHelper);
+	}
+
+	Collection<String> findClassPathsForClassName(Collection<String> classRepositories, String className) {
+		return find(classRepositories, repository -> repository.classPathsForClassName.get(className));
+	}
+
+	Collection<String> findClassPathsForClassSimpleName(Collection<String> classRepositories, String classSimpleName) {
+		return find(classRepositories, repository -> repository.classPathsForClassSimpleName.get(classSimpleName));
+	}
+
+	Collection<String> findClassPathsForPackageName(Collection<String> classRepositories, String packageName) {
+		return find(classRepositories, repository -> repository.classPathsForPackageName.get(packageName));
+	}
+
+	String findAClassNameOfPackage(Collection<String> classRepositories, String packageName) {
+		for (String classRepository : classRepositories) {
+			String className = getRepository(classRepository).classNameForPackageName.get(packageName);
+			if (className != null) {
+				return className;
+			}
+		}
+		return null;
+	}
+
+	//The repositories are indexed one at a time and only until one of them contains the searched element
+	private Collection<String> find(Collection<String> classRepositories, Function<Repository, Collection<String>> classPathsSupplier) {
+		Collection<String> classPaths = new HashSet<>();
+		for (String classRepository : classRepositories) {
+			Collection<String> classPathsOfRepository = classPathsSupplier.apply(getRepository(classRepository));
+			if (classPathsOfRepository != null && !classPathsOfRepository.isEmpty()) {
+				classPaths.addAll(classPathsOfRepository);
+				return classPaths;
+			}
+		}
+		return classPaths;
+	}
+
+	//Adds to the index the classes stored in a class repository without scanning it again
+	void add(String classRepository, String classPath, Collection<String> classNames) {
+		Repository repository = getRepository(classRepository);
+		for (String className : classNames) {
+			repository.add(classPath, className);
+		}
+	}
+
+	//Adds the classes found by a full search to the already indexed repositories that contain their class path:
+	//the repositories not indexed yet will find them when they are indexed
+	void addToIndexedRepositories(String classPath, Collection<String> classNames) {
+		for (Map.Entry<String, Repository> classRepositoryAndRepository : repositories.entrySet()) {
+			String classRepository = classRepositoryAndRepository.getKey();
+			if (classPath.equals(classRepository) || classPath.startsWith(classRepository + "/")) {
+				for (String className : classNames) {
+					classRepositoryAndRepository.getValue().add(classPath, className);
+				}
+			}
+		}
+	}
+
+	//Removes only the repositories that contain the class paths: they will be indexed again when they are searched
+	void invalidate(Collection<String> classPaths) {
+		repositories.keySet().removeIf(classRepository -> {
+			for (String classPath : classPaths) {
+				if (classPath.equals(classRepository) || classPath.startsWith(classRepository + "/")) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	private Repository getRepository(String classRepository) {
+		Repository repository = repositories.get(classRepository);
+		if (repository != null) {
+			return repository;
+		}
+		return Synchronizer.execute(instanceId, classRepository, () -> {
+			Repository newRepository = repositories.get(classRepository);
+			if (newRepository == null) {
+				newRepository = new Repository();
+				index(classRepository, newRepository);
+				repositories.put(classRepository, newRepository);
+			}
+			return newRepository;
+		});
+	}
+
+	private void index(String classRepositoryPath, Repository repository) {
+		FileSystemItem classRepository = FileSystemItem.ofPath(classRepositoryPath);
+		if (!classRepository.refresh().exists()) {
+			return;
+		}
+		classRepository.findInAllChildren(
+			FileSystemItem.Criteria.forClassTypeFiles(
+				classPathHelper.getClassFileCheckingOption()
+			).and().allFileThat(fileSystemItemCls -> {
+				JavaClass javaClass = fileSystemItemCls.toJavaClass();
+				String classAbsolutePath = fileSystemItemCls.getAbsolutePath();
+				repository.add(
+					classAbsolutePath.substring(0, classAbsolutePath.lastIndexOf("/" + javaClass.getPath())),
+					javaClass.getName()
+				);
+				return false;
+			}).enableDefaultExceptionHandler()
+		);
+	}
+
+	@Override
+	public void close() {
+		repositories.clear();
+		repositories = null;
+		classPathHelper = null;
+	}
+
+	private static class Repository {
+		private final Map<String, Collection<String>> classPathsForClassName;
+		private final Map<String, Collection<String>> classPathsForClassSimpleName;
+		private final Map<String, Collection<String>> classPathsForPackageName;
+		private final Map<String, String> classNameForPackageName;
+
+		private Repository() {
+			this.classPathsForClassName = new ConcurrentHashMap<>();
+			this.classPathsForClassSimpleName = new ConcurrentHashMap<>();
+			this.classPathsForPackageName = new ConcurrentHashMap<>();
+			this.classNameForPackageName = new ConcurrentHashMap<>();
+		}
+
+		private void add(String classPath, String className) {
+			int packageNameEndIndex = className.lastIndexOf(".");
+			String packageName = packageNameEndIndex != -1 ? className.substring(0, packageNameEndIndex) : "";
+			classPathsForClassName.computeIfAbsent(className, key -> ConcurrentHashMap.newKeySet()).add(classPath);
+			classPathsForClassSimpleName.computeIfAbsent(
+				className.substring(packageNameEndIndex + 1), key -> ConcurrentHashMap.newKeySet()
+			).add(classPath);
+			classPathsForPackageName.computeIfAbsent(packageName, key -> ConcurrentHashMap.newKeySet()).add(classPath);
+			classNameForPackageName.putIfAbsent(packageName, className);
+		}
+	}
+}
@@ -50,6 +50,10 @@ public interface CodeExecutor {
 		public static abstract class Key {
 			public static final String COMMON_IMPORTS = "code-executor.common.imports";
 			public static final String ADDITIONAL_COMMON_IMPORTS = "code-executor.common.additional-imports";
+			public static final String COMPILED_CLASSES_CACHE_ENABLED = "code-executor.compiled-classes-cache.enabled";
+			public static final String COMPILED_CLASSES_CACHE_MAX_SIZE = "code-executor.compiled-classes-cache.max-size";
+			public static final String COMPILED_CLASSES_CACHE_PERSISTENT_ENABLED = "code-executor.compiled-classes-cache.persistent.enabled";
+			public static final String COMPILED_CLASSES_CACHE_PERSISTENT_FOLDER = "code-executor.compiled-classes-cache.persistent.folder";
 			public static final String PROPERTIES_FILE_IMPORTS_SUFFIX = ".imports";
 			public static final String PROPERTIES_FILE_SUPPLIER_KEY = "supplier";
 			public static final String PROPERTIES_FILE_EXECUTOR_KEY = "executor";
@@ -82,6 +86,17 @@ public interface CodeExecutor {
 				Supplier.class.getName() + IterableObjectHelper.getDefaultValuesSeparator()
 			);
 
+			defaultValues.put(Key.COMPILED_CLASSES_CACHE_ENABLED, true);
+
+			defaultValues.put(Key.COMPILED_CLASSES_CACHE_MAX_SIZE, 128);
+
+			defaultValues.put(Key.COMPILED_CLASSES_CACHE_PERSISTENT_ENABLED, false);
+
+			defaultValues.put(
+				Key.COMPILED_CLASSES_CACHE_PERSISTENT_FOLDER,
+				"${system.properties:user.home}/.burningwave/code-executor"
+			);
+
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
 
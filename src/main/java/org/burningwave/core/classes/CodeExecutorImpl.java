@@ -29,30 +29,64 @@
 package org.burningwave.core.classes;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.Executable;
+import org.burningwave.core.io.FileInputStream;
+import org.burningwave.core.io.FileOutputStream;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.iterable.Properties;
+import org.burningwave.core.iterable.Properties.Event;
 
 
 @SuppressWarnings("unchecked")
 public class CodeExecutorImpl implements CodeExecutor, Component {
+	//"BWCE": the header of the files of the persistent compiled classes cache
+	private static final int COMPILED_CLASS_FORMAT_HEADER = 0x42574345;
+	private static final int COMPILED_CLASS_FORMAT_VERSION = 1;
+	private static final int MAX_COMPILED_CLASS_BYTE_CODES_COUNT = 0xFFFF;
+
 	private ClassFactory classFactory;
 	private PathHelper pathHelper;
 	private Supplier<ClassFactory> classFactorySupplier;
 	private Map<?, ?> config;
+	private CompiledClasses compiledClasses;
+	private boolean compiledClassesCacheEnabled;
+	private int compiledClassesCacheMaxSize;
+	private String compiledClassesCachePersistentFolder;
 
 	CodeExecutorImpl(
 		Supplier<ClassFactory> classFactorySupplier,
@@ -62,9 +96,55 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		this.classFactorySupplier = classFactorySupplier;
 		this.pathHelper = pathHelper;
 		this.config = config;
+		initCompiledClassesCache();
+		this.compiledClasses = new CompiledClasses(compiledClassesCacheMaxSize);
 		checkAndListenTo(config);
 	}
 
+	private void initCompiledClassesCache() {
+		compiledClassesCacheEnabled = Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.COMPILED_CLASSES_CACHE_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		compiledClassesCacheMaxSize = Objects.toInt(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.COMPILED_CLASSES_CACHE_MAX_SIZE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		compiledClassesCachePersistentFolder = compiledClassesCacheEnabled && Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.COMPILED_CLASSES_CACHE_PERSISTENT_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		) ? Paths.clean(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.COMPILED_CLASSES_CACHE_PERSISTENT_FOLDER)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		) : null;
+	}
+
+	@Override
+	public <K, V> void processChangeNotification(Properties properties, Event event, K key, V newValue,
+			V previousValue) {
+		if (event.name().equals(Event.PUT.name())) {
+			if (key instanceof String) {
+				String keyAsString = (String)key;
+				if (keyAsString.startsWith("code-executor.compiled-classes-cache")) {
+					initCompiledClassesCache();
+					clearCompiledClasses();
+				}
+			}
+		}
+	}
+
 	private ClassFactory getClassFactory() {
 		return classFactory != null? classFactory :
 			(classFactory = classFactorySupplier.get());
@@ -197,14 +277,39 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 			parentClassLoader = defaultClassLoader = ((ClassFactoryImpl)getClassFactory()).getDefaultClassLoader(executeClient);
 		}
 		if (config.getClassLoader() == null) {
-			MemoryClassLoader memoryClassLoader = MemoryClassLoader.create(
-				parentClassLoader
-			);
+			String compiledClassKey = compiledClassesCacheEnabled ? computeCompiledClassKey(config) : null;
+			MemoryClassLoader memoryClassLoader = null;
 			try {
-				memoryClassLoader.register(executeClient);
-				Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
-					config.useClassLoader(memoryClassLoader)
-				);
+				Class<? extends Executable> executableClass = null;
+				CompiledClasses.Entry compiledClass = compiledClassKey != null ?
+					compiledClasses.get(compiledClassKey, parentClassLoader) :
+					null;
+				//The execution becomes a client of the class loader of the cached class so that the class loader is
+				//not closed if the class is evicted in the meantime
+				if (compiledClass != null && compiledClass.register(executeClient)) {
+					memoryClassLoader = compiledClass.memoryClassLoader;
+					executableClass = compiledClass.executableClass;
+				}
+				if (executableClass == null) {
+					memoryClassLoader = MemoryClassLoader.create(
+						parentClassLoader
+					);
+					memoryClassLoader.register(executeClient);
+					if (compiledClassKey != null) {
+						compiledClass = loadOrBuildAndDefineAndCacheExecutorSubType(
+							config.useClassLoader(memoryClassLoader), compiledClassKey, parentClassLoader
+						);
+						if (compiledClass.memoryClassLoader != memoryClassLoader && compiledClass.register(executeClient)) {
+							memoryClassLoader.unregister(executeClient, true);
+							memoryClassLoader = compiledClass.memoryClassLoader;
+						}
+						executableClass = compiledClass.executableClass;
+					} else {
+						executableClass = loadOrBuildAndDefineExecutorSubType(
+							config.useClassLoader(memoryClassLoader)
+						);
+					}
+				}
 				Executable executor = Constructors.newInstanceDirectOf(executableClass);
 				T retrievedElement = executor.executeAndCast(config.getParams());
 				return retrievedElement;
@@ -214,7 +319,9 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 				if (defaultClassLoader instanceof MemoryClassLoader) {
 					((MemoryClassLoader)defaultClassLoader).unregister(executeClient, true);
 				}
-				memoryClassLoader.unregister(executeClient, true);
+				if (memoryClassLoader != null) {
+					memoryClassLoader.unregister(executeClient, true);
+				}
 			}
 		} else {
 			Function<Boolean, ClassLoader> parentClassLoaderRestorer = null;
@@ -255,14 +362,280 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		return executableClass;
 	}
 
+	private <E extends ExecuteConfig<E>> CompiledClasses.Entry loadOrBuildAndDefineAndCacheExecutorSubType(
+		E config,
+		String compiledClassKey,
+		ClassLoader parentClassLoader
+	) {
+		//Distinct parent class loaders may have the same id: in this case their compilations are only serialized
+		String compiledClassId = compiledClassKey + "@" + getId(parentClassLoader);
+		Collection<CompiledClasses.Entry> evictedClasses = new ArrayList<>();
+		CompiledClasses.Entry compiledClassEntry = Synchronizer.execute(getOperationId("loadOrBuildAndDefineAndCacheExecutorSubType"), compiledClassId, () -> {
+			CompiledClasses compiledClasses = this.compiledClasses;
+			CompiledClasses.Entry cachedClass = compiledClasses.get(compiledClassKey, parentClassLoader);
+			if (cachedClass != null) {
+				return cachedClass;
+			}
+			Class<? extends Executable> executableClass = null;
+			MemoryClassLoader memoryClassLoader = (MemoryClassLoader)config.getClassLoader();
+			String persistentCompiledClassKey = compiledClassesCachePersistentFolder != null ?
+				computePersistentCompiledClassKey(compiledClassKey, config) : null;
+			CompiledClass compiledClass = persistentCompiledClassKey != null ?
+				loadCompiledClass(persistentCompiledClassKey) : null;
+			if (compiledClass != null) {
+				try {
+					for (Map.Entry<String, byte[]> byteCode : compiledClass.byteCodes.entrySet()) {
+						memoryClassLoader.addByteCode(byteCode.getKey(), ByteBuffer.wrap(byteCode.getValue()));
+					}
+					executableClass = (Class<? extends Executable>)memoryClassLoader.loadClass(compiledClass.className);
+				} catch (Throwable exc) {
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load stored class {}: {}", compiledClass.className, exc.toString());
+					executableClass = null;
+				}
+			}
+			if (executableClass == null) {
+				executableClass = loadOrBuildAndDefineExecutorSubType(config);
+				if (persistentCompiledClassKey != null) {
+					storeCompiledClass(persistentCompiledClassKey, config.getExecutorName(), memoryClassLoader);
+				}
+			}
+			//The cache becomes a client of the class loader of the executable class so that it remains open
+			memoryClassLoader.register(this);
+			CompiledClasses.Entry newCompiledClass = new CompiledClasses.Entry(executableClass, memoryClassLoader);
+			evictedClasses.addAll(compiledClasses.put(compiledClassKey, parentClassLoader, newCompiledClass));
+			return newCompiledClass;
+		});
+		release(evictedClasses);
+		return compiledClassEntry;
+	}
+
+	private String computeCompiledClassKey(ExecuteConfig<?> config) {
+		String source = config.unitSourceGenerators.iterator().next().make();
+		String executorName = config.getExecutorName();
+		if (executorName.startsWith(ExecuteConfig.DEFAULT_EXECUTOR_NAME_PREFIX)) {
+			//The default names are random: they are excluded from the key
+			source = source.replace(Classes.retrieveSimpleName(executorName), "CodeExecutor");
+		}
+		StringBuilder key = new StringBuilder(source);
+		for (Collection<String> classRepositories : new Collection[] {
+			config.getClassRepositoriesWhereToSearchNotFoundClassesDuringLoading(),
+			config.getAdditionalClassRepositoriesWhereToSearchNotFoundClassesDuringLoading()
+		}) {
+			key.append("\n").append(classRepositories != null ? new TreeSet<>(classRepositories) : "");
+		}
+		return UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	//The stored classes survive the upgrades of the dependencies: the key of the persistent cache includes the
+	//fingerprint of the main class paths and of the class repositories so that stale byte codes are not defined
+	private String computePersistentCompiledClassKey(String compiledClassKey, ExecuteConfig<?> config) {
+		Collection<String> classPaths = new TreeSet<>(pathHelper.getMainClassPaths());
+		for (Collection<String> classRepositories : new Collection[] {
+			config.getClassRepositoriesWhereToSearchNotFoundClassesDuringLoading(),
+			config.getAdditionalClassRepositoriesWhereToSearchNotFoundClassesDuringLoading()
+		}) {
+			if (classRepositories != null) {
+				classPaths.addAll(classRepositories);
+			}
+		}
+		StringBuilder key = new StringBuilder(compiledClassKey);
+		for (String classPath : classPaths) {
+			key.append("\n").append(classPath).append("=").append(JavaFileManagerPool.computeFingerprint(classPath));
+		}
+		return UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	private String getId(ClassLoader classLoader) {
+		return classLoader != null ? Objects.getId(classLoader) : "bootstrap";
+	}
+
+	private CompiledClass loadCompiledClass(String compiledClassKey) {
+		File compiledClassFile = new File(compiledClassesCachePersistentFolder + "/" + compiledClassKey + ".classes");
+		if (compiledClassFile.exists()) {
+			try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(FileInputStream.create(compiledClassFile)))) {
+				return CompiledClass.readFrom(inputStream, compiledClassFile.length());
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load compiled classes {}: {}", compiledClassFile.getAbsolutePath(), exc.toString());
+			}
+		}
+		return null;
+	}
+
+	private void storeCompiledClass(String compiledClassKey, String className, MemoryClassLoader memoryClassLoader) {
+		Map<String, byte[]> byteCodes = new HashMap<>();
+		for (Map<String, ByteBuffer> classLoaderByteCodes : new Map[] {memoryClassLoader.loadedByteCodes, memoryClassLoader.notLoadedByteCodes}) {
+			for (Map.Entry<String, ByteBuffer> byteCode : classLoaderByteCodes.entrySet()) {
+				if (byteCode.getKey().equals(className) || byteCode.getKey().startsWith(className + "$")) {
+					byteCodes.put(byteCode.getKey(), BufferHandler.toByteArray(byteCode.getValue()));
+				}
+			}
+		}
+		if (!byteCodes.containsKey(className)) {
+			return;
+		}
+		File compiledClassFile = new File(compiledClassesCachePersistentFolder + "/" + compiledClassKey + ".classes");
+		File temporaryCompiledClassFile = new File(compiledClassFile.getAbsolutePath() + ".tmp");
+		try {
+			compiledClassFile.getParentFile().mkdirs();
+			try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(FileOutputStream.create(temporaryCompiledClassFile)))) {
+				new CompiledClass(className, byteCodes).writeTo(outputStream);
+			}
+			Files.move(temporaryCompiledClassFile.toPath(), compiledClassFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (Throwable exc) {
+			temporaryCompiledClassFile.delete();
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store compiled classes {}: {}", compiledClassFile.getAbsolutePath(), exc.toString());
+		}
+	}
+
+	private void clearCompiledClasses() {
+		CompiledClasses compiledClasses = this.compiledClasses;
+		this.compiledClasses = new CompiledClasses(compiledClassesCacheMaxSize);
+		release(compiledClasses.clear());
+	}
+
+	private void release(Collection<CompiledClasses.Entry> compiledClasses) {
+		for (CompiledClasses.Entry compiledClass : compiledClasses) {
+			compiledClass.memoryClassLoader.unregister(this, true);
+		}
+	}
+
 	@Override
 	public void close() {
 		if (config instanceof Properties) {
 			checkAndUnregister((Properties)config);
 		}
+		clearCompiledClasses();
 		classFactory = null;
 		pathHelper = null;
 		classFactorySupplier = null;
 		config = null;
 	}
-}
\ No newline at end of file
+
+	//Executable classes already compiled, keyed by a hash of their source and of their class repositories and by the
+	//identity of their parent class loader: the least recently used ones are evicted when the max size is exceeded
+	private static class CompiledClasses {
+		private final LinkedHashMap<Key, Entry> entries;
+		private final int maxSize;
+
+		private CompiledClasses(int maxSize) {
+			this.entries = new LinkedHashMap<>(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		synchronized Entry get(String sourceKey, ClassLoader parentClassLoader) {
+			return entries.get(new Key(sourceKey, parentClassLoader));
+		}
+
+		//Returns the evicted entries, whose class loaders must be released by the caller
+		synchronized Collection<Entry> put(String sourceKey, ClassLoader parentClassLoader, Entry entry) {
+			entries.put(new Key(sourceKey, parentClassLoader), entry);
+			Collection<Entry> evictedEntries = new ArrayList<>();
+			Iterator<Entry> entriesIterator = entries.values().iterator();
+			while (entries.size() > maxSize && entriesIterator.hasNext()) {
+				evictedEntries.add(entriesIterator.next());
+				entriesIterator.remove();
+			}
+			return evictedEntries;
+		}
+
+		synchronized Collection<Entry> clear() {
+			Collection<Entry> removedEntries = new ArrayList<>(entries.values());
+			entries.clear();
+			return removedEntries;
+		}
+
+		private static class Key {
+			private final String sourceKey;
+			private final ClassLoader parentClassLoader;
+
+			private Key(String sourceKey, ClassLoader parentClassLoader) {
+				this.sourceKey = sourceKey;
+				this.parentClassLoader = parentClassLoader;
+			}
+
+			@Override
+			public int hashCode() {
+				return 31 * sourceKey.hashCode() + System.identityHashCode(parentClassLoader);
+			}
+
+			@Override
+			public boolean equals(Object object) {
+				if (!(object instanceof Key)) {
+					return false;
+				}
+				Key key = (Key)object;
+				return key.parentClassLoader == parentClassLoader && key.sourceKey.equals(sourceKey);
+			}
+		}
+
+		private static class Entry {
+			private final Class<? extends Executable> executableClass;
+			private final MemoryClassLoader memoryClassLoader;
+
+			private Entry(Class<? extends Executable> executableClass, MemoryClassLoader memoryClassLoader) {
+				this.executableClass = executableClass;
+				this.memoryClassLoader = memoryClassLoader;
+			}
+
+			//Returns false if the class loader has been closed because the entry has been evicted
+			boolean register(Object client) {
+				try {
+					memoryClassLoader.register(client);
+					return true;
+				} catch (IllegalStateException exc) {
+					return false;
+				}
+			}
+		}
+	}
+
+	//Stored as the name of the executable class followed by the names and the byte codes of its classes
+	private static class CompiledClass {
+		private final String className;
+		private final Map<String, byte[]> byteCodes;
+
+		private CompiledClass(String className, Map<String, byte[]> byteCodes) {
+			this.className = className;
+			this.byteCodes = byteCodes;
+		}
+
+		private void writeTo(DataOutputStream outputStream) throws IOException {
+			outputStream.writeInt(COMPILED_CLASS_FORMAT_HEADER);
+			outputStream.writeInt(COMPILED_CLASS_FORMAT_VERSION);
+			outputStream.writeUTF(className);
+			outputStream.writeInt(byteCodes.size());
+			for (Map.Entry<String, byte[]> byteCode : byteCodes.entrySet()) {
+				outputStream.writeUTF(byteCode.getKey());
+				outputStream.writeInt(byteCode.getValue().length);
+				outputStream.write(byteCode.getValue());
+			}
+		}
+
+		//The sizes are validated against the size of the file so that a corrupted file can't force huge allocations
+		private static CompiledClass readFrom(DataInputStream inputStream, long fileSize) throws IOException {
+			if (inputStream.readInt() != COMPILED_CLASS_FORMAT_HEADER || inputStream.readInt() != COMPILED_CLASS_FORMAT_VERSION) {
+				throw new IOException("Unsupported format");
+			}
+			String className = inputStream.readUTF();
+			int byteCodesCount = inputStream.readInt();
+			if (byteCodesCount < 0 || byteCodesCount > MAX_COMPILED_CLASS_BYTE_CODES_COUNT) {
+				throw new IOException("Invalid byte codes count " + byteCodesCount);
+			}
+			Map<String, byte[]> byteCodes = new HashMap<>();
+			for (int i = 0; i < byteCodesCount; i++) {
+				String name = inputStream.readUTF();
+				int length = inputStream.readInt();
+				if (length < 0 || length > fileSize) {
+					throw new IOException("Invalid byte code length " + length + " for class " + name);
+				}
+				byte[] byteCode = new byte[length];
+				inputStream.readFully(byteCode);
+				byteCodes.put(name, byteCode);
+			}
+			if (!byteCodes.containsKey(className)) {
+				throw new IOException("Byte code of class " + className + " not found");
+			}
+			return new CompiledClass(className, byteCodes);
+		}
+	}
+}
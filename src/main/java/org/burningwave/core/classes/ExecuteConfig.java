@@ -39,6 +39,8 @@ import org.burningwave.core.Executable;
 
 @SuppressWarnings("unchecked")
 public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBuildAndDefineConfig.ForCodeExecutorAbst<C> {
+	static final String DEFAULT_EXECUTOR_NAME_PREFIX = Executable.class.getPackage().getName() + ".CodeExecutor_";
+
 	ClassLoader parentClassLoader;
 	boolean useDefaultClassLoaderAsParentIfParentClassLoaderIsNull;
 	List<Object> params;
@@ -137,7 +139,7 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 
 		private ForProperties() {
 			super(
-				Executable.class.getPackage().getName() + ".CodeExecutor_" + UUID.randomUUID().toString().replaceAll("-", ""),
+				DEFAULT_EXECUTOR_NAME_PREFIX + UUID.randomUUID().toString().replaceAll("-", ""),
 				BodySourceGenerator.createSimple()
 			);
 			isAbsoluteFilePath = false;
@@ -212,7 +214,7 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 
 		private ForBodySourceGenerator(BodySourceGenerator body) {
 			super(
-				Executable.class.getPackage().getName() + ".CodeExecutor_" + UUID.randomUUID().toString().replaceAll("-", ""),
+				DEFAULT_EXECUTOR_NAME_PREFIX + UUID.randomUUID().toString().replaceAll("-", ""),
 				body
 			);
 			virtualizeClasses(false);
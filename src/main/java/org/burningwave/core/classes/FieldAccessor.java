@@ -34,6 +34,8 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -41,6 +43,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -70,6 +73,35 @@ public abstract class FieldAccessor implements Component {
 
 	abstract List<ThrowingBiFunction<Object, String, Object, Throwable>> getFieldRetrievers();
 
+	abstract List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> getFieldRetrieverResolvers();
+
+	//Parses the path once: the accessors of each segment are resolved once for each runtime type of the object
+	//on which the segment is accessed, so that the same path can be read many times without any regular expression
+	public CompiledPath compile(Class<?> type, String path) {
+		if (path == null) {
+			throw new IllegalArgumentException("Field path cannot be null");
+		}
+		String[] pathSegments = path.split("\\.");
+		CompiledPath.Segment[] segments = new CompiledPath.Segment[pathSegments.length];
+		for (int i = 0; i < pathSegments.length; i++) {
+			Matcher matcher = simpleFieldSearcher.matcher(pathSegments[i]);
+			matcher.find();
+			List<String> indexes = new ArrayList<>();
+			Matcher indexesMatcher = indexesSearcherForIndexedField.matcher(matcher.group(2));
+			while (indexesMatcher.find()) {
+				indexes.add(indexesMatcher.group(1));
+			}
+			segments[i] = new CompiledPath.Segment(
+				this, i > 0 ? segments[i - 1].getPath(segments[i - 1].indexes.length) : null,
+				matcher.group(1), indexes.toArray(new String[indexes.size()])
+			);
+		}
+		if (type != null) {
+			segments[0].getAccessor(type);
+		}
+		return new CompiledPath(path, segments);
+	}
+
 	public <T> T get(Object obj, String path) {
 		if (path == null) {
 			throw new IllegalArgumentException("Field path cannot be null");
@@ -198,6 +230,21 @@ public abstract class FieldAccessor implements Component {
 		return Fields.getDirect(target, pathSegment);
 	}
 
+	ThrowingFunction<Object, Object, Throwable> resolveFieldRetrieverByDirectAccess(Class<?> targetClass, String pathSegment) {
+		Field field = Fields.findFirstAndMakeItAccessible(targetClass, pathSegment, null);
+		if (field == null) {
+			return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("Field {} not found in {} hierarchy", pathSegment, targetClass.getName());
+		}
+		return target -> Fields.getDirect(target, field);
+	}
+
+	ThrowingFunction<Object, Object, Throwable> resolveFieldRetrieverByGetterMethod(Class<?> targetClass, String pathSegment) {
+		MethodHandle methodHandle = Methods.findDirectHandle(
+			targetClass, Methods.createGetterMethodNameByFieldPath(pathSegment)
+		).asType(MethodType.methodType(Object.class, Object.class));
+		return target -> (Object)methodHandle.invokeExact(target);
+	}
+
 	Object retrieveFieldByGetterMethod(Object target, String pathSegment) {
 		if (pathSegment.trim().isEmpty()) {
 			return target;
@@ -314,6 +361,14 @@ public abstract class FieldAccessor implements Component {
 			return retrievers;
 		}
 
+		@Override
+		List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> getFieldRetrieverResolvers() {
+			List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> resolvers = new ArrayList<>();
+			resolvers.add((targetClass, pathSegment) -> resolveFieldRetrieverByDirectAccess(targetClass, pathSegment));
+			resolvers.add((targetClass, pathSegment) -> resolveFieldRetrieverByGetterMethod(targetClass, pathSegment));
+			return resolvers;
+		}
+
 		@Override
 		List<ThrowingFunction<Object[], Boolean, Throwable>> getFieldSetters() {
 			List<ThrowingFunction<Object[], Boolean, Throwable>> setters  = new ArrayList<>();
@@ -342,6 +397,14 @@ public abstract class FieldAccessor implements Component {
 			return retrievers;
 		}
 
+		@Override
+		List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> getFieldRetrieverResolvers() {
+			List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> resolvers = new ArrayList<>();
+			resolvers.add((targetClass, pathSegment) -> resolveFieldRetrieverByGetterMethod(targetClass, pathSegment));
+			resolvers.add((targetClass, pathSegment) -> resolveFieldRetrieverByDirectAccess(targetClass, pathSegment));
+			return resolvers;
+		}
+
 		@Override
 		List<ThrowingFunction<Object[], Boolean, Throwable>> getFieldSetters() {
 			List<ThrowingFunction<Object[], Boolean, Throwable>> retrievers  = new ArrayList<>();
@@ -350,4 +413,185 @@ public abstract class FieldAccessor implements Component {
 			return retrievers;
 		}
 	}
+
+	public static class CompiledPath {
+		//Beyond this number of runtime types for the same segment the accessors are taken from a map
+		private static final int INLINE_CACHE_MAX_SIZE = 4;
+
+		private final String path;
+		private final Segment[] segments;
+
+		private CompiledPath(String path, Segment[] segments) {
+			this.path = path;
+			this.segments = segments;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public <T> T get(Object obj) {
+			Object objToReturn = obj;
+			for (Segment segment : segments) {
+				objToReturn = segment.get(objToReturn);
+			}
+			return (T)objToReturn;
+		}
+
+		static class Segment {
+			private final FieldAccessor fieldAccessor;
+			private final String parentPath;
+			private final String name;
+			private final String[] indexes;
+			private final Integer[] indexesAsInt;
+			private volatile Accessor[] inlineCache;
+			private Map<Class<?>, Accessor> accessors;
+
+			private Segment(FieldAccessor fieldAccessor, String parentPath, String name, String[] indexes) {
+				this.fieldAccessor = fieldAccessor;
+				this.parentPath = parentPath;
+				this.name = name;
+				this.indexes = indexes;
+				this.indexesAsInt = new Integer[indexes.length];
+				for (int i = 0; i < indexes.length; i++) {
+					try {
+						indexesAsInt[i] = Integer.valueOf(indexes[i]);
+					} catch (NumberFormatException exc) {
+						//Used only as key of a Map: it is rejected when the value is an array or a List
+					}
+				}
+				this.inlineCache = new Accessor[0];
+			}
+
+			private Object get(Object target) {
+				if (target == null) {
+					return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+						"Could not access to {}: {} is null", getPath(indexes.length), parentPath != null ? parentPath : "the target object"
+					);
+				}
+				Object value = name.isEmpty() ? target : getAccessor(target.getClass()).get(target);
+				for (int i = 0; i < indexes.length; i++) {
+					if (value == null) {
+						return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+							"Could not access to {}: {} is null", getPath(i + 1), getPath(i)
+						);
+					}
+					value = retrieveFromIndex(value, i);
+				}
+				return value;
+			}
+
+			//Used only to build the messages of the exceptions
+			private String getPath(int indexesCount) {
+				StringBuilder path = new StringBuilder(parentPath != null ? parentPath + "." : "").append(name);
+				for (int i = 0; i < indexesCount; i++) {
+					path.append("[").append(indexes[i]).append("]");
+				}
+				return path.toString();
+			}
+
+			private Accessor getAccessor(Class<?> targetClass) {
+				Accessor[] inlineCache = this.inlineCache;
+				for (Accessor accessor : inlineCache) {
+					if (accessor.targetClass == targetClass) {
+						return accessor;
+					}
+				}
+				Map<Class<?>, Accessor> accessors = this.accessors;
+				Accessor accessor = accessors != null ? accessors.get(targetClass) : null;
+				if (accessor != null) {
+					return accessor;
+				}
+				accessor = new Accessor(targetClass, fieldAccessor, name);
+				synchronized (this) {
+					if (this.inlineCache.length < INLINE_CACHE_MAX_SIZE) {
+						Accessor[] newInlineCache = new Accessor[this.inlineCache.length + 1];
+						System.arraycopy(this.inlineCache, 0, newInlineCache, 0, this.inlineCache.length);
+						newInlineCache[this.inlineCache.length] = accessor;
+						this.inlineCache = newInlineCache;
+					} else {
+						if (this.accessors == null) {
+							this.accessors = new ConcurrentHashMap<>();
+						}
+						this.accessors.put(targetClass, accessor);
+					}
+				}
+				return accessor;
+			}
+
+			private <T> Object retrieveFromIndex(Object value, int i) {
+				if (value.getClass().isArray() || value instanceof List) {
+					Integer index = indexesAsInt[i];
+					if (index == null) {
+						return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
+							"Could not access to {}: {} is not a valid index for a value of type {}", getPath(i + 1), indexes[i], value.getClass().getName()
+						);
+					}
+					return value instanceof List ? ((List<?>)value).get(index) : Array.get(value, index);
+				} else if (value instanceof Map) {
+					return ((Map<?, ?>)value).get(indexes[i]);
+				} else if (value instanceof Collection) {
+					Collection<T> collection = (Collection<T>)value;
+					int indexAsInt = fieldAccessor.convertAndCheckIndex(collection, indexes[i]);
+					Iterator<T> itr = collection.iterator();
+					int currentIterationIndex = 0;
+					while (itr.hasNext()) {
+						Object currentIteartedObject = itr.next();
+						if (currentIterationIndex++ == indexAsInt) {
+							return currentIteartedObject;
+						}
+					}
+					return null;
+				}
+				return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("indexed property {} of type {} is not supporterd", value, value.getClass());
+			}
+
+		}
+
+		//The retrievers of a segment for a runtime type, in the order of the FieldAccessor that compiled the path
+		static class Accessor {
+			private final Class<?> targetClass;
+			private final ThrowingFunction<Object, Object, Throwable>[] retrievers;
+			private final Throwable resolutionException;
+
+			private Accessor(Class<?> targetClass, FieldAccessor fieldAccessor, String name) {
+				this.targetClass = targetClass;
+				List<ThrowingFunction<Object, Object, Throwable>> retrievers = new ArrayList<>();
+				Throwable resolutionException = null;
+				for (ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable> resolver : fieldAccessor.getFieldRetrieverResolvers()) {
+					try {
+						retrievers.add(resolver.apply(targetClass, name));
+					} catch (Throwable exc) {
+						if (resolutionException == null) {
+							resolutionException = exc;
+						}
+					}
+				}
+				this.retrievers = retrievers.toArray(new ThrowingFunction[retrievers.size()]);
+				this.resolutionException = resolutionException;
+			}
+
+			private Object get(Object target) {
+				Object value = null;
+				Throwable exception = resolutionException;
+				int failures = 0;
+				for (ThrowingFunction<Object, Object, Throwable> retriever : retrievers) {
+					try {
+						if ((value = retriever.apply(target)) != null) {
+							return value;
+						}
+					} catch (Throwable exc) {
+						++failures;
+						if (exception == null) {
+							exception = exc;
+						}
+					}
+				}
+				if (failures == retrievers.length) {
+					return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exception);
+				}
+				return value;
+			}
+		}
+	}
 }
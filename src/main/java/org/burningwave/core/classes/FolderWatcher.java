@@ -0,0 +1,305 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.burningwave.core.Closeable;
+
+//Collects, through a WatchService, the files created, modified or deleted in the watched folders
+//so that the hunters can apply only the changes instead of refreshing the whole folders. Every
+//consumer (e.g. a class loader) receives its own copy of the changes of each folder it watches.
+//The absence of events is trusted: the watched files are checked by modification time and size only when
+//the watch key of a folder becomes invalid while the folder still exists, while the lost events (overflow)
+//cause the complete refresh of the folders
+class FolderWatcher implements Closeable {
+	private WatchService watchService;
+	private Map<WatchKey, Path> watchedFolders;
+	private Set<Path> watchedFolderPaths;
+	private Collection<String> rootFolders;
+	//Modification time and size of each watched file as last seen by an event or by a check
+	private Map<String, long[]> fileStates;
+	//For each consumer and for each root folder the value is true if the file has been deleted:
+	//a null change set means that some events have been lost
+	private Map<Object, Map<String, Map<String, Boolean>>> changes;
+
+	private FolderWatcher() {
+		this.watchedFolders = new HashMap<>();
+		this.watchedFolderPaths = new HashSet<>();
+		this.rootFolders = new HashSet<>();
+		this.fileStates = new HashMap<>();
+		this.changes = new WeakHashMap<>();
+	}
+
+	static FolderWatcher create() {
+		return new FolderWatcher();
+	}
+
+	//Returns null if the folder was not watched for the consumer or if some events have been lost: in this
+	//case the changes are unknown and the folder must be completely refreshed
+	synchronized Map<String, Boolean> drainChanges(String folderAbsolutePath, Object consumer) {
+		if (watchService != null) {
+			poll();
+		}
+		if (!rootFolders.contains(folderAbsolutePath)) {
+			register(FileSystems.getDefault().getPath(folderAbsolutePath), false);
+			rootFolders.add(folderAbsolutePath);
+		}
+		Map<String, Map<String, Boolean>> changesOfConsumer = changes.get(consumer);
+		if (changesOfConsumer == null) {
+			changes.put(consumer, changesOfConsumer = new HashMap<>());
+		}
+		if (!changesOfConsumer.containsKey(folderAbsolutePath)) {
+			changesOfConsumer.put(folderAbsolutePath, new HashMap<>());
+			return null;
+		}
+		return changesOfConsumer.put(folderAbsolutePath, new HashMap<>());
+	}
+
+	//Drains the changes of another consumer to which the changes of the folder are being applied: returns null and
+	//leaves the changes untouched if the consumer doesn't watch the folder or if some of its events have been lost
+	synchronized Map<String, Boolean> drainKnownChanges(String folderAbsolutePath, Object consumer) {
+		Map<String, Map<String, Boolean>> changesOfConsumer = changes != null ? changes.get(consumer) : null;
+		if (changesOfConsumer == null || changesOfConsumer.get(folderAbsolutePath) == null) {
+			return null;
+		}
+		return changesOfConsumer.put(folderAbsolutePath, new HashMap<>());
+	}
+
+	//Records the files whose modification time or size differ from the ones last seen and the files that no
+	//longer exist: the changes are recorded for all the consumers because the events have been lost for all of them
+	private void checkModificationTimes(Path rootFolder, String rootFolderAbsolutePath) {
+		Set<String> existingFiles = new HashSet<>();
+		//If the root folder has been deleted all its files are recorded as deleted
+		if (Files.isDirectory(rootFolder)) {
+			recordChangedFiles(rootFolder, existingFiles);
+		}
+		Iterator<String> fileStatesIterator = fileStates.keySet().iterator();
+		String rootFolderPrefix = rootFolderAbsolutePath + "/";
+		Collection<String> deletedFiles = new HashSet<>();
+		while (fileStatesIterator.hasNext()) {
+			String absolutePath = fileStatesIterator.next();
+			if (absolutePath.startsWith(rootFolderPrefix) && !existingFiles.contains(absolutePath)) {
+				fileStatesIterator.remove();
+				deletedFiles.add(absolutePath);
+			}
+		}
+		for (String absolutePath : deletedFiles) {
+			record(absolutePath, Boolean.TRUE);
+		}
+	}
+
+	private void recordChangedFiles(Path rootFolder, Set<String> existingFiles) {
+		try {
+			Files.walkFileTree(rootFolder, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					watch(dir);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					String absolutePath = Paths.clean(file.toString());
+					existingFiles.add(absolutePath);
+					long[] fileState = fileStates.get(absolutePath);
+					if (fileState == null || fileState[0] != attrs.lastModifiedTime().toMillis() || fileState[1] != attrs.size()) {
+						fileStates.put(absolutePath, toFileState(attrs));
+						record(absolutePath, Boolean.FALSE);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					//The file has been deleted during the walk
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException exc) {
+			Driver.throwException(exc);
+		}
+	}
+
+	private long[] toFileState(BasicFileAttributes attrs) {
+		return new long[] {attrs.lastModifiedTime().toMillis(), attrs.size()};
+	}
+
+	private void updateFileState(Path file, String absolutePath) {
+		try {
+			fileStates.put(absolutePath, toFileState(Files.readAttributes(file, BasicFileAttributes.class)));
+		} catch (IOException exc) {
+			//The file has been deleted after the event: its deletion will be notified
+			fileStates.remove(absolutePath);
+		}
+	}
+
+	private void poll() {
+		WatchKey watchKey;
+		while ((watchKey = watchService.poll()) != null) {
+			Path folder = watchedFolders.get(watchKey);
+			for (WatchEvent<?> event : watchKey.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW || folder == null) {
+					for (Map<String, Map<String, Boolean>> changesOfConsumer : changes.values()) {
+						changesOfConsumer.replaceAll((rootFolder, changesOfFolder) -> null);
+					}
+					continue;
+				}
+				Path path = folder.resolve((Path)event.context());
+				String absolutePath = Paths.clean(path.toString());
+				if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+					String pathPrefix = absolutePath + "/";
+					fileStates.remove(absolutePath);
+					fileStates.keySet().removeIf(key -> key.startsWith(pathPrefix));
+					record(absolutePath, Boolean.TRUE);
+				} else if (Files.isDirectory(path)) {
+					//The changes inside an already watched folder are notified by its own events
+					if (!watchedFolderPaths.contains(path)) {
+						register(path, true);
+					}
+				} else {
+					updateFileState(path, absolutePath);
+					record(absolutePath, Boolean.FALSE);
+				}
+			}
+			if (!watchKey.reset()) {
+				watchedFolderPaths.remove(watchedFolders.remove(watchKey));
+				if (folder != null) {
+					checkInvalidatedFolder(folder);
+				}
+			}
+		}
+	}
+
+	//A deleted sub folder is notified by the events of its parent: the root folders are checked if the
+	//invalidated folder is one of them or if it still exists, because in this case its events are lost
+	private void checkInvalidatedFolder(Path folder) {
+		String folderAbsolutePath = Paths.clean(folder.toString());
+		boolean exists = Files.isDirectory(folder);
+		for (String rootFolder : rootFolders) {
+			if (rootFolder.equals(folderAbsolutePath) || (exists && folderAbsolutePath.startsWith(rootFolder + "/"))) {
+				checkModificationTimes(FileSystems.getDefault().getPath(rootFolder), rootFolder);
+			}
+		}
+	}
+
+	private void record(String absolutePath, Boolean deleted) {
+		for (Map<String, Map<String, Boolean>> changesOfConsumer : changes.values()) {
+			for (Map.Entry<String, Map<String, Boolean>> changesOfFolder : changesOfConsumer.entrySet()) {
+				if (changesOfFolder.getValue() != null && absolutePath.startsWith(changesOfFolder.getKey() + "/")) {
+					changesOfFolder.getValue().put(absolutePath, deleted);
+				}
+			}
+		}
+	}
+
+	//Registers the folder and all its sub folders: when a new sub folder is registered the files already present
+	//are recorded as created because they could have been added before the registration
+	private void register(Path folder, boolean recordFilesAsCreated) {
+		try {
+			if (watchService == null) {
+				watchService = FileSystems.getDefault().newWatchService();
+			}
+			Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					watch(dir);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					String absolutePath = Paths.clean(file.toString());
+					fileStates.put(absolutePath, toFileState(attrs));
+					if (recordFilesAsCreated) {
+						record(absolutePath, Boolean.FALSE);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException exc) {
+			Driver.throwException(exc);
+		}
+	}
+
+	private void watch(Path folder) throws IOException {
+		if (watchService == null) {
+			watchService = FileSystems.getDefault().newWatchService();
+		}
+		if (watchedFolderPaths.add(folder)) {
+			watchedFolders.put(
+				folder.register(
+					watchService,
+					StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY,
+					StandardWatchEventKinds.ENTRY_DELETE
+				),
+				folder
+			);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			if (watchService != null) {
+				watchService.close();
+			}
+		} catch (IOException exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Exception occurred while closing watch service: {}", exc.toString());
+		}
+		watchService = null;
+		watchedFolders = null;
+		watchedFolderPaths = null;
+		rootFolders = null;
+		fileStates = null;
+		changes = null;
+	}
+}
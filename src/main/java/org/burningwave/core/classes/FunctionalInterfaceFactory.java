@@ -50,6 +50,10 @@ public interface FunctionalInterfaceFactory {
 
 	public <T> T getOrCreateSupplier(Class<?> targetClass, String methodName);
 
+	public <T> T getOrCreatePrimitiveSpecialized(Class<?> targetClass, String methodName, Class<?>... argumentTypes);
+
+	public <F> F getOrCreatePrimitiveSpecialized(Executable executable);
+
 	public <T> Class<T> loadOrBuildAndDefineFunctionSubType(int parametersCount);
 
 	public <T> Class<T> loadOrBuildAndDefineFunctionSubType(ClassLoader classLoader, int parametersLength);
@@ -62,5 +66,7 @@ public interface FunctionalInterfaceFactory {
 
 	public <T> Class<T> loadOrBuildAndDefinePredicateSubType(ClassLoader classLoader, int parametersLength);
 
+	public <T> Class<T> loadOrBuildAndDefinePrimitiveSpecializedSubType(ClassLoader classLoader, Class<?>[] parameterTypes, Class<?> returnType);
+
 
 }
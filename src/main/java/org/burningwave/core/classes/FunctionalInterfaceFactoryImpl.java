@@ -44,14 +44,52 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -63,6 +101,49 @@ import org.burningwave.core.function.ThrowingSupplier;
 
 @SuppressWarnings("unchecked")
 class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Component {
+	private static final Map<MethodType, Map.Entry<Class<?>, String>> PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES;
+
+	static {
+		Map<MethodType, Map.Entry<Class<?>, String>> functionalInterfaces = new HashMap<>();
+		putPrimitiveSpecialized(functionalInterfaces, BooleanSupplier.class, "getAsBoolean", boolean.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntSupplier.class, "getAsInt", int.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongSupplier.class, "getAsLong", long.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleSupplier.class, "getAsDouble", double.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntUnaryOperator.class, "applyAsInt", int.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntToLongFunction.class, "applyAsLong", long.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntToDoubleFunction.class, "applyAsDouble", double.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntPredicate.class, "test", boolean.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntFunction.class, "apply", Object.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntConsumer.class, "accept", void.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, IntBinaryOperator.class, "applyAsInt", int.class, int.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongUnaryOperator.class, "applyAsLong", long.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongToIntFunction.class, "applyAsInt", int.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongToDoubleFunction.class, "applyAsDouble", double.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongPredicate.class, "test", boolean.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongFunction.class, "apply", Object.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongConsumer.class, "accept", void.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, LongBinaryOperator.class, "applyAsLong", long.class, long.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleUnaryOperator.class, "applyAsDouble", double.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleToIntFunction.class, "applyAsInt", int.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleToLongFunction.class, "applyAsLong", long.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoublePredicate.class, "test", boolean.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleFunction.class, "apply", Object.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleConsumer.class, "accept", void.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, DoubleBinaryOperator.class, "applyAsDouble", double.class, double.class, double.class);
+		putPrimitiveSpecialized(functionalInterfaces, ToIntFunction.class, "applyAsInt", int.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, ToLongFunction.class, "applyAsLong", long.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, ToDoubleFunction.class, "applyAsDouble", double.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, Predicate.class, "test", boolean.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, ToIntBiFunction.class, "applyAsInt", int.class, Object.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, ToLongBiFunction.class, "applyAsLong", long.class, Object.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, ToDoubleBiFunction.class, "applyAsDouble", double.class, Object.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, BiPredicate.class, "test", boolean.class, Object.class, Object.class);
+		putPrimitiveSpecialized(functionalInterfaces, ObjIntConsumer.class, "accept", void.class, Object.class, int.class);
+		putPrimitiveSpecialized(functionalInterfaces, ObjLongConsumer.class, "accept", void.class, Object.class, long.class);
+		putPrimitiveSpecialized(functionalInterfaces, ObjDoubleConsumer.class, "accept", void.class, Object.class, double.class);
+		PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES = functionalInterfaces;
+	}
+
 	private ClassFactory classFactory;
 	private FunctionalInterfaceSourceGenerator sourceCodeGenerator;
 
@@ -109,6 +190,11 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		return getOrCreate(retrieveMethod(targetClass, methodName, argumentTypes));
 	}
 
+	@Override
+	public <T> T getOrCreatePrimitiveSpecialized(Class<?> targetClass, String methodName, Class<?>... argumentTypes) {
+		return getOrCreatePrimitiveSpecialized(retrieveMethod(targetClass, methodName, argumentTypes));
+	}
+
 	private Method retrieveMethod(Class<?> targetClass, String methodName, Class<?>... argumentTypes) {
 		Method method = Methods.findFirstAndMakeItAccessible(targetClass, methodName, argumentTypes);
 		if (method == null) {
@@ -150,6 +236,65 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		return null;
 	}
 
+	@Override
+	public <F> F getOrCreatePrimitiveSpecialized(Executable executable) {
+		MethodType functionalInterfaceSignature = retrievePrimitiveSpecializedSignature(executable);
+		if (functionalInterfaceSignature == null) {
+			return getOrCreate(executable);
+		}
+		return (F) Cache.bindedFunctionalInterfaces.getOrUploadIfAbsent(
+			Classes.getClassLoader(executable.getDeclaringClass()),
+			getCacheKey(executable) + "/primitive-specialized", () ->
+			Executor.get(() -> {
+				Supplier<Members.Handler.OfExecutable.Box<? extends Executable>> methodHandleBoxSupplier =
+					executable instanceof Constructor ?
+						() -> Constructors.findDirectHandleBox((Constructor<?>)executable) :
+						() -> Methods.findDirectHandleBox((Method)executable);
+				return bindTo(
+					methodHandleBoxSupplier, () ->
+					Optional.ofNullable(
+						PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES.get(functionalInterfaceSignature)
+					).orElseGet(() ->
+						new AbstractMap.SimpleEntry<>(
+							loadOrBuildAndDefinePrimitiveSpecializedSubType(
+								executable.getDeclaringClass().getClassLoader(),
+								functionalInterfaceSignature.parameterArray(),
+								functionalInterfaceSignature.returnType()
+							),
+							retrievePrimitiveSpecializedMethodName(functionalInterfaceSignature.returnType())
+						)
+					),
+					methodHandle ->
+						functionalInterfaceSignature
+				);
+			})
+		);
+	}
+
+	//Keeps the primitive types of the executable, erases the other ones to Object and returns null if no primitive is involved
+	MethodType retrievePrimitiveSpecializedSignature(Executable executable) {
+		List<Class<?>> parameterTypes = new ArrayList<>();
+		if (executable instanceof Method && !Modifier.isStatic(executable.getModifiers())) {
+			parameterTypes.add(Object.class);
+		}
+		boolean primitiveFound = false;
+		for (Class<?> parameterType : executable.getParameterTypes()) {
+			if (parameterType.isPrimitive()) {
+				parameterTypes.add(parameterType);
+				primitiveFound = true;
+			} else {
+				parameterTypes.add(Object.class);
+			}
+		}
+		Class<?> returnType = executable instanceof Method ? ((Method)executable).getReturnType() : Object.class;
+		if (returnType.isPrimitive()) {
+			primitiveFound = primitiveFound || returnType != void.class;
+		} else {
+			returnType = Object.class;
+		}
+		return primitiveFound ? MethodType.methodType(returnType, parameterTypes) : null;
+	}
+
 	<F> F getOrCreateBindedRunnable(Executable executable) {
 		return (F) Cache.bindedFunctionalInterfaces.getOrUploadIfAbsent(
 			Classes.getClassLoader(executable.getDeclaringClass()),
@@ -312,6 +457,29 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		);
 	}
 
+	@Override
+	public <T> Class<T> loadOrBuildAndDefinePrimitiveSpecializedSubType(ClassLoader classLoader, Class<?>[] parameterTypes, Class<?> returnType) {
+		//The name is made from the descriptor of the signature where every non primitive type is marked with 'L', e.g.:
+		//(Object, long, double) -> int becomes FunctionForLJDParametersReturningI
+		String signatureCode = MethodType.methodType(returnType, parameterTypes).toMethodDescriptorString().replace(
+			"Ljava/lang/Object;", "L"
+		);
+		String parametersCode = signatureCode.substring(1, signatureCode.indexOf(")"));
+		String returnTypeCode = signatureCode.substring(signatureCode.indexOf(")") + 1);
+		String functionalInterfaceName = returnType == void.class ?
+			"ConsumerFor" + parametersCode + "Parameters" :
+			returnType == boolean.class ?
+				"PredicateFor" + parametersCode + "Parameters" :
+				"FunctionFor" + parametersCode + "ParametersReturning" + returnTypeCode;
+		return loadOrBuildAndDefineFunctionInterfaceSubType(
+			classLoader,
+			MultiParamsFunction.class.getPackage().getName() + "." + functionalInterfaceName,
+			className -> UnitSourceGenerator.create(Classes.retrievePackageName(className)).addClass(
+				sourceCodeGenerator.generatePrimitiveSpecialized(className, parameterTypes, returnType)
+			)
+		);
+	}
+
 	private <T> Class<T> loadOrBuildAndDefineFunctionInterfaceSubType(
 		ClassLoader classLoader,
 		String classNamePrefix,
@@ -321,10 +489,21 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 	) {
 		String functionalInterfaceName = classNamePrefix + parametersLength +	classNameSuffix;
 		String packageName = MultiParamsFunction.class.getPackage().getName();
-		String className = packageName + "." + functionalInterfaceName;
+		return loadOrBuildAndDefineFunctionInterfaceSubType(
+			classLoader,
+			packageName + "." + functionalInterfaceName,
+			className -> unitSourceGeneratorSupplier.apply(className, parametersLength)
+		);
+	}
+
+	private <T> Class<T> loadOrBuildAndDefineFunctionInterfaceSubType(
+		ClassLoader classLoader,
+		String className,
+		Function<String, UnitSourceGenerator> unitSourceGeneratorSupplier
+	) {
 		try (ClassRetriever classRetriever = classFactory.loadOrBuildAndDefine(
 			LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
-				unitSourceGeneratorSupplier.apply(className, parametersLength)
+				unitSourceGeneratorSupplier.apply(className)
 			).useClassLoader(
 				classLoader
 			)
@@ -351,6 +530,23 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		).getTarget().invokeWithArguments();
 	}
 
+	private static void putPrimitiveSpecialized(
+		Map<MethodType, Map.Entry<Class<?>, String>> functionalInterfaces,
+		Class<?> functionalInterface,
+		String methodName,
+		Class<?> returnType,
+		Class<?>... parameterTypes
+	) {
+		functionalInterfaces.put(
+			MethodType.methodType(returnType, parameterTypes),
+			new AbstractMap.SimpleEntry<>(functionalInterface, methodName)
+		);
+	}
+
+	String retrievePrimitiveSpecializedMethodName(Class<?> returnType) {
+		return returnType == void.class ? "accept" : returnType == boolean.class ? "test" : "apply";
+	}
+
 	Class<?> retrieveClass(Class<?> cls, Function<Integer, Class<?>> classRetriever, int parametersCount) throws ClassNotFoundException {
 		if (parametersCount < 3) {
 			String className = parametersCount == 2 ?
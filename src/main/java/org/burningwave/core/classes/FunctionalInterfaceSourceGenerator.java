@@ -185,4 +185,66 @@ public class FunctionalInterfaceSourceGenerator {
 		return cls;
 	}
 
+	public ClassSourceGenerator generatePrimitiveSpecialized(String className, Class<?>[] parameterTypes, Class<?> returnType) {
+		String classSimpleName = Classes.retrieveSimpleName(className);
+		if (className.contains("$")) {
+			org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("{} functional interface could not be a inner class", className);
+		}
+		String methodName = returnType == void.class ? "accept" : returnType == boolean.class ? "test" : "apply";
+		TypeDeclarationSourceGenerator typeDeclaration = TypeDeclarationSourceGenerator.create(classSimpleName);
+		GenericSourceGenerator genericReturnType = returnType.isPrimitive() ? null : GenericSourceGenerator.create("R");
+		FunctionSourceGenerator abstractMethod = FunctionSourceGenerator.create(methodName).addModifier(Modifier.PUBLIC | Modifier.ABSTRACT);
+		FunctionSourceGenerator varArgsMethod = FunctionSourceGenerator.create(methodName).addModifier(Modifier.PUBLIC).setDefault().addParameter(
+			VariableSourceGenerator.create(TypeDeclarationSourceGenerator.create("Object..."), "params")
+		).addOuterCodeLine("@Override");
+		TypeDeclarationSourceGenerator superType;
+		if (genericReturnType != null) {
+			abstractMethod.setReturnType(genericReturnType);
+			varArgsMethod.setReturnType(genericReturnType);
+			superType = TypeDeclarationSourceGenerator.create(MultiParamsFunction.class).addGeneric(genericReturnType);
+		} else {
+			abstractMethod.setReturnType(returnType);
+			if (returnType == void.class) {
+				varArgsMethod.setReturnType(void.class);
+				superType = TypeDeclarationSourceGenerator.create(MultiParamsConsumer.class);
+			} else if (returnType == boolean.class) {
+				varArgsMethod.setReturnType(boolean.class);
+				superType = TypeDeclarationSourceGenerator.create(MultiParamsPredicate.class);
+			} else {
+				Class<?> wrapperType = Classes.getClassOrWrapper(returnType);
+				varArgsMethod.setReturnType(wrapperType);
+				superType = TypeDeclarationSourceGenerator.create(MultiParamsFunction.class).addGeneric(GenericSourceGenerator.create(wrapperType));
+			}
+		}
+		varArgsMethod.addBodyCodeLine((returnType == void.class ? "" : "return ") + methodName + "(");
+		BodySourceGenerator varArgsMethodCode = BodySourceGenerator.createSimple().setBodyElementSeparator(", ");
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (parameterTypes[i].isPrimitive()) {
+				abstractMethod.addParameter(VariableSourceGenerator.create(TypeDeclarationSourceGenerator.create(parameterTypes[i]), "p" + i));
+				varArgsMethodCode.addCode("(" + parameterTypes[i].getName() + ")params["+i+"]");
+			} else {
+				typeDeclaration.addGeneric(GenericSourceGenerator.create("P" + i));
+				abstractMethod.addParameter(VariableSourceGenerator.create(TypeDeclarationSourceGenerator.create("P" + i), "p" + i));
+				varArgsMethodCode.addCode("(P" + i + ")params["+i+"]");
+			}
+		}
+		varArgsMethod.addBodyElement(varArgsMethodCode);
+		varArgsMethod.addBodyCode(");");
+		if (genericReturnType != null) {
+			typeDeclaration.addGeneric(genericReturnType);
+		}
+		ClassSourceGenerator cls = ClassSourceGenerator.createInterface(
+			typeDeclaration
+		).addModifier(
+			Modifier.PUBLIC
+		).expands(
+			superType
+		).addMethod(
+			abstractMethod
+		).addMethod(
+			varArgsMethod
+		).addOuterCodeLine("@FunctionalInterface");
+		return cls;
+	}
+
 }
\ No newline at end of file
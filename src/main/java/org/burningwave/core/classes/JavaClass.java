@@ -30,9 +30,17 @@ package org.burningwave.core.classes;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Consumer;
 
 import org.burningwave.core.Closeable;
@@ -41,6 +49,7 @@ import org.burningwave.core.io.FileSystemItem;
 
 public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implements Closeable {
 	private ByteBuffer byteCode;
+	private ClassFile classFile;
 
 	public JavaClass(Class<?> cls) {
 		this(Classes.getByteCode(cls));
@@ -104,6 +113,71 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 		return path;
 	}
 
+	public int getAccessFlags() {
+		return getClassFile().accessFlags;
+	}
+
+	public String getSuperClassName() {
+		return getClassFile().superClassName;
+	}
+
+	public Collection<String> getInterfaceNames() {
+		return getClassFile().interfaceNames;
+	}
+
+	public Collection<String> getAnnotationNames() {
+		return getClassFile().annotationNames;
+	}
+
+	public Collection<MemberInfo> getFields() {
+		return getClassFile().fields;
+	}
+
+	public Collection<MemberInfo> getMethods() {
+		return getClassFile().methods;
+	}
+
+	ClassFile getClassFile() {
+		ClassFile classFile = this.classFile;
+		if (classFile == null) {
+			synchronized (this) {
+				if ((classFile = this.classFile) == null) {
+					this.classFile = classFile = new ClassFile(getByteCode0());
+				}
+			}
+		}
+		return classFile;
+	}
+
+	void setClassFile(ClassFile classFile) {
+		this.classFile = classFile;
+	}
+
+	//Builds a class file that declares only the name of the class: it is used to create the JavaClasses whose
+	//structure is restored from the class path index without reading their byte code
+	static ByteBuffer toNameOnlyByteCode(String className) {
+		ByteArrayOutputStream byteCode = new ByteArrayOutputStream();
+		try (DataOutputStream outputStream = new DataOutputStream(byteCode)) {
+			outputStream.writeInt(0xCAFEBABE);
+			outputStream.writeShort(0);
+			outputStream.writeShort(52);
+			outputStream.writeShort(3);
+			outputStream.writeByte(1);
+			outputStream.writeUTF(className.replace('.', '/'));
+			outputStream.writeByte(7);
+			outputStream.writeShort(1);
+			//Access flags, this class, super class and the counts of interfaces, fields, methods and attributes
+			outputStream.writeShort(0);
+			outputStream.writeShort(2);
+			for (int i = 0; i < 5; i++) {
+				outputStream.writeShort(0);
+			}
+		} catch (IOException exc) {
+			return Driver.throwException(exc);
+		}
+		return ByteBuffer.wrap(byteCode.toByteArray());
+	}
+
 	public ByteBuffer getByteCode() {
 		return BufferHandler.duplicate(getByteCode0());
 	}
@@ -133,8 +207,232 @@ public class JavaClass extends io.github.toolfactory.jvm.util.JavaClass implemen
 
 	}
 
+	public static class MemberInfo implements Serializable {
+		private static final long serialVersionUID = 2637914384725401738L;
+
+		private final int accessFlags;
+		private final String name;
+		private final String descriptor;
+		private final Collection<String> annotationNames;
+
+		MemberInfo(int accessFlags, String name, String descriptor, Collection<String> annotationNames) {
+			this.accessFlags = accessFlags;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.annotationNames = annotationNames;
+		}
+
+		public int getAccessFlags() {
+			return accessFlags;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescriptor() {
+			return descriptor;
+		}
+
+		public Collection<String> getAnnotationNames() {
+			return annotationNames;
+		}
+
+		@Override
+		public String toString() {
+			return name + descriptor;
+		}
+	}
+
+	//Reads the class file structure (JVMS chapter 4) without defining the class: only the constant pool
+	//entries and the attributes needed by the byte code level criteria are retained
+	static class ClassFile implements Serializable {
+		private static final long serialVersionUID = -5810365948032167127L;
+		private final static String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+		private final static String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+
+		private transient final ByteBuffer byteCode;
+		private transient final Object[] constantPool;
+		final int accessFlags;
+		final String className;
+		final String superClassName;
+		final Collection<String> interfaceNames;
+		final Collection<String> annotationNames;
+		final Collection<MemberInfo> fields;
+		final Collection<MemberInfo> methods;
+
+		ClassFile(ByteBuffer byteCode) {
+			this.byteCode = BufferHandler.duplicate(byteCode);
+			skip(8);
+			int constantPoolCount = readUnsignedShort();
+			constantPool = new Object[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; i++) {
+				int tag = this.byteCode.get() & 0xFF;
+				switch (tag) {
+					case 1 :
+						constantPool[i] = readUTF8();
+						break;
+					case 7 :
+						constantPool[i] = Integer.valueOf(readUnsignedShort());
+						break;
+					case 5 : case 6 :
+						skip(8);
+						i++;
+						break;
+					case 3 : case 4 : case 9 : case 10 : case 11 : case 12 : case 17 : case 18 :
+						skip(4);
+						break;
+					case 15 :
+						skip(3);
+						break;
+					case 8 : case 16 : case 19 : case 20 :
+						skip(2);
+						break;
+					default :
+						throw new IllegalArgumentException("Unknown constant pool tag " + tag + " at index " + i);
+				}
+			}
+			accessFlags = readUnsignedShort();
+			className = readClassName(readUnsignedShort());
+			superClassName = readClassName(readUnsignedShort());
+			int interfacesCount = readUnsignedShort();
+			Collection<String> interfaceNames = new ArrayList<>(interfacesCount);
+			for (int i = 0; i < interfacesCount; i++) {
+				interfaceNames.add(readClassName(readUnsignedShort()));
+			}
+			this.interfaceNames = Collections.unmodifiableCollection(interfaceNames);
+			fields = readMembers();
+			methods = readMembers();
+			annotationNames = readAttributes();
+		}
+
+		//Rebuilds a class file structure stored by the class path index: the byte code is not available
+		ClassFile(
+			int accessFlags,
+			String className,
+			String superClassName,
+			Collection<String> interfaceNames,
+			Collection<String> annotationNames,
+			Collection<MemberInfo> fields,
+			Collection<MemberInfo> methods
+		) {
+			this.byteCode = null;
+			this.constantPool = null;
+			this.accessFlags = accessFlags;
+			this.className = className;
+			this.superClassName = superClassName;
+			this.interfaceNames = interfaceNames;
+			this.annotationNames = annotationNames;
+			this.fields = fields;
+			this.methods = methods;
+		}
+
+		private Collection<MemberInfo> readMembers() {
+			int membersCount = readUnsignedShort();
+			Collection<MemberInfo> members = new ArrayList<>(membersCount);
+			for (int i = 0; i < membersCount; i++) {
+				int accessFlags = readUnsignedShort();
+				String name = (String)constantPool[readUnsignedShort()];
+				String descriptor = (String)constantPool[readUnsignedShort()];
+				members.add(new MemberInfo(accessFlags, name, descriptor, readAttributes()));
+			}
+			return Collections.unmodifiableCollection(members);
+		}
+
+		private Collection<String> readAttributes() {
+			int attributesCount = readUnsignedShort();
+			Collection<String> annotationNames = null;
+			for (int i = 0; i < attributesCount; i++) {
+				String attributeName = (String)constantPool[readUnsignedShort()];
+				int attributeLength = byteCode.getInt();
+				if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName) || RUNTIME_INVISIBLE_ANNOTATIONS.equals(attributeName)) {
+					int annotationsCount = readUnsignedShort();
+					if (annotationNames == null) {
+						annotationNames = new ArrayList<>(annotationsCount);
+					}
+					for (int j = 0; j < annotationsCount; j++) {
+						annotationNames.add(readAnnotation());
+					}
+				} else {
+					skip(attributeLength);
+				}
+			}
+			return annotationNames != null ?
+				Collections.unmodifiableCollection(annotationNames) :
+				Collections.emptyList();
+		}
+
+		private String readAnnotation() {
+			String typeDescriptor = (String)constantPool[readUnsignedShort()];
+			int elementValuePairsCount = readUnsignedShort();
+			for (int i = 0; i < elementValuePairsCount; i++) {
+				skip(2);
+				skipElementValue();
+			}
+			return toClassName(typeDescriptor.substring(1, typeDescriptor.length() - 1));
+		}
+
+		private void skipElementValue() {
+			char tag = (char)(byteCode.get() & 0xFF);
+			switch (tag) {
+				case 'e' :
+					skip(4);
+					break;
+				case '@' :
+					readAnnotation();
+					break;
+				case '[' :
+					int valuesCount = readUnsignedShort();
+					for (int i = 0; i < valuesCount; i++) {
+						skipElementValue();
+					}
+					break;
+				default :
+					skip(2);
+			}
+		}
+
+		private String readClassName(int classInfoIndex) {
+			if (classInfoIndex == 0) {
+				return null;
+			}
+			return toClassName((String)constantPool[(Integer)constantPool[classInfoIndex]]);
+		}
+
+		private String toClassName(String internalName) {
+			return internalName.replace('/', '.');
+		}
+
+		private int readUnsignedShort() {
+			return byteCode.getShort() & 0xFFFF;
+		}
+
+		private void skip(int bytesCount) {
+			BufferHandler.position(byteCode, BufferHandler.position(byteCode) + bytesCount);
+		}
+
+		//Decodes the modified UTF-8 format used by the class file constant pool
+		private String readUTF8() {
+			int length = readUnsignedShort();
+			int end = BufferHandler.position(byteCode) + length;
+			StringBuilder value = new StringBuilder(length);
+			while (BufferHandler.position(byteCode) < end) {
+				int firstByte = byteCode.get() & 0xFF;
+				if (firstByte < 0x80) {
+					value.append((char)firstByte);
+				} else if ((firstByte & 0xE0) == 0xC0) {
+					value.append((char)(((firstByte & 0x1F) << 6) | (byteCode.get() & 0x3F)));
+				} else {
+					value.append((char)(((firstByte & 0x0F) << 12) | ((byteCode.get() & 0x3F) << 6) | (byteCode.get() & 0x3F)));
+				}
+			}
+			return value.toString();
+		}
+	}
+
 	@Override
 	public void close() {
 		byteCode = null;
+		classFile = null;
 	}
 }
\ No newline at end of file
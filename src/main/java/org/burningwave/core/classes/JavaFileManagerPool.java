@@ -0,0 +1,290 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.function.Executor;
+
+//Keeps the file managers of the compiler opened between the compilations with the same options
+//so that the archives of the class path are not opened and indexed again at each compilation
+class JavaFileManagerPool implements Component {
+	private JavaCompiler compiler;
+	private Map<String, Deque<Entry>> entries;
+	private int size;
+
+	private JavaFileManagerPool(JavaCompiler compiler) {
+		this.compiler = compiler;
+		//Ordered by access so that the file managers of the least recently used options are closed first
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	static JavaFileManagerPool create(JavaCompiler compiler) {
+		return new JavaFileManagerPool(compiler);
+	}
+
+	//The options must be the ones of the first attempt of a compilation: the class path added on the next attempts
+	//doesn't change the key so that the same file managers are reused. The folders of the class path are walked to
+	//check their content only if they have not been checked in the last foldersRevalidationInterval milliseconds
+	Entry get(Map<String, String> options, DiagnosticListener<JavaFileObject> diagnosticListener, int maxSize, long foldersRevalidationInterval) {
+		String key = new TreeMap<>(options).toString();
+		Entry entry = null;
+		if (maxSize > 0) {
+			synchronized (this) {
+				Deque<Entry> entriesForOptions = entries != null ? entries.get(key) : null;
+				if (entriesForOptions != null) {
+					entry = entriesForOptions.pollFirst();
+					if (entriesForOptions.isEmpty()) {
+						entries.remove(key);
+					}
+					if (entry != null) {
+						--size;
+					}
+				}
+			}
+			if (entry != null && !entry.isValid(foldersRevalidationInterval)) {
+				ManagedLoggerRepository.logInfo(getClass()::getName, "Class path changed: closing pooled file manager");
+				entry.close();
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			entry = new Entry(this, key, options.get("-classpath"), maxSize > 0);
+		}
+		entry.diagnosticListener = diagnosticListener;
+		return entry;
+	}
+
+	private void release(Entry entry, Collection<String> classPaths, int maxSize) {
+		entry.diagnosticListener = null;
+		if (entry.pooled && !entry.discarded) {
+			entry.addToFingerprint(classPaths);
+		}
+		if (entry.pooled && !entry.discarded) {
+			Entry eldestEntry = null;
+			synchronized (this) {
+				if (entries != null) {
+					entries.computeIfAbsent(entry.key, key -> new ArrayDeque<>()).addFirst(entry);
+					entry = null;
+					if (++size > maxSize) {
+						Iterator<Deque<Entry>> entriesIterator = entries.values().iterator();
+						Deque<Entry> eldestEntries = entriesIterator.next();
+						eldestEntry = eldestEntries.pollLast();
+						if (eldestEntries.isEmpty()) {
+							entriesIterator.remove();
+						}
+						--size;
+					}
+				}
+			}
+			if (eldestEntry != null) {
+				eldestEntry.close();
+			}
+		}
+		if (entry != null) {
+			entry.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		Map<String, Deque<Entry>> entries;
+		synchronized (this) {
+			entries = this.entries;
+			this.entries = null;
+			size = 0;
+		}
+		if (entries != null) {
+			for (Deque<Entry> entriesForOptions : entries.values()) {
+				for (Entry entry : entriesForOptions) {
+					entry.close();
+				}
+			}
+		}
+		compiler = null;
+	}
+
+	static class Entry implements DiagnosticListener<JavaFileObject> {
+		private final JavaFileManagerPool pool;
+		private final String key;
+		private final Map<String, String> classPathsFingerprint;
+		private final boolean pooled;
+		private final StandardJavaFileManager fileManager;
+		private volatile DiagnosticListener<JavaFileObject> diagnosticListener;
+		private boolean discarded;
+		private long foldersValidationTime;
+
+		private Entry(JavaFileManagerPool pool, String key, String classPaths, boolean pooled) {
+			this.pool = pool;
+			this.key = key;
+			this.foldersValidationTime = System.currentTimeMillis();
+			this.classPathsFingerprint = computeFingerprint(classPaths);
+			this.pooled = pooled;
+			this.fileManager = pool.compiler.getStandardFileManager(this, null, null);
+		}
+
+		StandardJavaFileManager getFileManager() {
+			return fileManager;
+		}
+
+		@Override
+		public void report(Diagnostic<? extends JavaFileObject> diagnostic) {
+			DiagnosticListener<JavaFileObject> diagnosticListener = this.diagnosticListener;
+			if (diagnosticListener != null) {
+				diagnosticListener.report(diagnostic);
+			}
+		}
+
+		//The file manager will be closed instead of being returned to the pool
+		void discard() {
+			discarded = true;
+		}
+
+		//The class paths are the ones used by the file manager until now: the ones that were not in the
+		//initial class path are added to the fingerprint
+		void release(Collection<String> classPaths, int maxSize) {
+			pool.release(this, classPaths, maxSize);
+		}
+
+		private void addToFingerprint(Collection<String> classPaths) {
+			Collection<String> newClassPaths = new HashSet<>();
+			for (String classPath : classPaths) {
+				if (!classPathsFingerprint.containsKey(classPath)) {
+					newClassPaths.add(classPath);
+				}
+			}
+			if (!newClassPaths.isEmpty()) {
+				classPathsFingerprint.putAll(computeFingerprint(newClassPaths));
+			}
+		}
+
+		//The archives are always checked since only their size and last modified time are read
+		private boolean isValid(long foldersRevalidationInterval) {
+			long now = System.currentTimeMillis();
+			boolean revalidateFolders = now - foldersValidationTime >= foldersRevalidationInterval;
+			for (Map.Entry<String, String> classPathAndFingerprint : classPathsFingerprint.entrySet()) {
+				String classPath = classPathAndFingerprint.getKey();
+				if (!revalidateFolders && new File(classPath).isDirectory()) {
+					continue;
+				}
+				String fingerprint = JavaFileManagerPool.computeFingerprint(classPath);
+				if (fingerprint != null ? !fingerprint.equals(classPathAndFingerprint.getValue()) : classPathAndFingerprint.getValue() != null) {
+					return false;
+				}
+			}
+			if (revalidateFolders) {
+				foldersValidationTime = now;
+			}
+			return true;
+		}
+
+		private void close() {
+			Executor.run(() -> fileManager.close());
+		}
+
+		private static Map<String, String> computeFingerprint(String classPaths) {
+			Collection<String> classPathsAsCollection = new HashSet<>();
+			if (classPaths != null) {
+				for (String classPath : classPaths.split(File.pathSeparator)) {
+					if (!classPath.isEmpty()) {
+						classPathsAsCollection.add(classPath);
+					}
+				}
+			}
+			return computeFingerprint(classPathsAsCollection);
+		}
+
+		//The archives opened by the file manager are cached: they must not change while it is pooled
+		private static Map<String, String> computeFingerprint(Iterable<String> classPaths) {
+			Map<String, String> fingerprint = new HashMap<>();
+			for (String classPath : classPaths) {
+				fingerprint.put(classPath, JavaFileManagerPool.computeFingerprint(classPath));
+			}
+			return fingerprint;
+		}
+	}
+
+	//The size and the last modified time of a directory don't change when a file in a sub directory changes,
+	//so the directories are fingerprinted on all the files they contain
+	static String computeFingerprint(String classPath) {
+		File file = new File(classPath);
+		if (!file.exists()) {
+			return null;
+		}
+		if (!file.isDirectory()) {
+			return file.length() + "@" + file.lastModified();
+		}
+		Path root = file.toPath();
+		long[] countSizeAndHash = new long[3];
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+					long hash = root.relativize(path).toString().hashCode();
+					hash = 31 * hash + attributes.size();
+					hash = 31 * hash + attributes.lastModifiedTime().toMillis();
+					//Summed so that the result doesn't depend on the visit order
+					countSizeAndHash[0]++;
+					countSizeAndHash[1] += attributes.size();
+					countSizeAndHash[2] += hash * 0x9E3779B97F4A7C15L;
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException exc) {
+			ManagedLoggerRepository.logWarn(JavaFileManagerPool.class::getName, "Could not compute the fingerprint of {}: {}", classPath, exc.getMessage());
+			//A fingerprint that never matches
+			return "unreadable@" + System.nanoTime();
+		}
+		return countSizeAndHash[0] + ":" + countSizeAndHash[1] + "#" + Long.toHexString(countSizeAndHash[2]);
+	}
+}
@@ -56,6 +56,10 @@ public interface JavaMemoryCompiler {
 			public static final String ADDITIONAL_CLASS_PATHS =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-paths";
 			public static final String CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.class-repositories";
 			public static final String ADDITIONAL_CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-repositories";
+			public static final String CLASS_NAMES_INDEX_ENABLED = "java-memory-compiler.class-names-index.enabled";
+			public static final String FILE_MANAGER_POOL_MAX_SIZE = "java-memory-compiler.file-manager-pool.max-size";
+			public static final String FILE_MANAGER_POOL_FOLDERS_REVALIDATION_INTERVAL = "java-memory-compiler.file-manager-pool.folders-revalidation-interval";
+			public static final String BATCH_COMPILATION_WINDOW = "java-memory-compiler.batch-compilation.window";
 		}
 
 		public final static Map<String, Object> DEFAULT_VALUES;
@@ -79,6 +83,11 @@ public interface JavaMemoryCompiler {
 				"//${paths.main-class-paths}/..//children:.*?surefirebooter[^\\/\\\\]{0,}\\.jar"  + IterableObjectHelper.getDefaultValuesSeparator()
 			);
 
+			defaultValues.put(Key.CLASS_NAMES_INDEX_ENABLED, true);
+			defaultValues.put(Key.FILE_MANAGER_POOL_MAX_SIZE, 4);
+			defaultValues.put(Key.FILE_MANAGER_POOL_FOLDERS_REVALIDATION_INTERVAL, 5000);
+			defaultValues.put(Key.BATCH_COMPILATION_WINDOW, 0);
+
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
 	}
@@ -32,9 +32,11 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Background
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Metrics;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.SourceCodeHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 
 import java.io.File;
 import java.io.IOException;
@@ -43,17 +45,26 @@ import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -77,6 +88,7 @@ import org.burningwave.core.function.Executor;
 import org.burningwave.core.io.ByteBufferOutputStream;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 
 @SuppressWarnings({"rawtypes", "unchecked"})
@@ -85,6 +97,10 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	ClassPathHelper classPathHelper;
 	JavaCompiler compiler;
 	FileSystemItem compiledClassesRepository;
+	ClassRepositoriesIndex classRepositoriesIndex;
+	JavaFileManagerPool javaFileManagerPool;
+	Map<String, Compilation.Batch> openedBatches;
+	private String batchesFlusherName;
 	Map<?, ?> config;
 
 	JavaMemoryCompilerImpl(
@@ -96,13 +112,56 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		this.classPathHelper = classPathHelper;
 		this.compiler = ToolProvider.getSystemJavaCompiler();
 		this.compiledClassesRepository = FileSystemItem.of(((ClassPathHelperImpl)classPathHelper).getOrCreateTemporaryFolder("compiledClassesRepository"));
+		this.classRepositoriesIndex = ClassRepositoriesIndex.create((ClassPathHelperImpl)classPathHelper);
+		this.javaFileManagerPool = JavaFileManagerPool.create(compiler);
+		this.openedBatches = new HashMap<>();
 		this.config = config;
 	}
 
+	long getBatchCompilationWindow() {
+		return org.burningwave.core.assembler.StaticComponentContainer.Objects.toLong(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.BATCH_COMPILATION_WINDOW)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+	}
+
+	int getFileManagerPoolMaxSize() {
+		return org.burningwave.core.assembler.StaticComponentContainer.Objects.toInt(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.FILE_MANAGER_POOL_MAX_SIZE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+	}
+
+	long getFileManagerPoolFoldersRevalidationInterval() {
+		return org.burningwave.core.assembler.StaticComponentContainer.Objects.toLong(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.FILE_MANAGER_POOL_FOLDERS_REVALIDATION_INTERVAL)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+	}
+
+	boolean isClassNamesIndexEnabled() {
+		return org.burningwave.core.assembler.StaticComponentContainer.Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.CLASS_NAMES_INDEX_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+	}
+
 
 	@Override
 	public ProducerTask<JavaMemoryCompiler.Compilation.Result> compile(JavaMemoryCompiler.Compilation.Config config) {
-		return compile(
+		Compilation.Request request = new Compilation.Request(
 			config.getSources(),
 			getClassPathsFrom(config),
 			getClassRepositoriesFrom(config),
@@ -111,6 +170,74 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			config.useTemporaryFolderForStoring(),
 			config.getExtraParameters()
 		);
+		long batchCompilationWindow = getBatchCompilationWindow();
+		if (batchCompilationWindow > 0) {
+			return compileInBatch(request, batchCompilationWindow);
+		}
+		ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = BackgroundExecutor.createProducerTask(task ->
+			compile(request, null)
+		);
+		return tsk.submit();
+	}
+
+	//The requests received within the window with the same class paths, class repositories, storage and options
+	//are compiled together by a single compilation: the batches of different class paths are compiled in parallel
+	private ProducerTask<JavaMemoryCompiler.Compilation.Result> compileInBatch(Compilation.Request request, long batchCompilationWindow) {
+		synchronized (openedBatches) {
+			Compilation.Batch batch = openedBatches.get(request.partitionKey);
+			ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = batch != null ? batch.add(request) : null;
+			if (tsk == null) {
+				batch = new Compilation.Batch(this, System.currentTimeMillis() + batchCompilationWindow);
+				tsk = batch.add(request);
+				openedBatches.put(request.partitionKey, batch);
+				startBatchesFlusher();
+				//Wakes up the flusher so that it recomputes the time to wait
+				openedBatches.notifyAll();
+			}
+			return tsk;
+		}
+	}
+
+	//Called while holding the lock on the opened batches: the batches are flushed by a single looping thread,
+	//that waits on the opened batches until the first window elapses, so that no executor thread is kept busy
+	private void startBatchesFlusher() {
+		if (batchesFlusherName != null) {
+			return;
+		}
+		batchesFlusherName = "Compilation batches flusher - " + org.burningwave.core.assembler.StaticComponentContainer.Objects.getId(this);
+		ThreadHolder.startLooping(batchesFlusherName, true, java.lang.Thread.MIN_PRIORITY, thread -> {
+			Collection<Compilation.Batch> expiredBatches = new ArrayList<>();
+			synchronized (openedBatches) {
+				long currentTime = System.currentTimeMillis();
+				long timeToWait = 0;
+				Iterator<Compilation.Batch> openedBatchesIterator = openedBatches.values().iterator();
+				while (openedBatchesIterator.hasNext()) {
+					Compilation.Batch batch = openedBatchesIterator.next();
+					long batchTimeToWait = batch.flushTime - currentTime;
+					if (batchTimeToWait <= 0) {
+						if (batch.close()) {
+							expiredBatches.add(batch);
+						}
+						openedBatchesIterator.remove();
+					} else if (timeToWait == 0 || batchTimeToWait < timeToWait) {
+						timeToWait = batchTimeToWait;
+					}
+				}
+				if (expiredBatches.isEmpty() && thread.isLooping()) {
+					try {
+						//With no opened batches it waits until a new batch is opened or the compiler is closed
+						openedBatches.wait(timeToWait);
+					} catch (InterruptedException exc) {
+						ManagedLoggerRepository.logError(getClass()::getName, exc);
+					}
+				}
+			}
+			for (Compilation.Batch batch : expiredBatches) {
+				BackgroundExecutor.createTask(task ->
+					batch.flush()
+				).submit();
+			}
+		});
 	}
 
 	private Collection<String> getBlackListedClassPaths(Config config) {
@@ -151,51 +278,55 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		);
 	}
 
-	private ProducerTask<JavaMemoryCompiler.Compilation.Result> compile(
-		Collection<String> sources,
-		Collection<String> classPaths,
-		Collection<String> classRepositoriesPaths,
-		Collection<String> blackListedClassPaths,
-		String compiledClassesStorage,
-		boolean useTemporaryFolderForStoring,
-		Map<String, String> extraOptions
+	private JavaMemoryCompiler.Compilation.Result compile(
+		Compilation.Request request,
+		Map<String, String> sourceForCompiledFile
 	) {
-		ProducerTask<JavaMemoryCompiler.Compilation.Result> tsk = BackgroundExecutor.createProducerTask(task -> {
-			ManagedLoggerRepository.logInfo(getClass()::getName, "Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(sources)));
-			Collection<MemorySource> memorySources = new ArrayList<>();
-			sourcesToMemorySources(sources, memorySources);
-			try (Compilation.Context context = Compilation.Context.create(
-					this,
-					memorySources,
-					new ArrayList<>(classPaths),
-					new ArrayList<>(classRepositoriesPaths),
-					new ArrayList<>(blackListedClassPaths),
-					extraOptions
-				)
-			) {
-				Map<String, ByteBuffer> compiledFiles = compile(context);
-				String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
-				if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
-					compiledFiles.forEach((className, byteCode) -> {
-						JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
-					});
-				}
-				Collection<String> classNames = compiledFiles.keySet();
-				ManagedLoggerRepository.logInfo(getClass()::getName,
-					classNames.size() > 1?
-						"Classes {} have been succesfully compiled":
-						"Class {} has been succesfully compiled",
-					classNames.size() > 1?
-						String.join(", ", classNames):
-						classNames.stream().findFirst().orElseGet(() -> "")
-				);
-				return new JavaMemoryCompiler.Compilation.Result(
-					storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null,
-					compiledFiles, new HashSet<>(context.classPaths)
-				);
+		Collection<String> sources = request.sources;
+		String compiledClassesStorage = request.compiledClassesStorage;
+		boolean useTemporaryFolderForStoring = request.useTemporaryFolderForStoring;
+		ManagedLoggerRepository.logInfo(getClass()::getName, "Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(sources)));
+		org.burningwave.core.Metrics.Sample compilationSample = Metrics.startSample("java-memory-compiler.compilation-time");
+		Collection<MemorySource> memorySources = new ArrayList<>();
+		sourcesToMemorySources(sources, memorySources);
+		try (Compilation.Context context = Compilation.Context.create(
+				this,
+				memorySources,
+				new ArrayList<>(request.classPaths),
+				new ArrayList<>(request.classRepositories),
+				new ArrayList<>(request.blackListedClassPaths),
+				request.extraOptions
+			)
+		) {
+			context.addClassPathsOfTheImportsToClassPath();
+			Map<String, ByteBuffer> compiledFiles = compile(context);
+			if (sourceForCompiledFile != null) {
+				sourceForCompiledFile.putAll(context.sourceForCompiledFile);
 			}
-		});
-		return tsk.submit();
+			String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
+			if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
+				compiledFiles.forEach((className, byteCode) -> {
+					JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
+				});
+				if (useTemporaryFolderForStoring && context.classRepositoriesIndex != null) {
+					classRepositoriesIndex.add(compiledClassesRepository.getAbsolutePath(), storedFilesClassPath, compiledFiles.keySet());
+				}
+			}
+			Collection<String> classNames = compiledFiles.keySet();
+			ManagedLoggerRepository.logInfo(getClass()::getName,
+				classNames.size() > 1?
+					"Classes {} have been succesfully compiled":
+					"Class {} has been succesfully compiled",
+				classNames.size() > 1?
+					String.join(", ", classNames):
+					classNames.stream().findFirst().orElseGet(() -> "")
+			);
+			compilationSample.stop(String.join(", ", classNames));
+			return new JavaMemoryCompiler.Compilation.Result(
+				storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null,
+				compiledFiles, new HashSet<>(context.classPaths)
+			);
+		}
 	}
 
 
@@ -238,29 +369,43 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			});
 		}
 		DiagnosticListener diagnosticListener = new DiagnosticListener(context);
+		int fileManagerPoolMaxSize = getFileManagerPoolMaxSize();
+		if (context.initialOptions == null) {
+			context.initialOptions = new LinkedHashMap<>(context.options);
+		}
+		JavaFileManagerPool.Entry fileManagerPoolEntry = javaFileManagerPool.get(
+			context.initialOptions, diagnosticListener, fileManagerPoolMaxSize, getFileManagerPoolFoldersRevalidationInterval()
+		);
+		Map<String, ByteBuffer> compiledFiles = null;
+		//The file manager is released before retrying so that the next attempt can reuse it
 		try (MemoryFileManager memoryFileManager = new MemoryFileManager(
-				compiler.getStandardFileManager(diagnosticListener, null, null)
+				fileManagerPoolEntry.getFileManager(),
+				() -> fileManagerPoolEntry.release(context.classPaths, fileManagerPoolMaxSize)
 			)
 		) {
 			CompilationTask task = compiler.getTask(
 				null, memoryFileManager,
-				new DiagnosticListener(context), options, null,
+				diagnosticListener, options, null,
 				new ArrayList<>(context.sources)
 			);
 			boolean done = false;
 			try {
 				done = task.call();
 			} catch (Throwable currentException) {
+				fileManagerPoolEntry.discard();
 				Throwable previousException = context.getPreviousException();
 				if (previousException != null && previousException.getMessage().equals(currentException.getMessage())) {
 					throw currentException;
 				}
 				context.setPreviousException(currentException);
 			}
-			if (!done) {
-				return compile(context);
-			} else {
-				return memoryFileManager.getCompiledFiles().stream().collect(
+			if (done) {
+				for (MemoryFileObject compiledFile : memoryFileManager.getCompiledFiles()) {
+					if (compiledFile.source != null) {
+						context.sourceForCompiledFile.put(compiledFile.getName(), compiledFile.source);
+					}
+				}
+				compiledFiles = memoryFileManager.getCompiledFiles().stream().collect(
 					Collectors.toMap(compiledFile ->
 						compiledFile.getName(), compiledFile ->
 						compiledFile.toByteBuffer()
@@ -268,13 +413,43 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				);
 			}
 		}
+		if (compiledFiles == null) {
+			Metrics.incrementCounter("java-memory-compiler.compilation-retries");
+			return compile(context);
+		}
+		return compiledFiles;
 	}
 
 	@Override
 	public void close() {
 		closeResources(() -> compiledClassesRepository == null, task -> {
+			Collection<Compilation.Batch> pendingBatches = new ArrayList<>();
+			synchronized (openedBatches) {
+				if (batchesFlusherName != null) {
+					ThreadHolder.stop(batchesFlusherName);
+					batchesFlusherName = null;
+					openedBatches.notifyAll();
+				}
+				for (Compilation.Batch batch : openedBatches.values()) {
+					if (batch.close()) {
+						pendingBatches.add(batch);
+					}
+				}
+				openedBatches.clear();
+			}
+			//The requests of the batches not yet flushed are completed before releasing the resources
+			for (Compilation.Batch batch : pendingBatches) {
+				batch.flush();
+			}
+			for (Compilation.Batch batch : pendingBatches) {
+				batch.waitForFinish();
+			}
 			compiledClassesRepository.destroy();
 			compiledClassesRepository = null;
+			classRepositoriesIndex.close();
+			classRepositoriesIndex = null;
+			javaFileManagerPool.close();
+			javaFileManagerPool = null;
 			compiler = null;
 			pathHelper = null;
 		});
@@ -294,7 +469,9 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		public void report(Diagnostic<? extends JavaFileObject> diagnostic) {
 			String message = diagnostic.getMessage(Locale.ENGLISH);
 			if (context.diagnositListenerInterceptedMessages.contains(message)) {
-				throw new JavaMemoryCompiler.Compilation.Exception(message);
+				if (!context.checkForStaleIndexHit(message)) {
+					throw new JavaMemoryCompiler.Compilation.Exception(message);
+				}
 			} else {
 				context.diagnositListenerInterceptedMessages.add(message);
 			}
@@ -305,27 +482,31 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			Collection<String> fsObjects = null;
 			String classNameOrSimpleNameTemp = null;
 			Predicate<JavaClass> javaClassPredicate = null;
+			BiFunction<ClassRepositoriesIndex, Collection<String>, Collection<String>> classPathsFromIndexSupplier = null;
 
 			if (message.indexOf("class file for") != -1 && message.indexOf("not found") != -1) {
 				classNameOrSimpleNameTemp = message.substring(message.indexOf("for ") + 4);
 				classNameOrSimpleNameTemp = classNameOrSimpleNameTemp.substring(0, classNameOrSimpleNameTemp.indexOf(" "));
 				final String className = classNameOrSimpleNameTemp;
 				javaClassPredicate = (cls) -> cls.getName().equals(className);
+				classPathsFromIndexSupplier = (index, classRepositories) -> index.findClassPathsForClassName(classRepositories, className);
 			} else if(message.indexOf("class ") != -1 && message.indexOf("package ") != -1 ){
 				classNameOrSimpleNameTemp = message.substring(message.indexOf("class ")+6);
 				classNameOrSimpleNameTemp = classNameOrSimpleNameTemp.substring(0, classNameOrSimpleNameTemp.indexOf("\n"));
 				String packageName = message.substring(message.indexOf("package") + 8);
 				final String className = packageName+"."+classNameOrSimpleNameTemp;
 				javaClassPredicate = (cls) -> cls.getName().equals(className);
+				classPathsFromIndexSupplier = (index, classRepositories) -> index.findClassPathsForClassName(classRepositories, className);
 			} else if(message.indexOf("symbol: class") != -1) {
 				classNameOrSimpleNameTemp = message.substring(message.indexOf("class ")+6);
 				final String classSimpleName = classNameOrSimpleNameTemp;
 				javaClassPredicate =  (cls) -> cls.getSimpleName().equals(classSimpleName);
+				classPathsFromIndexSupplier = (index, classRepositories) -> index.findClassPathsForClassSimpleName(classRepositories, classSimpleName);
 			}
 
 			if (javaClassPredicate != null) {
 				try {
-					fsObjects = context.findForClassName(javaClassPredicate);
+					fsObjects = context.findForClassName(message, classPathsFromIndexSupplier, javaClassPredicate);
 				} catch (Exception exc) {
 					ManagedLoggerRepository.logError(getClass()::getName, exc);
 				}
@@ -342,7 +523,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				}
 				if (Strings.isNotEmpty(packageName)) {
 					try {
-						fsObjects = context.findForPackageName(packageName);
+						fsObjects = context.findForPackageName(message, packageName);
 					} catch (Exception exc) {
 						ManagedLoggerRepository.logError(getClass()::getName, exc);
 					}
@@ -396,6 +577,8 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 		private String name;
 		private ByteBuffer content;
+		//The URI of the source from which it has been compiled
+		private String source;
 
 	    MemoryFileObject(String name, Kind kind) {
 	        super(URI.create("memory:///" + name.replace('.', '/') + kind.extension), kind);
@@ -442,10 +625,17 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 		private List<MemoryFileObject> compiledFiles;
 		private StandardJavaFileManager javaFileManager;
+		private Runnable javaFileManagerReleaser;
 
 		MemoryFileManager(StandardJavaFileManager javaFileManager) {
+	        this(javaFileManager, null);
+	    }
+
+		//The releaser is called on closing instead of closing the wrapped file manager
+		MemoryFileManager(StandardJavaFileManager javaFileManager, Runnable javaFileManagerReleaser) {
 	        super(javaFileManager);
 	        this.javaFileManager = javaFileManager;
+	        this.javaFileManagerReleaser = javaFileManagerReleaser;
 	        compiledFiles = new CopyOnWriteArrayList<>();
 	    }
 
@@ -453,6 +643,9 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 	    public MemoryFileObject getJavaFileForOutput
 	            (Location location, String name, Kind kind, FileObject source) {
 	        MemoryFileObject mc = new MemoryFileObject(name, kind);
+	        if (source != null) {
+	        	mc.source = source.toUri().toString();
+	        }
 	        this.compiledFiles.add(mc);
 	        return mc;
 	    }
@@ -467,9 +660,14 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				compiledFile.close()
 			);
 			compiledFiles.clear();
-			Executor.run(() -> {
-				super.close();
-			});
+			if (javaFileManagerReleaser != null) {
+				javaFileManagerReleaser.run();
+				javaFileManagerReleaser = null;
+			} else {
+				Executor.run(() -> {
+					super.close();
+				});
+			}
 			javaFileManager = null;
 		}
 
@@ -513,16 +711,197 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 
 	static class Compilation {
 
+		static class Request {
+			private final Collection<String> sources;
+			private final Collection<String> classPaths;
+			private final Collection<String> classRepositories;
+			private final Collection<String> blackListedClassPaths;
+			private final String compiledClassesStorage;
+			private final boolean useTemporaryFolderForStoring;
+			private final Map<String, String> extraOptions;
+			private final String partitionKey;
+			private Collection<String> classNames;
+
+			Request(
+				Collection<String> sources,
+				Collection<String> classPaths,
+				Collection<String> classRepositories,
+				Collection<String> blackListedClassPaths,
+				String compiledClassesStorage,
+				boolean useTemporaryFolderForStoring,
+				Map<String, String> extraOptions
+			) {
+				this.sources = sources;
+				this.classPaths = classPaths;
+				this.classRepositories = classRepositories;
+				this.blackListedClassPaths = blackListedClassPaths;
+				this.compiledClassesStorage = compiledClassesStorage;
+				this.useTemporaryFolderForStoring = useTemporaryFolderForStoring;
+				this.extraOptions = extraOptions;
+				this.partitionKey = String.join("\n",
+					new TreeSet<>(classPaths).toString(),
+					new TreeSet<>(classRepositories).toString(),
+					new TreeSet<>(blackListedClassPaths).toString(),
+					compiledClassesStorage + "@" + useTemporaryFolderForStoring,
+					String.valueOf(extraOptions != null ? new TreeMap<>(extraOptions) : null)
+				);
+			}
+
+			Collection<String> getClassNames() {
+				if (classNames == null) {
+					Collection<String> classNames = new HashSet<>();
+					for (String source : sources) {
+						classNames.add(SourceCodeHandler.extractClassName(source));
+					}
+					this.classNames = classNames;
+				}
+				return classNames;
+			}
+
+			private boolean isSourceOf(String sourceUri) {
+				for (String className : getClassNames()) {
+					if (sourceUri.equals(MemorySource.PREFIX + className.replace('.', '/') + Kind.SOURCE.extension)) {
+						return true;
+					}
+				}
+				return false;
+			}
+
+		}
+
+		static class Batch {
+			private final JavaMemoryCompilerImpl javaMemoryCompiler;
+			private final Map<Request, ProducerTask<JavaMemoryCompiler.Compilation.Result>> requests;
+			private final Collection<String> classNames;
+			private final Map<Request, JavaMemoryCompiler.Compilation.Result> results;
+			private final long flushTime;
+			private boolean closed;
+
+			Batch(JavaMemoryCompilerImpl javaMemoryCompiler, long flushTime) {
+				this.javaMemoryCompiler = javaMemoryCompiler;
+				this.flushTime = flushTime;
+				this.requests = new LinkedHashMap<>();
+				this.classNames = new HashSet<>();
+				this.results = new ConcurrentHashMap<>();
+			}
+
+			//Called while holding the lock on the opened batches: the returned task can be joined at once but it
+			//is queued only when the batch is flushed
+			ProducerTask<JavaMemoryCompiler.Compilation.Result> add(Request request) {
+				if (closed) {
+					return null;
+				}
+				//Two classes with the same name can not be compiled together
+				for (String className : request.getClassNames()) {
+					if (classNames.contains(className)) {
+						return null;
+					}
+				}
+				classNames.addAll(request.getClassNames());
+				ProducerTask<JavaMemoryCompiler.Compilation.Result> task = BackgroundExecutor.createProducerTask(tsk ->
+					getResult(request)
+				);
+				requests.put(request, task.submitLater());
+				return task;
+			}
+
+			//Called while holding the lock on the opened batches
+			boolean close() {
+				if (closed) {
+					return false;
+				}
+				return closed = true;
+			}
+
+			void flush() {
+				try {
+					if (requests.size() > 1) {
+						compile();
+					}
+				} finally {
+					for (ProducerTask<JavaMemoryCompiler.Compilation.Result> task : requests.values()) {
+						task.submit();
+					}
+				}
+			}
+
+			void waitForFinish() {
+				for (ProducerTask<JavaMemoryCompiler.Compilation.Result> task : requests.values()) {
+					task.waitForFinish();
+				}
+			}
+
+			private void compile() {
+				Collection<String> sources = new ArrayList<>();
+				for (Request request : requests.keySet()) {
+					sources.addAll(request.sources);
+				}
+				Request firstRequest = requests.keySet().iterator().next();
+				Map<String, String> sourceForCompiledFile = new HashMap<>();
+				JavaMemoryCompiler.Compilation.Result result;
+				try {
+					result = javaMemoryCompiler.compile(
+						new Request(
+							sources,
+							firstRequest.classPaths,
+							firstRequest.classRepositories,
+							firstRequest.blackListedClassPaths,
+							firstRequest.compiledClassesStorage,
+							firstRequest.useTemporaryFolderForStoring,
+							firstRequest.extraOptions
+						),
+						sourceForCompiledFile
+					);
+				} catch (Throwable exc) {
+					//The requests will be compiled one by one so that only the wrong ones fail
+					ManagedLoggerRepository.logError(getClass()::getName, "Could not compile {} requests in batch: they will be compiled one by one", exc, requests.size());
+					return;
+				}
+				for (Request request : requests.keySet()) {
+					Map<String, ByteBuffer> compiledFiles = new HashMap<>();
+					for (Map.Entry<String, ByteBuffer> compiledFile : result.getCompiledFiles().entrySet()) {
+						String source = sourceForCompiledFile.get(compiledFile.getKey());
+						if (source != null && request.isSourceOf(source)) {
+							compiledFiles.put(compiledFile.getKey(), compiledFile.getValue());
+						}
+					}
+					results.put(
+						request,
+						new JavaMemoryCompiler.Compilation.Result(
+							result.getClassPath(), compiledFiles, new HashSet<>(result.getDependencies())
+						)
+					);
+				}
+				result.close();
+			}
+
+			private JavaMemoryCompiler.Compilation.Result getResult(Request request) {
+				JavaMemoryCompiler.Compilation.Result result = results.remove(request);
+				if (result != null) {
+					return result;
+				}
+				return javaMemoryCompiler.compile(request, null);
+			}
+
+		}
+
 		static class Context implements Closeable {
+			private static volatile FileSystem runtimeImage;
+			private static volatile boolean runtimeImageNotAvailable;
 
 			Collection<String> classPaths;
 			Collection<String> blackListedClassPaths;
 			Map<String, String> options;
+			Map<String, String> initialOptions;
 			Collection<MemorySource> sources;
 			private Collection<String> classRepositories;
 			private JavaMemoryCompiler javaMemoryCompiler;
+			private ClassRepositoriesIndex classRepositoriesIndex;
+			private Map<String, String> sourceForCompiledFile;
 			private Throwable previousException;
 			private Collection<String> diagnositListenerInterceptedMessages;
+			private Map<String, Collection<String>> classPathsFoundInIndexForMessage;
+			private Collection<String> messagesWithStaleIndexHit;
 
 			private Context(
 				JavaMemoryCompiler javaMemoryCompiler,
@@ -546,7 +925,13 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 					}
 				}
 				this.classRepositories = classRepositories;
+				if (((JavaMemoryCompilerImpl)javaMemoryCompiler).isClassNamesIndexEnabled()) {
+					this.classRepositoriesIndex = ((JavaMemoryCompilerImpl)javaMemoryCompiler).classRepositoriesIndex;
+				}
 				this.diagnositListenerInterceptedMessages = new HashSet<>();
+				this.classPathsFoundInIndexForMessage = new HashMap<>();
+				this.messagesWithStaleIndexHit = new HashSet<>();
+				this.sourceForCompiledFile = new HashMap<>();
 			}
 
 			static Context create(
@@ -567,13 +952,136 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 						return;
 					}
 					String classPath = Paths.clean(path);
+					if (classPaths.contains(classPath)) {
+						return;
+					}
 					options.put("-classpath", Optional.ofNullable(options.get("-classpath")).orElse("") + classPath + File.pathSeparator);
 					classPaths.add(classPath);
 				}
 			}
 
-			Collection<String> findForPackageName(String packageName) throws Exception {
-				Collection<String> classPaths = new HashSet<>(
+			//Resolves through the index the imports that are not visible from the system class loader
+			//so that the sources are compiled without waiting for the diagnostics of the compiler
+			void addClassPathsOfTheImportsToClassPath() {
+				if (classRepositoriesIndex == null) {
+					return;
+				}
+				Collection<String> classPathsOfTheImports = new HashSet<>();
+				for (MemorySource source : sources) {
+					for (String importedName : SourceCodeHandler.extractImports(source.getContent())) {
+						classPathsOfTheImports.addAll(findInIndexForImport(importedName));
+					}
+				}
+				if (!classPathsOfTheImports.isEmpty()) {
+					for (String classPath : ((ClassPathHelperImpl)((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper).computeFromClassPaths(
+						classPathsOfTheImports
+					).get().values()) {
+						addToClassPath(classPath);
+					}
+				}
+			}
+
+			private Collection<String> findInIndexForImport(String importedName) {
+				Collection<String> indexedClassRepositories = getIndexedClassRepositories();
+				if (importedName.endsWith(".*")) {
+					importedName = importedName.substring(0, importedName.length() - 2);
+					//The visibility is checked before since looking up the index could index the class repositories
+					if (isPackageVisibleFromTheSystemClassLoader(importedName)) {
+						return new HashSet<>();
+					}
+					String className = classRepositoriesIndex.findAClassNameOfPackage(indexedClassRepositories, importedName);
+					if (className != null) {
+						return isVisibleFromTheSystemClassLoader(className) ?
+							new HashSet<>() :
+							classRepositoriesIndex.findClassPathsForPackageName(indexedClassRepositories, importedName);
+					}
+				}
+				//The imported name could be the one of an inner class
+				String className = importedName;
+				while (className.indexOf(".") != -1 && !isVisibleFromTheSystemClassLoader(className)) {
+					Collection<String> classPaths = classRepositoriesIndex.findClassPathsForClassName(indexedClassRepositories, className);
+					if (!classPaths.isEmpty()) {
+						return classPaths;
+					}
+					className = className.substring(0, className.lastIndexOf("."));
+				}
+				return new HashSet<>();
+			}
+
+			private boolean isVisibleFromTheSystemClassLoader(String className) {
+				return ClassLoader.getSystemClassLoader().getResource(className.replace(".", "/") + ".class") != null;
+			}
+
+			//The folders of the packages of the JDK modules are not visible as resources and so they are searched
+			//in the runtime image
+			private boolean isPackageVisibleFromTheSystemClassLoader(String packageName) {
+				if (ClassLoader.getSystemClassLoader().getResource(packageName.replace(".", "/")) != null) {
+					return true;
+				}
+				FileSystem runtimeImage = getRuntimeImage();
+				return runtimeImage != null && Files.exists(runtimeImage.getPath("/packages", packageName));
+			}
+
+			private static FileSystem getRuntimeImage() {
+				FileSystem runtimeImage = Context.runtimeImage;
+				if (runtimeImage == null && !runtimeImageNotAvailable) {
+					try {
+						Context.runtimeImage = runtimeImage = FileSystems.getFileSystem(URI.create("jrt:/"));
+					} catch (Throwable exc) {
+						//Before JDK 9 there is no runtime image and the packages are visible as resources
+						runtimeImageNotAvailable = true;
+					}
+				}
+				return runtimeImage;
+			}
+
+			private Collection<String> getIndexedClassRepositories() {
+				Collection<String> indexedClassRepositories = new ArrayList<>();
+				indexedClassRepositories.add(((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath());
+				indexedClassRepositories.addAll(classRepositories);
+				return indexedClassRepositories;
+			}
+
+			private Collection<String> findInIndex(
+				String message,
+				BiFunction<ClassRepositoriesIndex, Collection<String>, Collection<String>> classPathsSupplier
+			) {
+				if (classRepositoriesIndex == null || messagesWithStaleIndexHit.contains(message)) {
+					return new HashSet<>();
+				}
+				Collection<String> classPaths = classPathsSupplier.apply(classRepositoriesIndex, getIndexedClassRepositories());
+				if (classPaths.isEmpty()) {
+					return classPaths;
+				}
+				classPathsFoundInIndexForMessage.put(message, classPaths);
+				return new HashSet<>(
+					((ClassPathHelperImpl)((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper).computeFromClassPaths(
+						classPaths
+					).get().values()
+				);
+			}
+
+			//Returns true if the message has been already resolved through the index: the classes have been moved or
+			//deleted since their repositories were indexed and so the message will be resolved through a full search
+			boolean checkForStaleIndexHit(String message) {
+				Collection<String> classPaths = classPathsFoundInIndexForMessage.remove(message);
+				if (classPaths == null) {
+					return false;
+				}
+				classRepositoriesIndex.invalidate(classPaths);
+				messagesWithStaleIndexHit.add(message);
+				return true;
+			}
+
+			Collection<String> findForPackageName(String message, String packageName) throws Exception {
+				Collection<String> classPathsFromIndex = findInIndex(message, (index, classRepositories) ->
+					index.findClassPathsForPackageName(classRepositories, packageName)
+				);
+				if (!classPathsFromIndex.isEmpty()) {
+					return classPathsFromIndex;
+				}
+				Map<String, Collection<String>> classNamesFound = new ConcurrentHashMap<>();
+				Map<String, String> classPaths = new HashMap<>(
 					((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.compute(
 						Compute.Config.create(
 							Arrays.asList(((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath())
@@ -582,27 +1090,37 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 								((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath()
 							)
 						).withFileFilter(classFile ->
-							Objects.equals(classFile.toJavaClass().getPackageName(), packageName)
+							testAndCollect(classFile, javaClass -> Objects.equals(javaClass.getPackageName(), packageName), classNamesFound)
 						)
-					).get().values()
+					).get()
 				);
 				if (classPaths.isEmpty()) {
-					classPaths.addAll(
+					classPaths.putAll(
 						((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.compute(
 							Compute.BySourceImportsConfig.create(
 								sources.stream().map(ms -> ms.getContent()).collect(Collectors.toCollection(HashSet::new)),
 								classRepositories
 							).withAdditionalFileFilter(classFile ->
-								Objects.equals(classFile.toJavaClass().getPackageName(), packageName)
+								testAndCollect(classFile, javaClass -> Objects.equals(javaClass.getPackageName(), packageName), classNamesFound)
 							)
-						).get().values()
+						).get()
 					);
 				}
-				return classPaths;
+				addToIndex(classNamesFound);
+				return new HashSet<>(classPaths.values());
 			}
 
-			Collection<String> findForClassName(Predicate<JavaClass> classPredicate) throws Exception {
-				Collection<String> classPaths = new HashSet<>(
+			Collection<String> findForClassName(
+				String message,
+				BiFunction<ClassRepositoriesIndex, Collection<String>, Collection<String>> classPathsFromIndexSupplier,
+				Predicate<JavaClass> classPredicate
+			) throws Exception {
+				Collection<String> classPathsFromIndex = findInIndex(message, classPathsFromIndexSupplier);
+				if (!classPathsFromIndex.isEmpty()) {
+					return classPathsFromIndex;
+				}
+				Map<String, Collection<String>> classNamesFound = new ConcurrentHashMap<>();
+				Map<String, String> classPaths = new HashMap<>(
 						((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.compute(
 							Compute.Config.create(
 								Arrays.asList(((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath())
@@ -611,23 +1129,48 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 									((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath()
 								)
 							).withFileFilter(classFile ->
-								classPredicate.test(classFile.toJavaClass())
+								testAndCollect(classFile, classPredicate, classNamesFound)
 							)
-						).get().values()
+						).get()
 					);
 					if (classPaths.isEmpty()) {
-						classPaths.addAll(
+						classPaths.putAll(
 							((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.compute(
 								Compute.BySourceImportsConfig.create(
 									sources.stream().map(ms -> ms.getContent()).collect(Collectors.toCollection(HashSet::new)),
 									classRepositories
 								).withAdditionalFileFilter(classFile ->
-									classPredicate.test(classFile.toJavaClass())
+									testAndCollect(classFile, classPredicate, classNamesFound)
 								)
-							).get().values()
+							).get()
 						);
 					}
-					return classPaths;
+					addToIndex(classNamesFound);
+					return new HashSet<>(classPaths.values());
+			}
+
+			//Collects, for each class path, the names of the classes found by a full search
+			private boolean testAndCollect(FileSystemItem classFile, Predicate<JavaClass> classPredicate, Map<String, Collection<String>> classNamesFound) {
+				JavaClass javaClass = classFile.toJavaClass();
+				if (!classPredicate.test(javaClass)) {
+					return false;
+				}
+				String classFileAbsolutePath = classFile.getAbsolutePath();
+				classNamesFound.computeIfAbsent(
+					classFileAbsolutePath.substring(0, classFileAbsolutePath.lastIndexOf("/" + javaClass.getPath())),
+					classPath -> ConcurrentHashMap.newKeySet()
+				).add(javaClass.getName());
+				return true;
+			}
+
+			//The classes found by a full search have been added to the class repositories after they were indexed:
+			//only they are added to the index instead of indexing again the whole repositories
+			private void addToIndex(Map<String, Collection<String>> classNamesFound) {
+				if (classRepositoriesIndex != null) {
+					for (Map.Entry<String, Collection<String>> classPathAndClassNames : classNamesFound.entrySet()) {
+						classRepositoriesIndex.addToIndexedRepositories(classPathAndClassNames.getKey(), classPathAndClassNames.getValue());
+					}
+				}
 			}
 
 			void setPreviousException(Throwable previousException) {
@@ -648,8 +1191,15 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				classRepositories.clear();
 				classRepositories = null;
 				javaMemoryCompiler = null;
+				classRepositoriesIndex = null;
+				sourceForCompiledFile.clear();
+				sourceForCompiledFile = null;
 				diagnositListenerInterceptedMessages.clear();
 				diagnositListenerInterceptedMessages = null;
+				classPathsFoundInIndexForMessage.clear();
+				classPathsFoundInIndexForMessage = null;
+				messagesWithStaleIndexHit.clear();
+				messagesWithStaleIndexHit = null;
 			}
 
 		}
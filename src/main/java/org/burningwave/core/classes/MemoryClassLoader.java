@@ -55,6 +55,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.Closeable;
@@ -67,6 +69,8 @@ import org.burningwave.core.io.ByteBufferInputStream;
 @SuppressWarnings("unchecked")
 public class MemoryClassLoader extends ClassLoader implements Component, org.burningwave.core.classes.Classes.Loaders.NotificationListenerOfParentsChange {
 	Map<String, ByteBuffer> notLoadedByteCodes;
+	//Byte codes not read yet: they are moved into the not loaded byte codes when they are requested
+	Map<String, Supplier<ByteBuffer>> notLoadedByteCodeSuppliers;
 	Map<String, ByteBuffer> loadedByteCodes;
 	Map<Object, Object> clients;
 	protected boolean isClosed;
@@ -88,6 +92,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			((MemoryClassLoader)parentClassLoader).register(this);
 		}
 		this.notLoadedByteCodes = new ConcurrentHashMap<>();
+		this.notLoadedByteCodeSuppliers = new ConcurrentHashMap<>();
 		this.loadedByteCodes = new ConcurrentHashMap<>();
 		this.clients = new ConcurrentHashMap<>();
 		ClassLoaders.registerNotificationListenerOfParentsChange(this);
@@ -125,8 +130,34 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		notLoadedByteCodes.put(className, byteCode);
 	}
 
+	void addByteCode0(String className, Supplier<ByteBuffer> byteCodeSupplier) {
+		notLoadedByteCodeSuppliers.put(className, byteCodeSupplier);
+	}
+
+	ByteBuffer getNotLoadedByteCode0(String className) {
+		ByteBuffer byteCode = notLoadedByteCodes.get(className);
+		if (byteCode != null) {
+			return byteCode;
+		}
+		Supplier<ByteBuffer> byteCodeSupplier = notLoadedByteCodeSuppliers.get(className);
+		if (byteCodeSupplier == null) {
+			return null;
+		}
+		synchronized (byteCodeSupplier) {
+			if ((byteCode = notLoadedByteCodes.get(className)) == null && notLoadedByteCodeSuppliers.get(className) == byteCodeSupplier) {
+				byteCode = byteCodeSupplier.get();
+				if (byteCode != null) {
+					notLoadedByteCodes.put(className, byteCode);
+				}
+			}
+			notLoadedByteCodeSuppliers.remove(className, byteCodeSupplier);
+		}
+		return byteCode;
+	}
+
     public Map.Entry<String, ByteBuffer> getNotLoadedByteCode(String className) {
     	try {
+    		getNotLoadedByteCode0(className);
         	for (Map.Entry<String, ByteBuffer> entry : notLoadedByteCodes.entrySet()){
         	    if (entry.getKey().equals(className)) {
         	    	return entry;
@@ -144,7 +175,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
     public ByteBuffer getByteCodeOf(String className) {
     	try {
-    		return Optional.ofNullable(notLoadedByteCodes.get(className)).orElseGet(() -> Optional.ofNullable(loadedByteCodes.get(className)).orElseGet(() -> null));
+    		return Optional.ofNullable(getNotLoadedByteCode0(className)).orElseGet(() -> Optional.ofNullable(loadedByteCodes.get(className)).orElseGet(() -> null));
     	} catch (Throwable exc) {
     		if (!isClosed) {
     			throw exc;
@@ -301,7 +332,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			String className = classRelativePath.substring(0, classRelativePath.lastIndexOf(".class")).replace("/", ".");
 			ByteBuffer byteCode = loadedByteCodes.get(className);
 			if (byteCode == null) {
-				byteCode = notLoadedByteCodes.get(className);
+				byteCode = getNotLoadedByteCode0(className);
 			}
 			return byteCode;
     	} catch (Throwable exc) {
@@ -332,7 +363,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
     protected Class<?> findClass(String className) throws ClassNotFoundException {
 		Class<?> cls = null;
 		try {
-			ByteBuffer byteCode = notLoadedByteCodes.get(className);
+			ByteBuffer byteCode = getNotLoadedByteCode0(className);
 			if (byteCode != null) {
 				try {
 					cls = _defineClass(className, byteCode, null);
@@ -392,6 +423,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 	public void removeNotLoadedBytecode(String className) {
 		try {
 			notLoadedByteCodes.remove(className);
+			notLoadedByteCodeSuppliers.remove(className);
     	} catch (Throwable exc) {
     		if (!isClosed) {
     			throw exc;
@@ -401,6 +433,19 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
     	}
 	}
 
+	void removeNotLoadedBytecodes(Predicate<String> classNamePredicate) {
+		try {
+			notLoadedByteCodes.keySet().removeIf(classNamePredicate);
+			notLoadedByteCodeSuppliers.keySet().removeIf(classNamePredicate);
+    	} catch (Throwable exc) {
+    		if (!isClosed) {
+    			throw exc;
+    		} else {
+    			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not execute removeNotLoadedBytecodes because {} has been closed", this.toString());
+    		}
+    	}
+	}
+
 
 	/*public Set<Class<?>> getLoadedClassesForPackage(Predicate<Package> packagePredicate	) {
 		return ClassLoaders.retrieveLoadedClassesForPackage(this, packagePredicate);
@@ -412,11 +457,13 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
 	public Collection<Class<?>> forceBytecodesLoading() {
 		Collection<Class<?>> loadedClasses = new HashSet<>();
-		for (Map.Entry<String, ByteBuffer> entry : new HashMap<>(notLoadedByteCodes).entrySet()){
+		Collection<String> notLoadedClassNames = new HashSet<>(notLoadedByteCodes.keySet());
+		notLoadedClassNames.addAll(notLoadedByteCodeSuppliers.keySet());
+		for (String className : notLoadedClassNames){
 			try {
-				loadedClasses.add(loadClass(entry.getKey()));
+				loadedClasses.add(loadClass(className));
 			} catch (Throwable exc) {
-				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load class " + entry.getKey(), exc.getMessage());
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load class " + className, exc.getMessage());
 			}
 		}
 		return loadedClasses;
@@ -427,6 +474,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		Map<String, ByteBuffer> notLoadedByteCodes = this.notLoadedByteCodes;
 		Map<String, ByteBuffer> loadedByteCodes = this.loadedByteCodes;
 		this.notLoadedByteCodes = new HashMap<>();
+		this.notLoadedByteCodeSuppliers = new HashMap<>();
 		this.loadedByteCodes = new HashMap<>();
 		return BackgroundExecutor.createTask(task -> {
 			IterableObjectHelper.deepClear(notLoadedByteCodes);
@@ -514,6 +562,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			}
 			clearInBackground();
 			notLoadedByteCodes = null;
+			notLoadedByteCodeSuppliers = null;
 			loadedByteCodes = null;
 			Driver.getLoadedClassesRetriever(this).clear();
 			unregister();
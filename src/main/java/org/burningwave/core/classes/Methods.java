@@ -43,6 +43,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -52,6 +54,19 @@ import org.burningwave.core.function.ThrowingFunction;
 
 @SuppressWarnings("unchecked")
 public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria> {
+	//Max number of argument type combinations cached for each method name of a class
+	private static final int DIRECT_INVOKERS_MAX_SIZE_FOR_METHOD_NAME = 8;
+
+	private final ClassValue<Map<String, DirectInvoker[]>> directInvokers;
+
+	Methods() {
+		directInvokers = new ClassValue<Map<String, DirectInvoker[]>>() {
+			@Override
+			protected Map<String, DirectInvoker[]> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+	}
 
 	public static Methods create() {
 		return new Methods();
@@ -227,10 +242,18 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 	}
 
 	public 	<T> T invokeStaticDirect(Class<?> targetClass, String methodName, Object... arguments) {
+		DirectInvoker directInvoker = findDirectInvoker(targetClass, methodName, arguments);
+		if (directInvoker != null) {
+			return (T)directInvoker.invoke(null, arguments);
+		}
 		return (T) invokeDirect(targetClass, null, methodName, ArrayList::new, arguments);
 	}
 
 	public <T> T invokeDirect(Object target, String methodName, Object... arguments) {
+		DirectInvoker directInvoker = findDirectInvoker(Classes.retrieveFrom(target), methodName, arguments);
+		if (directInvoker != null) {
+			return (T)directInvoker.invoke(target, arguments);
+		}
 		return (T) invokeDirect(
 			Classes.retrieveFrom(target),
 			target, methodName, () -> {
@@ -253,6 +276,41 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		);
 	}
 
+	//Looks up, without allocating, the invoker cached for the runtime types of the arguments:
+	//returns null if the method must be invoked through the generic path (e.g. variable arity methods)
+	private DirectInvoker findDirectInvoker(Class<?> targetClass, String methodName, Object[] arguments) {
+		if (targetClass == null || arguments == null) {
+			return null;
+		}
+		Map<String, DirectInvoker[]> directInvokersForMethodName = directInvokers.get(targetClass);
+		DirectInvoker[] directInvokers = directInvokersForMethodName.get(methodName);
+		if (directInvokers != null) {
+			for (DirectInvoker directInvoker : directInvokers) {
+				if (directInvoker.accept(arguments)) {
+					return directInvoker.invoker != null ? directInvoker : null;
+				}
+			}
+			if (directInvokers.length >= DIRECT_INVOKERS_MAX_SIZE_FOR_METHOD_NAME) {
+				return null;
+			}
+		}
+		Class<?>[] argumentTypes = Classes.retrieveFrom(arguments);
+		Members.Handler.OfExecutable.Box<Method> methodHandleBox = findDirectHandleBox(targetClass, methodName, argumentTypes);
+		DirectInvoker directInvoker = new DirectInvoker(argumentTypes, methodHandleBox);
+		directInvokersForMethodName.compute(methodName, (name, oldDirectInvokers) -> {
+			if (oldDirectInvokers == null) {
+				return new DirectInvoker[] {directInvoker};
+			}
+			if (oldDirectInvokers.length >= DIRECT_INVOKERS_MAX_SIZE_FOR_METHOD_NAME) {
+				return oldDirectInvokers;
+			}
+			DirectInvoker[] newDirectInvokers = Arrays.copyOf(oldDirectInvokers, oldDirectInvokers.length + 1);
+			newDirectInvokers[oldDirectInvokers.length] = directInvoker;
+			return newDirectInvokers;
+		});
+		return directInvoker.invoker != null ? directInvoker : null;
+	}
+
 	public MethodHandle findDirectHandle(Class<?> targetClass, String methodName, Class<?>... inputParameterTypesOrSubTypes) {
 		return findDirectHandleBox(targetClass, methodName, inputParameterTypesOrSubTypes).getHandler();
 	}
@@ -301,6 +359,48 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		return method.getName();
 	}
 
+	static class DirectInvoker {
+		private final Class<?>[] argumentTypes;
+		//Adapted to (Object target, Object[] arguments)Object so that it can be invoked with invokeExact
+		private final MethodHandle invoker;
+
+		private DirectInvoker(Class<?>[] argumentTypes, Members.Handler.OfExecutable.Box<Method> methodHandleBox) {
+			this.argumentTypes = argumentTypes;
+			Method method = methodHandleBox.getExecutable();
+			MethodHandle invoker = null;
+			if (!method.isVarArgs() && method.getParameterCount() == argumentTypes.length) {
+				MethodHandle methodHandle = methodHandleBox.getHandler();
+				if (Modifier.isStatic(method.getModifiers())) {
+					methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+				}
+				invoker = methodHandle.asType(
+					MethodType.genericMethodType(argumentTypes.length + 1)
+				).asSpreader(Object[].class, argumentTypes.length);
+			}
+			this.invoker = invoker;
+		}
+
+		private boolean accept(Object[] arguments) {
+			if (arguments.length != argumentTypes.length) {
+				return false;
+			}
+			for (int i = 0; i < arguments.length; i++) {
+				if ((arguments[i] != null ? arguments[i].getClass() : null) != argumentTypes[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private Object invoke(Object target, Object[] arguments) {
+			try {
+				return (Object)invoker.invokeExact(target, arguments);
+			} catch (Throwable exc) {
+				return Driver.throwException(exc);
+			}
+		}
+	}
+
 	public static class NoSuchMethodException extends RuntimeException {
 
 		private static final long serialVersionUID = -2912826056405333039L;
@@ -39,6 +39,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Synchroniz
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -46,8 +47,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -58,6 +59,8 @@ import org.burningwave.core.io.PathHelper;
 
 public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryClassLoader {
 	Map<String, Boolean> loadedPaths;
+	//For each loaded path contains the files found in it grouped by name
+	Map<String, Map<String, Collection<FileSystemItem>>> resourcesIndexes;
 	PathHelper pathHelper;
 	FileSystemItem.Criteria fileFilterAndProcessor;
 	BiFunction<Throwable, FileSystemItem[], Boolean> exceptionHandler;
@@ -101,6 +104,7 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 		super(parentClassLoader);
 		this.pathHelper = pathHelper;
 		this.loadedPaths = new ConcurrentHashMap<>();
+		this.resourcesIndexes = new ConcurrentHashMap<>();
 		this.exceptionHandler = (exc, childAndPath) -> {
 			if (!isClosed) {
 				ManagedLoggerRepository.logError(getClass()::getName, "Exception occurred while scanning {}", exc, childAndPath[0].getAbsolutePath());
@@ -155,11 +159,14 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 								pathFIS.refresh();
 							}
 							Predicate<FileSystemItem[]> classFilePredicateAndConsumer = fileFilterAndProcessor.getPredicateOrTruePredicateIfPredicateIsNull();
+							Map<String, Collection<FileSystemItem>> resourcesIndex = new HashMap<>();
 							for (FileSystemItem child : pathFIS.getAllChildren()) {
 								classFilePredicateAndConsumer.test(
 									new FileSystemItem [] {child, pathFIS}
 								);
+								addToResourcesIndex(resourcesIndex, child);
 							}
+							resourcesIndexes.put(path, resourcesIndex);
 							loadedPaths.put(path, Boolean.TRUE);
 							scannedPaths.add(path);
 						}
@@ -188,35 +195,22 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 		if (url != null) {
 			return url;
 		}
-		AtomicReference<URL> inputStreamWrapper = new AtomicReference<>();
-		FileSystemItem.Criteria scanFileCriteria = FileSystemItem.Criteria.forAllFileThat(child -> {
-			if (child.isFile() && child.getAbsolutePath().endsWith("/" + name)) {
-				inputStreamWrapper.set(child.getURL());
-				return true;
-			}
-			return false;
-		}).setExceptionHandler(exceptionHandler);
-		for (String loadedPath : loadedPaths.keySet()) {
-			FileSystemItem.ofPath(loadedPath).findFirstInAllChildren(scanFileCriteria);
-			if (inputStreamWrapper.get() != null) {
-				return inputStreamWrapper.get();
-			}
-		}
-		return null;
+		return findFirstResource(name, FileSystemItem::getURL);
 	}
 
 	@Override
 	public Enumeration<URL> getResources(String name) throws IOException {
 		Collection<URL> resourcesFound = Resources.getAll(name, this.allParents);
-		FileSystemItem.Criteria scanFileCriteria = FileSystemItem.Criteria.forAllFileThat(child -> {
-			if (child.isFile() && child.getAbsolutePath().endsWith("/" + name)) {
-				resourcesFound.add(child.getURL());
-				return true;
-			}
-			return false;
-		}).setExceptionHandler(exceptionHandler);
+		String nameSuffix = "/" + name;
 		for (String loadedPath : loadedPaths.keySet()) {
-			FileSystemItem.ofPath(loadedPath).findInAllChildren(scanFileCriteria);
+			Collection<FileSystemItem> resources = getResourcesIndex(loadedPath).get(retrieveResourceFileName(name));
+			if (resources != null) {
+				for (FileSystemItem resource : resources) {
+					if (resource.getAbsolutePath().endsWith(nameSuffix)) {
+						resourcesFound.add(resource.getURL());
+					}
+				}
+			}
 		}
 		return Collections.enumeration(resourcesFound);
 	}
@@ -228,23 +222,67 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 		if (inputStream != null) {
 			return inputStream;
 		}
-		AtomicReference<InputStream> inputStreamWrapper = new AtomicReference<>();
-		FileSystemItem.Criteria scanFileCriteria = FileSystemItem.Criteria.forAllFileThat(child -> {
-			if (child.isFile() && child.getAbsolutePath().endsWith("/" + name)) {
-				inputStreamWrapper.set(child.toInputStream());
-				return true;
-			}
-			return false;
-		}).setExceptionHandler(exceptionHandler);
+		return findFirstResource(name, FileSystemItem::toInputStream);
+	}
+
+	private <T> T findFirstResource(String name, Function<FileSystemItem, T> converter) {
+		String nameSuffix = "/" + name;
 		for (String loadedPath : loadedPaths.keySet()) {
-			FileSystemItem.ofPath(loadedPath).findFirstInAllChildren(scanFileCriteria);
-			if (inputStreamWrapper.get() != null) {
-				return inputStreamWrapper.get();
+			Collection<FileSystemItem> resources = getResourcesIndex(loadedPath).get(retrieveResourceFileName(name));
+			if (resources != null) {
+				for (FileSystemItem resource : resources) {
+					if (resource.getAbsolutePath().endsWith(nameSuffix)) {
+						return converter.apply(resource);
+					}
+				}
 			}
 		}
 		return null;
 	}
 
+	private String retrieveResourceFileName(String name) {
+		return name.substring(name.lastIndexOf("/") + 1);
+	}
+
+	//The index of a path is built while scanning it or, for the paths scanned by the ClassPathScanner,
+	//on the first request and is removed when the path is refreshed
+	Map<String, Collection<FileSystemItem>> getResourcesIndex(String loadedPath) {
+		Map<String, Collection<FileSystemItem>> resourcesIndex = resourcesIndexes.get(loadedPath);
+		if (resourcesIndex != null) {
+			return resourcesIndex;
+		}
+		return Synchronizer.execute(instanceId + "_" + loadedPath, () -> {
+			Map<String, Collection<FileSystemItem>> resourcesIndexTemp = resourcesIndexes.get(loadedPath);
+			if (resourcesIndexTemp == null) {
+				FileSystemItem pathFIS = FileSystemItem.ofPath(loadedPath);
+				resourcesIndexTemp = new HashMap<>();
+				try {
+					Collection<FileSystemItem> children = pathFIS.getAllChildren();
+					if (children != null) {
+						for (FileSystemItem child : children) {
+							addToResourcesIndex(resourcesIndexTemp, child);
+						}
+					}
+				} catch (Throwable exc) {
+					exceptionHandler.apply(exc, new FileSystemItem[] {pathFIS, pathFIS});
+					return resourcesIndexTemp;
+				}
+				resourcesIndexes.put(loadedPath, resourcesIndexTemp);
+			}
+			return resourcesIndexTemp;
+		});
+	}
+
+	private void addToResourcesIndex(Map<String, Collection<FileSystemItem>> resourcesIndex, FileSystemItem child) {
+		if (child.isFile()) {
+			resourcesIndex.computeIfAbsent(child.getName(), name -> new ArrayList<>()).add(child);
+		}
+	}
+
+	void removeResourcesIndex(String loadedPath) {
+		resourcesIndexes.remove(loadedPath);
+	}
+
 
 	public boolean hasBeenCompletelyLoaded(String path) {
 		Boolean hasBeenCompletelyLoaded = loadedPaths.get(path);
@@ -277,6 +315,7 @@ public class PathScannerClassLoader extends org.burningwave.core.classes.MemoryC
 				super.closeResources().waitForFinish();
 				this.loadedPaths.clear();
 				this.loadedPaths = null;
+				this.resourcesIndexes.clear();
 				pathHelper = null;
 				fileFilterAndProcessor = null;
 				if (this.getClass().equals(PathScannerClassLoader.class)) {
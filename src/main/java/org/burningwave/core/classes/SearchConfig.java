@@ -62,6 +62,7 @@ public class SearchConfig implements Closeable {
 	Function<ClassLoader, Map.Entry<ClassLoader, Collection<FileSystemItem>>> pathsSupplier;
 	Function<FileSystemItem, FileSystemItem.Find> findFunctionSupplier;
 	Predicate<FileSystemItem> refreshPathIf;
+	boolean watchFolders;
 
 	Boolean fileFiltersExtenallySet;
 	Function<FileSystemItem, FileSystemItem.Criteria> fileFilterSupplier;
@@ -308,6 +309,13 @@ public class SearchConfig implements Closeable {
 		return this;
 	}
 
+	//The folders are watched through a WatchService and, instead of being refreshed, only the class files
+	//created, modified or deleted since the previous search are reloaded
+	public SearchConfig checkForAddedClassesByWatchingFolders() {
+		this.watchFolders = true;
+		return this;
+	}
+
 	public SearchConfig optimizePaths(boolean flag) {
 		this.optimizePaths = flag;
 		return this;
@@ -449,6 +457,10 @@ public class SearchConfig implements Closeable {
 		return this.refreshPathIf;
 	}
 
+	boolean isFolderWatchingEnabled() {
+		return this.watchFolders;
+	}
+
 	FileSystemItem.Criteria getAllFileFilters(FileSystemItem currentScannedPath){
 		FileSystemItem.Criteria fileFilter = null;
 		if (additionalFileFilterSupplier != null) {
@@ -496,6 +508,7 @@ public class SearchConfig implements Closeable {
 		destConfig.pathsRetriever = this.pathsRetriever;
 		destConfig.findFunctionSupplier = this.findFunctionSupplier;
 		destConfig.refreshPathIf = this.refreshPathIf;
+		destConfig.watchFolders = this.watchFolders;
 		destConfig.fileFilterSupplier = this.fileFilterSupplier;
 		destConfig.additionalFileFilterSupplier = this.additionalFileFilterSupplier;
 		destConfig.pathsSupplier = this.pathsSupplier;
@@ -36,6 +36,7 @@ import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Closeable;
@@ -54,6 +55,7 @@ class SearchContext<T> implements Closeable {
 	Collection<String> skippedClassNames;
 	QueuedTaskExecutor.Task searchTask;
 	Collection<T> itemsFound;
+	Collection<String> watchedFolders;
 	boolean requestToClosePathScannderClassLoaderOnClose;
 
 	Collection<String> getSkippedClassNames() {
@@ -67,6 +69,7 @@ class SearchContext<T> implements Closeable {
 		this.itemsFoundFlatMap = new ConcurrentHashMap<>();
 		this.itemsFoundMap = new ConcurrentHashMap<>();
 		this.skippedClassNames = ConcurrentHashMap.newKeySet();
+		this.watchedFolders = ConcurrentHashMap.newKeySet();
 		this.sharedPathScannerClassLoader = initContext.getSharedPathScannerClassLoader();
 		this.pathScannerClassLoader = initContext.getPathScannerClassLoader();
 		this.searchConfig = initContext.getSearchConfig();
@@ -126,6 +129,7 @@ class SearchContext<T> implements Closeable {
 		).put(key, item);
 		synchronized(itemsFoundFlatMap) {
 			itemsFoundFlatMap.put(key, item);
+			itemsFound = null;
 		}
 	}
 
@@ -141,6 +145,28 @@ class SearchContext<T> implements Closeable {
 		}
 	}
 
+	void removeItemsFound(Predicate<String> keyPredicate) {
+		Map<String, T> itemsFoundFlatMap = this.itemsFoundFlatMap;
+		Map<String, Map<String, T>> itemsFoundMap = this.itemsFoundMap;
+		if (itemsFoundFlatMap == null || itemsFoundMap == null) {
+			return;
+		}
+		synchronized(itemsFoundFlatMap) {
+			if (!itemsFoundFlatMap.keySet().removeIf(keyPredicate)) {
+				return;
+			}
+			itemsFound = null;
+		}
+		for (Map<String, T> items : itemsFoundMap.values()) {
+			items.keySet().removeIf(keyPredicate);
+		}
+	}
+
+	boolean isWatching(String folderAbsolutePath) {
+		Collection<String> watchedFolders = this.watchedFolders;
+		return watchedFolders != null && watchedFolders.contains(folderAbsolutePath);
+	}
+
 	 Map<String, T> retrieveCollectionForPath(Map<String, Map<String, T>> allItems, Supplier<Map<String, T>> mapForPathSupplier, String path) {
 		Map<String, T> items = null;
 		if (mapForPathSupplier != null) {
@@ -248,6 +274,28 @@ class SearchContext<T> implements Closeable {
 			loadClass(cls.getName());
 	}
 
+	//A failure of the prefilter, caused by the user predicates or by a malformed byte code, skips the class like a
+	//class that can't be loaded instead of aborting the search
+	ClassCriteria.TestContext test(JavaClass javaClass) {
+		ClassCriteria classCriteria = searchConfig.getClassCriteria();
+		if (!execute(
+			() -> {
+				try {
+					return classCriteria.testJavaClass(javaClass);
+				} catch (RuntimeException exc) {
+					addToSkippedClassNames(javaClass.getName());
+					ManagedLoggerRepository.logWarn(getClass()::getName, "Could not test class {}: {}", javaClass.getName(), exc.toString());
+					return false;
+				}
+			},
+			() -> false,
+			() -> javaClass.getName()
+		)) {
+			return classCriteria.testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null);
+		}
+		return test(loadClass(javaClass.getName()));
+	}
+
 	ClassCriteria.TestContext test(Class<?> cls) {
 		return execute(
 			() -> searchConfig.getClassCriteria().testWithFalseResultForNullEntityOrTrueResultForNullPredicate(cls),
@@ -271,6 +319,7 @@ class SearchContext<T> implements Closeable {
 		sharedPathScannerClassLoader = null;
 		skippedClassNames.clear();
 		skippedClassNames = null;
+		watchedFolders = null;
 		searchTask = null;
 	}
 
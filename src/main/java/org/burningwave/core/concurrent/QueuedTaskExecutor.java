@@ -31,11 +31,13 @@ package org.burningwave.core.concurrent;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Metrics;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,7 +49,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -72,7 +76,8 @@ public class QueuedTaskExecutor implements Closeable {
 	Thread.Supplier threadSupplier;
 	String name;
 	java.lang.Thread tasksLauncher;
-	List<TaskAbst<?, ?>> tasksQueue;
+	TasksQueue tasksQueue;
+	volatile boolean tasksLauncherWaiting;
 	Boolean supended;
 	volatile int defaultPriority;
 	long executedTasksCount;
@@ -86,6 +91,8 @@ public class QueuedTaskExecutor implements Closeable {
 	Object suspensionCallerMutex;
 	Object executableCollectionFillerMutex;
 	Object terminatingMutex;
+	String queueSizeMetricName;
+	String taskWaitingTimeMetricName;
 
 	static {
 		runOnlyOnceTasks = new ConcurrentHashMap<>();
@@ -95,40 +102,7 @@ public class QueuedTaskExecutor implements Closeable {
 	QueuedTaskExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon) {
 		initializer = () -> {
 			this.threadSupplier = threadSupplier;
-			tasksQueue = new CopyOnWriteArrayList<TaskAbst<?, ?>>() {
-				private static final long serialVersionUID = -176528742161426076L;
-				int min = 1500;
-				int max = 2000;
-
-				@Override
-				public boolean add(TaskAbst<?, ?> e) {
-					while (size() > max) {
-						synchronized(this) {
-							try {
-								wait();
-							} catch (Throwable exc) {
-								org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
-							}
-						}
-					}
-					return super.add(e);
-				}
-
-				@Override
-				public boolean remove(Object task) {
-					boolean removed;
-					int size;
-					if ((removed = super.remove(task)) && ((size = size()) > min) && (size < max)) {
-						//ManagedLoggerRepository.logInfo(getClass()::getName, "Collection size: {}", size);
-						synchronized(this) {
-							this.notifyAll();
-						}
-					}
-					return removed;
-				}
-
-			};
-
+			tasksQueue = new TasksQueue(2000);
 			tasksInExecution = new ConcurrentHashMap<TaskAbst<?, ?>, TaskAbst<?, ?>>() ;
 			this.resumeCallerMutex = new Object();
 			this.executingFinishedWaiterMutex = new Object();
@@ -136,6 +110,8 @@ public class QueuedTaskExecutor implements Closeable {
 			this.executableCollectionFillerMutex = new Object();
 			this.terminatingMutex = new Object();
 			this.name = name;
+			this.queueSizeMetricName = "queued-task-executor." + name + ".queue-size";
+			this.taskWaitingTimeMetricName = "queued-task-executor." + name + ".task-waiting-time";
 			this.defaultPriority = defaultPriority;
 			this.isDaemon = isDaemon;
 			init0();
@@ -157,21 +133,16 @@ public class QueuedTaskExecutor implements Closeable {
 					continue;
 				}
 				if (!tasksQueue.isEmpty()) {
-					Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-					while (taskIterator.hasNext()) {
-						if (checkAndNotifySuspension() || terminated) {
-							break;
-						}
-						TaskAbst<?, ?> task = taskIterator.next();
-						synchronized (task) {
-							if (!tasksQueue.remove(task)) {
-								continue;
-							}
-						}
+					TaskAbst<?, ?> task;
+					while (!(checkAndNotifySuspension() || terminated) && (task = tasksQueue.poll()) != null) {
+						task.waitingSample.stop(task.name);
 						task.setExecutor(threadSupplier.getOrCreateThread()).start();
 					}
 				} else {
 					synchronized(executableCollectionFillerMutex) {
+						//The flag must be raised before checking the queue: the task adders read it after having
+						//added the task and notify the launcher only if it is (or is going to be) waiting
+						tasksLauncherWaiting = true;
 						if (tasksQueue.isEmpty()) {
 							try {
 								synchronized(executingFinishedWaiterMutex) {
@@ -184,6 +155,7 @@ public class QueuedTaskExecutor implements Closeable {
 								ManagedLoggerRepository.logError(getClass()::getName, exc);
 							}
 						}
+						tasksLauncherWaiting = false;
 					}
 				}
 			}
@@ -299,14 +271,18 @@ public class QueuedTaskExecutor implements Closeable {
 		Object[] canBeExecutedBag = null;
 		if (skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) {
 			try {
-				task.creator = java.lang.Thread.currentThread();
+				task.creator = Thread.getCurrent();
 				Synchronizer.execute(Objects.getId(task.creator), () -> {
 					Collection<TaskAbst<?,?>> childrenTask = taskCreatorThreadsForChildTasks.computeIfAbsent(task.creator, key -> ConcurrentHashMap.newKeySet());
 					childrenTask.add(task);
 				});
+				task.waitingSample = Metrics.startSample(taskWaitingTimeMetricName);
 				tasksQueue.add(task);
-				synchronized(executableCollectionFillerMutex) {
-					executableCollectionFillerMutex.notifyAll();
+				Metrics.recordValue(queueSizeMetricName, tasksQueue.size());
+				if (tasksLauncherWaiting) {
+					synchronized(executableCollectionFillerMutex) {
+						executableCollectionFillerMutex.notifyAll();
+					}
 				}
 			} catch (Throwable exc) {
 				ManagedLoggerRepository.logError(getClass()::getName, exc);
@@ -331,11 +307,11 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public <E, T extends TaskAbst<E, T>> QueuedTaskExecutor waitFor(T task) {
-		return waitFor(task, java.lang.Thread.currentThread().getPriority(), false);
+		return waitFor(task, Thread.getCurrent().getPriority(), false);
 	}
 
 	public <E, T extends TaskAbst<E, T>> QueuedTaskExecutor waitFor(T task, boolean ignoreDeadLocked) {
-		return waitFor(task, java.lang.Thread.currentThread().getPriority(), ignoreDeadLocked);
+		return waitFor(task, Thread.getCurrent().getPriority(), ignoreDeadLocked);
 	}
 
 	public <E, T extends TaskAbst<E, T>> QueuedTaskExecutor waitFor(T task, int priority, boolean ignoreDeadLocked) {
@@ -345,7 +321,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public QueuedTaskExecutor waitForTasksEnding() {
-		return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), false);
+		return waitForTasksEnding(Thread.getCurrent().getPriority(), false);
 	}
 
 	public <E, T extends TaskAbst<E, T>> boolean abort(T task) {
@@ -511,7 +487,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public QueuedTaskExecutor suspend(boolean immediately, boolean ignoreDeadLocked) {
-		return suspend0(immediately, java.lang.Thread.currentThread().getPriority(), ignoreDeadLocked);
+		return suspend0(immediately, Thread.getCurrent().getPriority(), ignoreDeadLocked);
 	}
 
 	public QueuedTaskExecutor suspend(boolean immediately, int priority, boolean ignoreDeadLocked) {
@@ -566,20 +542,15 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<E, T extends TaskAbst<E, T>> void changePriorityToAllTaskBeforeAndWaitThem(T task, int priority, boolean ignoreDeadLocked) {
-		int taskIndex = tasksQueue.indexOf(task);
-		if (taskIndex != -1) {
+		if (tasksQueue.contains(task)) {
 			Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-			int idx = 0;
 			while (taskIterator.hasNext()) {
 				TaskAbst<?, ?> currentIterated = taskIterator.next();
-				if (idx < taskIndex) {
-					if (currentIterated != task) {
-						task.changePriority(priority);
-					} else {
-						break;
-					}
+				if (currentIterated != task) {
+					task.changePriority(priority);
+				} else {
+					break;
 				}
-				idx++;
 			}
 		}
 		waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
@@ -698,6 +669,153 @@ public class QueuedTaskExecutor implements Closeable {
 		name = null;
 	}
 
+	//Lock-free FIFO queue of tasks: the tasks are removed logically, by clearing the node that holds them, so that
+	//both the removal performed by the launcher and the removal of a specific task are O(1). When the size exceeds
+	//the max value the adders wait until the launcher brings it back to the max value
+	static class TasksQueue extends AbstractCollection<TaskAbst<?, ?>> {
+		ConcurrentLinkedQueue<Node> nodes;
+		AtomicInteger size;
+		int maxSize;
+		Object fullQueueMutex;
+
+		TasksQueue(int maxSize) {
+			this.nodes = new ConcurrentLinkedQueue<>();
+			this.size = new AtomicInteger();
+			this.maxSize = maxSize;
+			this.fullQueueMutex = new Object();
+		}
+
+		@Override
+		public boolean add(TaskAbst<?, ?> task) {
+			while (size.get() > maxSize) {
+				synchronized(fullQueueMutex) {
+					if (size.get() > maxSize) {
+						try {
+							fullQueueMutex.wait();
+						} catch (Throwable exc) {
+							org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+						}
+					}
+				}
+			}
+			Node node = new Node(this, task);
+			task.queueNode = node;
+			size.incrementAndGet();
+			nodes.offer(node);
+			return true;
+		}
+
+		TaskAbst<?, ?> poll() {
+			Node node;
+			while ((node = nodes.poll()) != null) {
+				TaskAbst<?, ?> task = node.task;
+				if (task != null && node.clear(task)) {
+					return task;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean remove(Object object) {
+			if (object instanceof TaskAbst) {
+				TaskAbst<?, ?> task = (TaskAbst<?, ?>)object;
+				Node node = task.queueNode;
+				return node != null && node.queue == this && node.clear(task);
+			}
+			return false;
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			if (object instanceof TaskAbst) {
+				Node node = ((TaskAbst<?, ?>)object).queueNode;
+				return node != null && node.queue == this && node.task == object;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			while (poll() != null) {}
+		}
+
+		@Override
+		public int size() {
+			return size.get();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size.get() == 0;
+		}
+
+		@Override
+		public Iterator<TaskAbst<?, ?>> iterator() {
+			Iterator<Node> nodesIterator = nodes.iterator();
+			return new Iterator<TaskAbst<?, ?>>() {
+				TaskAbst<?, ?> next;
+				TaskAbst<?, ?> current;
+
+				@Override
+				public boolean hasNext() {
+					while (next == null && nodesIterator.hasNext()) {
+						next = nodesIterator.next().task;
+					}
+					return next != null;
+				}
+
+				@Override
+				public TaskAbst<?, ?> next() {
+					if (!hasNext()) {
+						throw new java.util.NoSuchElementException();
+					}
+					current = next;
+					next = null;
+					return current;
+				}
+
+				@Override
+				public void remove() {
+					TasksQueue.this.remove(current);
+				}
+			};
+		}
+
+		void onRemoved(Node node, TaskAbst<?, ?> task) {
+			if (task.queueNode == node) {
+				task.queueNode = null;
+			}
+			if (size.decrementAndGet() == maxSize) {
+				synchronized(fullQueueMutex) {
+					fullQueueMutex.notifyAll();
+				}
+			}
+		}
+
+		static class Node {
+			@SuppressWarnings("rawtypes")
+			private static final AtomicReferenceFieldUpdater<Node, TaskAbst> taskUpdater =
+				AtomicReferenceFieldUpdater.newUpdater(Node.class, TaskAbst.class, "task");
+
+			TasksQueue queue;
+			volatile TaskAbst<?, ?> task;
+
+			Node(TasksQueue queue, TaskAbst<?, ?> task) {
+				this.queue = queue;
+				this.task = task;
+			}
+
+			boolean clear(TaskAbst<?, ?> task) {
+				if (taskUpdater.compareAndSet(this, task, null)) {
+					queue.onRemoved(this, task);
+					return true;
+				}
+				return false;
+			}
+		}
+	}
+
 	public static abstract class TaskAbst<E, T extends TaskAbst<E, T>> {
 
 		String name;
@@ -710,6 +828,7 @@ public class QueuedTaskExecutor implements Closeable {
 		volatile int priority;
 		volatile Long startTime;
 		volatile boolean submitted;
+		volatile boolean queuingDeferred;
 		volatile boolean aborted;
 		volatile boolean finished;
 		volatile boolean executed;
@@ -721,6 +840,8 @@ public class QueuedTaskExecutor implements Closeable {
 		Throwable exc;
 		ThrowingBiPredicate<T, Throwable, Throwable> exceptionHandler;
 		QueuedTaskExecutor queuedTasksExecutor;
+		volatile TasksQueue.Node queueNode;
+		volatile org.burningwave.core.Metrics.Sample waitingSample;
 
 		public TaskAbst(E executable, boolean creationTracking) {
 			if (executable == null) {
@@ -788,7 +909,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public boolean isAborted() {
 			Thread executor = this.executor;
-			return aborted && !executed && ((executor == null) || !executor.isAlive());
+			return aborted && !executed && ((executor == null) || !executor.isExecutorAlive());
 		}
 
 		private boolean isExecutorTerminated() {
@@ -797,7 +918,7 @@ public class QueuedTaskExecutor implements Closeable {
 				return(Boolean)executorOrTerminatedExecutorFlag;
 			}
 			if (executorOrTerminatedExecutorFlag != null) {
-				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isAlive();
+				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isExecutorAlive();
 				if (!isAlive) {
 					return (Boolean)(this.executorOrTerminatedExecutorFlag = !isAlive);
 				}
@@ -897,7 +1018,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		private boolean waitForStarting0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
-			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			java.lang.Thread currentThread = Thread.getCurrent();
 			if (currentThread == this.executor) {
 				return false;
 			}
@@ -959,7 +1080,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		private boolean waitForFinish0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
-			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			java.lang.Thread currentThread = Thread.getCurrent();
 			if (currentThread == this.executor) {
 				return false;
 			}
@@ -1148,7 +1269,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public boolean setPriorityToCurrentThreadPriority() {
-			return changePriority(java.lang.Thread.currentThread().getPriority());
+			return changePriority(Thread.getCurrent().getPriority());
 		}
 
 		public int getPriority() {
@@ -1167,16 +1288,40 @@ public class QueuedTaskExecutor implements Closeable {
 				synchronized(this) {
 					if (!submitted) {
 						submitted = true;
-					} else {
+					} else if (!endQueuingDeferral()) {
 						throw new TaskStateException(this, "is already submitted");
 					}
 				}
-			} else {
+			} else if (!endQueuingDeferral()) {
 				throw new TaskStateException(this, "is already submitted");
 			}
 			return addToQueue();
 		}
 
+		//Marks the task as submitted without adding it to the queue, so that it can be joined before its
+		//execution is requested: the task will be queued when submit is called
+		public final T submitLater() {
+			if (isAborted()) {
+				throw new TaskStateException(this, "is aborted");
+			}
+			synchronized(this) {
+				if (submitted) {
+					throw new TaskStateException(this, "is already submitted");
+				}
+				submitted = true;
+				queuingDeferred = true;
+			}
+			return (T)this;
+		}
+
+		private synchronized boolean endQueuingDeferral() {
+			if (!queuingDeferred) {
+				return false;
+			}
+			queuingDeferred = false;
+			return true;
+		}
+
 		T addToQueue() {
 			return getQueuedTasksExecutor().addToQueue((T)this, false);
 		}
@@ -1460,7 +1605,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingFunction<ProducerTask<T>, T, ? extends Throwable> executable) {
-			return createProducerTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createProducerTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingFunction<ProducerTask<T>, T, ? extends Throwable> executable, int priority) {
@@ -1468,7 +1613,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingSupplier<T, ? extends Throwable> executable) {
-			return createProducerTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createProducerTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public <T> ProducerTask<T> createProducerTask(ThrowingSupplier<T, ? extends Throwable> executable, int priority) {
@@ -1524,7 +1669,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public Task createTask(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable) {
-			return createTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public Task createTask(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable, int priority) {
@@ -1532,7 +1677,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public Task createTask(ThrowingRunnable<? extends Throwable> executable) {
-			return createTask(executable, java.lang.Thread.currentThread().getPriority());
+			return createTask(executable, Thread.getCurrent().getPriority());
 		}
 
 		public Task createTask(ThrowingRunnable<? extends Throwable> executable, int priority) {
@@ -1654,15 +1799,15 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public Group waitForTasksEnding() {
-			return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), false, false);
+			return waitForTasksEnding(Thread.getCurrent().getPriority(), false, false);
 		}
 
 		public Group waitForTasksEnding(boolean ignoreDeadLocked) {
-			return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), false, ignoreDeadLocked);
+			return waitForTasksEnding(Thread.getCurrent().getPriority(), false, ignoreDeadLocked);
 		}
 
 		public Group waitForTasksEnding(boolean waitForNewAddedTasks, boolean ignoreDeadLocked) {
-			return waitForTasksEnding(java.lang.Thread.currentThread().getPriority(), waitForNewAddedTasks, ignoreDeadLocked);
+			return waitForTasksEnding(Thread.getCurrent().getPriority(), waitForNewAddedTasks, ignoreDeadLocked);
 		}
 
 		public Group waitForTasksEnding(int priority, boolean waitForNewAddedTasks, boolean ignoreDeadLocked) {
@@ -1691,7 +1836,7 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public <E, T extends TaskAbst<E, T>> Group waitFor(T task, boolean ignoreDeadLocked) {
-			return waitFor(task, java.lang.Thread.currentThread().getPriority(), ignoreDeadLocked);
+			return waitFor(task, Thread.getCurrent().getPriority(), ignoreDeadLocked);
 		}
 
 		public <E, T extends TaskAbst<E, T>> Group waitFor(T task, int priority, boolean ignoreDeadLocked) {
@@ -1772,7 +1917,7 @@ public class QueuedTaskExecutor implements Closeable {
 					initializator = null;
 					return;
 				}
-				QueuedTaskExecutor lastToBeWaitedFor = getByPriority(java.lang.Thread.currentThread().getPriority());
+				QueuedTaskExecutor lastToBeWaitedFor = getByPriority(Thread.getCurrent().getPriority());
 				for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
 					QueuedTaskExecutor queuedTasksExecutor = queuedTasksExecutorBox.getValue();
 					if (queuedTasksExecutor != lastToBeWaitedFor) {
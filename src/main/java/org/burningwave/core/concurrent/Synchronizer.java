@@ -30,20 +30,26 @@ package org.burningwave.core.concurrent;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Metrics;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Closeable;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 import org.burningwave.core.function.ThrowingConsumer;
 import org.burningwave.core.function.ThrowingFunction;
 import org.burningwave.core.function.ThrowingRunnable;
@@ -51,18 +57,83 @@ import org.burningwave.core.function.ThrowingSupplier;
 
 
 public class Synchronizer implements Closeable {
+	public static abstract class Configuration {
+		public static abstract class Key {
+			public static final String MUTEX_STRIPING_ENABLED = "synchronizer.mutex-striping.enabled";
+			public static final String MUTEX_STRIPING_STRIPE_COUNT = "synchronizer.mutex-striping.stripe-count";
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues =  new HashMap<>();
+
+			defaultValues.put(
+				Key.MUTEX_STRIPING_ENABLED,
+				false
+			);
+
+			defaultValues.put(
+				Key.MUTEX_STRIPING_STRIPE_COUNT,
+				4096
+			);
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+
+	static final AtomicIntegerFieldUpdater<Mutex> clientsCountUpdater = AtomicIntegerFieldUpdater.newUpdater(Mutex.class, "clientsCount");
+
 	Map<String, Mutex> mutexes;
+	//Mutexes of the ids received in two parts, grouped by prefix so that the parts are never concatenated
+	Map<String, Map<String, Mutex>> mutexesByPrefix;
+	//Fixed table of shared mutexes used instead of the mutexes map when mutex striping is enabled
+	Mutex[] stripes;
+	int stripeMask;
 	String name;
 	ThreadsMonitorer allThreadsMonitorer;
 
-	private Synchronizer(String name) {
+	private Synchronizer(String name, Map<?, ?> config) {
 		this.name = name;
 		mutexes = new ConcurrentHashMap<>();
+		mutexesByPrefix = new ConcurrentHashMap<>();
+		if (Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.MUTEX_STRIPING_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		)) {
+			int stripeCount = Objects.toInt(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.MUTEX_STRIPING_STRIPE_COUNT)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			);
+			if (stripeCount < 1) {
+				throw new IllegalArgumentException("stripeCount must be greater than zero");
+			}
+			stripeCount = stripeCount > 1 << 30 ? 1 << 30 : Integer.highestOneBit(stripeCount - 1) << 1;
+			if (stripeCount < 1) {
+				stripeCount = 1;
+			}
+			Mutex[] stripes = new Mutex[stripeCount];
+			for (int i = 0; i < stripes.length; i++) {
+				stripes[i] = this.new Mutex("stripe[" + i + "]", true);
+			}
+			this.stripeMask = stripeCount - 1;
+			this.stripes = stripes;
+		}
 	}
 
 	public static Synchronizer create(String name, boolean undestroyable) {
+		return create(name, Collections.emptyMap(), undestroyable);
+	}
+
+	public static Synchronizer create(String name, Map<?, ?> config, boolean undestroyable) {
 		if (undestroyable) {
-			return new Synchronizer(name) {
+			return new Synchronizer(name, config) {
 				StackTraceElement[] stackTraceOnCreation = Thread.currentThread().getStackTrace();
 				@Override
 				public void close() {
@@ -72,10 +143,14 @@ public class Synchronizer implements Closeable {
 				}
 			};
 		} else {
-			return new Synchronizer(name);
+			return new Synchronizer(name, config);
 		}
 	}
 
+	public boolean isMutexStripingEnabled() {
+		return stripes != null;
+	}
+
 	public Mutex getMutex(String id) {
 		Mutex newMutex = this.new Mutex(id);
 		while (true) {
@@ -83,14 +158,101 @@ public class Synchronizer implements Closeable {
 	        if (oldMutex == null) {
 		        return newMutex;
 	        }
-	        if (++oldMutex.clientsCount > 1 && mutexes.get(id) == oldMutex) {
+	        if (oldMutex.acquire()) {
+	        	//Another client is holding or waiting for the mutex: the time spent blocked on it is recorded by the
+	        	//Flight Recorder in the jdk.JavaMonitorEnter events
+	        	Metrics.incrementCounter("synchronizer.contended-mutex-acquisitions");
 	        	return oldMutex;
         	}
-        	//logWarn("Unvalid mutex with id \"{}\": a new mutex will be created", id);
-        	continue;
+	        //The last client of the mutex has released it: it is removed here if its client has not done it yet
+	        mutexes.remove(id, oldMutex);
 		}
     }
 
+	//The mutexes bound to a prefix and an id are kept apart from the ones bound to a single id, so the mutex returned
+	//doesn't exclude the one returned by getMutex(prefix + id): the two forms must not be mixed for the same key
+	public Mutex getMutex(String prefix, String id) {
+		Mutex newMutex = null;
+		while (true) {
+			Map<String, Mutex> mutexesForPrefix = mutexesByPrefix.get(prefix);
+			if (mutexesForPrefix == null) {
+				mutexesForPrefix = mutexesByPrefix.computeIfAbsent(prefix, key -> new ConcurrentHashMap<>());
+			}
+			Mutex oldMutex = mutexesForPrefix.get(id);
+			if (oldMutex == null) {
+				if (newMutex == null) {
+					newMutex = this.new Mutex(prefix, id);
+				}
+				oldMutex = mutexesForPrefix.putIfAbsent(id, newMutex);
+				if (oldMutex == null) {
+					//The map of the prefix could have been discarded by the closing of its last mutex before the put
+					if (mutexesByPrefix.get(prefix) == mutexesForPrefix) {
+						return newMutex;
+					}
+					mutexesForPrefix.remove(id, newMutex);
+					continue;
+				}
+			}
+			if (oldMutex.acquire()) {
+				if (mutexesByPrefix.get(prefix) == mutexesForPrefix) {
+					Metrics.incrementCounter("synchronizer.contended-mutex-acquisitions");
+					return oldMutex;
+				}
+				oldMutex.close();
+				continue;
+			}
+			mutexesForPrefix.remove(id, oldMutex);
+		}
+	}
+
+	//Distinct ids may share the same stripe: use the striped mutexes only for critical sections that neither block nor
+	//acquire other mutexes. When mutex striping is disabled the mutex bound to the prefix and the id is returned
+	public Mutex getStripedMutex(String prefix, String id) {
+		Mutex[] stripes = this.stripes;
+		if (stripes != null) {
+			return stripes[spread((31 * prefix.hashCode()) ^ id.hashCode()) & stripeMask];
+		}
+		return getMutex(prefix, id);
+	}
+
+	private static int spread(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x45d9f3b;
+		return hash ^ (hash >>> 16);
+	}
+
+	public void executeOnStripe(String prefix, String id, Runnable executable) {
+		try (Mutex mutex = getStripedMutex(prefix, id);) {
+			synchronized (mutex) {
+				executable.run();
+			}
+		}
+	}
+
+	public <T> T executeOnStripe(String prefix, String id, Supplier<T> executable) {
+		try (Mutex mutex = getStripedMutex(prefix, id);) {
+			synchronized (mutex) {
+				return executable.get();
+			}
+		}
+	}
+
+	public void execute(String prefix, String id, Runnable executable) {
+		try (Mutex mutex = getMutex(prefix, id);) {
+			synchronized (mutex) {
+				executable.run();
+			}
+		}
+	}
+
+	public <T> T execute(String prefix, String id, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(prefix, id);) {
+			synchronized (mutex) {
+				return executable.get();
+			}
+		}
+	}
+
 	public void execute(String id, Runnable executable) {
 		try (Mutex mutex = getMutex(id);) {
 			synchronized (mutex) {
@@ -149,6 +311,7 @@ public class Synchronizer implements Closeable {
 
 	public void clear() {
 		mutexes.clear();
+		mutexesByPrefix.clear();
 	}
 
 	@Override
@@ -159,6 +322,7 @@ public class Synchronizer implements Closeable {
 		}
 		clear();
 		mutexes = null;
+		mutexesByPrefix = null;
 	}
 
 	public void logAllThreadsState(boolean logMutexes) {
@@ -184,7 +348,7 @@ public class Synchronizer implements Closeable {
 		log.append(
 			Strings.compile(
 				"Mutexes count: {}",
-				mutexes.size()
+				mutexes.size() + mutexesByPrefix.values().stream().mapToInt(Map::size).sum()
 			)
 		);
 		if (getMutexesInfo) {
@@ -192,6 +356,22 @@ public class Synchronizer implements Closeable {
 				":\n" +
 				IterableObjectHelper.toString(mutexes, key -> key, value -> "" + value.clientsCount + " clients", 1)
 			);
+			for (Map.Entry<String, Map<String, Mutex>> mutexesForPrefix : mutexesByPrefix.entrySet()) {
+				log.append(
+					"\n" +
+					IterableObjectHelper.toString(
+						mutexesForPrefix.getValue(), key -> mutexesForPrefix.getKey() + key, value -> "" + value.clientsCount + " clients", 1
+					)
+				);
+			}
+		}
+		if (stripes != null) {
+			log.append(
+				Strings.compile(
+					"\nMutex striping enabled with {} stripes",
+					stripes.length
+				)
+			);
 		}
 		log.append("\n");
 		return log.toString();
@@ -227,15 +407,50 @@ public class Synchronizer implements Closeable {
 
 	public class Mutex implements java.io.Closeable {
 		Mutex(String id) {
+			this(id, false);
+		}
+
+		Mutex(String id, boolean striped) {
 			this.id = id;
+			this.striped = striped;
+		}
+
+		Mutex(String prefix, String id) {
+			this(id, false);
+			this.prefix = prefix;
 		}
+		String prefix;
 		String id;
-		int clientsCount = 1;
+		volatile int clientsCount = 1;
+		//The striped mutexes are shared by distinct ids and are never removed
+		final boolean striped;
+
+		//Returns false if the mutex has already been released by its last client: in this case it can't be used anymore
+		boolean acquire() {
+			int clientsCount;
+			while ((clientsCount = this.clientsCount) > 0) {
+				if (clientsCountUpdater.compareAndSet(this, clientsCount, clientsCount + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
 
 		@Override
 		public void close() {
-			if (--clientsCount < 1) {
-				Synchronizer.this.mutexes.remove(id);
+			if (!striped && clientsCountUpdater.decrementAndGet(this) < 1) {
+				if (prefix == null) {
+					Synchronizer.this.mutexes.remove(id, this);
+					return;
+				}
+				Map<String, Map<String, Mutex>> mutexesByPrefix = Synchronizer.this.mutexesByPrefix;
+				if (mutexesByPrefix == null) {
+					return;
+				}
+				Map<String, Mutex> mutexesForPrefix = mutexesByPrefix.get(prefix);
+				if (mutexesForPrefix != null && mutexesForPrefix.remove(id, this) && mutexesForPrefix.isEmpty()) {
+					mutexesByPrefix.computeIfPresent(prefix, (key, mutexesOfPrefix) -> mutexesOfPrefix.isEmpty() ? null : mutexesOfPrefix);
+				}
 			}
 		}
 	}
@@ -30,12 +30,17 @@ package org.burningwave.core.concurrent;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.JVMInfo;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Metrics;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -120,6 +125,24 @@ public abstract class Thread extends java.lang.Thread {
 		return this instanceof Poolable;
 	}
 
+	//Not named isVirtual to avoid clashing with the final method added in JDK 21 to java.lang.Thread
+	public boolean runsInVirtualThread() {
+		return this instanceof Virtual;
+	}
+
+	//Returns the org.burningwave.core.concurrent.Thread that is running the current virtual thread or the current
+	//thread itself
+	public static java.lang.Thread getCurrent() {
+		java.lang.Thread currentThread = java.lang.Thread.currentThread();
+		if (Virtual.instantiated) {
+			Virtual thread = Virtual.runningInstances.get();
+			if (thread != null) {
+				return thread;
+			}
+		}
+		return currentThread;
+	}
+
 	@Override
 	public void start() {
 		if (this.originalExecutable == null) {
@@ -164,6 +187,12 @@ public abstract class Thread extends java.lang.Thread {
 		return isAlive() && running;
 	}
 
+	//Returns true if the thread that executes the executable is alive: for the threads that run in a virtual thread it
+	//is the virtual thread, since the instance itself is never started
+	public boolean isExecutorAlive() {
+		return isAlive();
+	}
+
 	public boolean isLooping() {
 		return looping;
 	}
@@ -198,7 +227,7 @@ public abstract class Thread extends java.lang.Thread {
 			getClass()::getName,
 			"Called {} by {}{}\n\ton {} (executable: {}):{}",
 			operationName,
-			java.lang.Thread.currentThread(),
+			getCurrent(),
 			Strings.from(Methods.retrieveExternalCallersInfo(), 2),
 			this,
 			executableWrapper.get(),
@@ -206,7 +235,7 @@ public abstract class Thread extends java.lang.Thread {
 		);
 		shutDown();
 		removePermanently();
-		java.lang.Thread currentThread = java.lang.Thread.currentThread();
+		java.lang.Thread currentThread = getCurrent();
 		if (this != currentThread) {
 			try {
 				operation.accept(this);
@@ -397,6 +426,107 @@ public abstract class Thread extends java.lang.Thread {
 	}
 
 
+	//The instances of this class are never started: they run their executable inside a virtual thread and delegate to
+	//it the methods that depend on the state of the underlying thread
+	private static class Virtual extends Thread {
+		private static final ThreadLocal<Virtual> runningInstances = new ThreadLocal<>();
+		private static volatile boolean instantiated;
+		private volatile java.lang.Thread virtualThread;
+		private volatile boolean started;
+
+		private Virtual(Thread.Supplier supplier, long number) {
+			super(supplier, number);
+			instantiated = true;
+		}
+
+		@Override
+		void startRunning() {
+			started = true;
+			try {
+				java.lang.Thread virtualThread = (java.lang.Thread)supplier.virtualThreadStarter.invokeExact((Runnable)this);
+				if (this.virtualThread == null) {
+					this.virtualThread = virtualThread;
+				}
+			} catch (Throwable exc) {
+				started = false;
+				Driver.throwException(exc);
+			}
+		}
+
+		@Override
+		public void run() {
+			java.lang.Thread virtualThread = this.virtualThread = java.lang.Thread.currentThread();
+			virtualThread.setName(getName());
+			runningInstances.set(this);
+			this.running = true;
+			supplier.runningThreads.put(this, this);
+			try {
+				executableWrapper.get().accept(this);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, exc);
+			}
+			runningInstances.remove();
+			executableWrapper.set(null);
+			originalExecutable = null;
+			removePermanently();
+			synchronized(executableWrapper) {
+				executableWrapper.notifyAll();
+			}
+			running = false;
+		}
+
+		@Override
+		public boolean isRunning() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null && virtualThread.isAlive() && Boolean.TRUE.equals(running);
+		}
+
+		//Between the start and the assignment of the virtual thread the executor is considered alive
+		@Override
+		public boolean isExecutorAlive() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.isAlive() : started;
+		}
+
+		@Override
+		public void interrupt() {
+			terminate(thread -> {
+				java.lang.Thread virtualThread = this.virtualThread;
+				if (virtualThread != null) {
+					virtualThread.interrupt();
+				}
+			}, "interrupt");
+		}
+
+		@Override
+		@Deprecated/*(since="12.60.0")*/
+		public void kill() {
+			terminate(thread -> {
+				java.lang.Thread virtualThread = this.virtualThread;
+				if (virtualThread != null) {
+					Driver.stop(virtualThread);
+				}
+			}, "stop");
+		}
+
+		@Override
+		public State getState() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.getState() : super.getState();
+		}
+
+		@Override
+		public StackTraceElement[] getStackTrace() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.getStackTrace() : super.getStackTrace();
+		}
+
+		@Override
+		void removePermanently () {
+			supplier.runningThreads.remove(this);
+		}
+	}
+
 	public static class Supplier implements Identifiable {
 		public static abstract class Configuration {
 			public static abstract class Key {
@@ -408,6 +538,7 @@ public abstract class Thread extends java.lang.Thread {
 					"thread-supplier.max-detached-thread-count.elapsed-time-threshold-from-last-increase-for-gradual-decreasing-to-initial-value";
 				public static final String MAX_DETACHED_THREAD_COUNT_INCREASING_STEP = "thread-supplier.max-detached-thread-count.increasing-step";
 				public static final String DEFAULT_THREAD_PRIORITY = "thread-supplier.default-thread-priority";
+				public static final String VIRTUAL_THREADS_ENABLED = "thread-supplier.virtual-threads.enabled";
 			}
 
 			public final static Map<String, Object> DEFAULT_VALUES;
@@ -450,6 +581,11 @@ public abstract class Thread extends java.lang.Thread {
 					java.lang.Thread.NORM_PRIORITY
 				);
 
+				defaultValues.put(
+					Key.VIRTUAL_THREADS_ENABLED,
+					false
+				);
+
 				DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 			}
 		}
@@ -479,6 +615,7 @@ public abstract class Thread extends java.lang.Thread {
 		private java.util.function.Supplier<Thread.Poolable> getReversePoolableThreadFunction;
 		private java.util.function.Supplier<Thread.Poolable> getPoolableThreadFunction;
 		private int defaultThreadPriority;
+		private MethodHandle virtualThreadStarter;
 
 		Supplier (
 			String name,
@@ -588,6 +725,36 @@ public abstract class Thread extends java.lang.Thread {
 			} catch (Throwable exc) {
 				this.defaultThreadPriority = java.lang.Thread.currentThread().getPriority();
 			}
+			if (Objects.toBoolean(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.VIRTUAL_THREADS_ENABLED)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			)) {
+				this.virtualThreadStarter = retrieveVirtualThreadStarter();
+			}
+		}
+
+		//On JVMs that do not support virtual threads this method returns null and platform threads are used
+		private static MethodHandle retrieveVirtualThreadStarter() {
+			//On JDK 19 and 20 virtual threads are a preview feature
+			if (JVMInfo.getVersion() < 21) {
+				return null;
+			}
+			try {
+				return MethodHandles.publicLookup().findStatic(
+					java.lang.Thread.class,
+					"startVirtualThread",
+					MethodType.methodType(java.lang.Thread.class, Runnable.class)
+				);
+			} catch (NoSuchMethodException | IllegalAccessException exc) {
+				return null;
+			}
+		}
+
+		public boolean isVirtualThreadsEnabled() {
+			return virtualThreadStarter != null;
 		}
 
 		public static Supplier create(
@@ -623,6 +790,7 @@ public abstract class Thread extends java.lang.Thread {
 					}
 					if (poolableThreadCount >= maxPoolableThreadCount) {
 						try {
+							Metrics.incrementCounter("thread-supplier.poolable-thread-request-waits");
 							poolableSleepingThreads.wait();
 						} catch (InterruptedException exc) {
 							ManagedLoggerRepository.logError(Thread.class::getName, exc);
@@ -650,6 +818,9 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		final Thread getOrCreateThread(int initialValue, int tentativeCount) {
+			if (virtualThreadStarter != null) {
+				return createVirtualThread();
+			}
 			Thread thread = getPoolableThreadFunction.get();
 			if (thread != null) {
 				return thread;
@@ -663,7 +834,10 @@ public abstract class Thread extends java.lang.Thread {
 						if (poolableThreadCount >= maxPoolableThreadCount && threadCount >= maxThreadCount) {
 							//This block of code is used to avoid performance degradation
 							long startWaitTime = System.currentTimeMillis();
+							Metrics.incrementCounter("thread-supplier.poolable-thread-request-waits");
+							org.burningwave.core.Metrics.Sample waitingSample = Metrics.startSample("thread-supplier.poolable-thread-request-waiting-time");
 							poolableSleepingThreads.wait(poolableThreadRequestTimeout);
+							waitingSample.stop(java.lang.Thread.currentThread().getName());
 							if (maxDetachedThreadCountIncreasingStep < 1) {
 								return getOrCreateThread(initialValue, tentativeCount);
 							}
@@ -684,6 +858,7 @@ public abstract class Thread extends java.lang.Thread {
 								}
 								return getOrCreateThread(initialValue, tentativeCount);
 							} else {
+								Metrics.incrementCounter("thread-supplier.poolable-thread-request-timeouts");
 								timeOfLastIncreaseOfMaxDetachedThreadCount = System.currentTimeMillis();
 								maxThreadCount += maxDetachedThreadCountIncreasingStep;
 								ManagedLoggerRepository.logInfo(
@@ -724,6 +899,10 @@ public abstract class Thread extends java.lang.Thread {
 			return new Detached(this, ++threadNumberSupplier);
 		}
 
+		Thread createVirtualThread() {
+			return new Virtual(this, ++threadNumberSupplier);
+		}
+
 		private Integer addForwardPoolableSleepingThread(Thread.Poolable thread) {
 			addPoolableSleepingThreadFunction = addReversePoolableSleepingThreadFunction;
 			for (int index = 0; index < poolableSleepingThreads.length; index++) {
@@ -840,7 +1019,7 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread joinThread(Thread thread) {
-			if (java.lang.Thread.currentThread() == thread) {
+			if (getCurrent() == thread) {
 				ManagedLoggerRepository.logWarn(getClass()::getName, "Join ignored: the current thread could not wait itself");
 				return thread;
 			}
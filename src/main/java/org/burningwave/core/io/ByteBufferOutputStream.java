@@ -41,6 +41,9 @@ public class ByteBufferOutputStream extends OutputStream {
     private Integer initialCapacity;
     private Integer initialPosition;
     private ByteBuffer buffer;
+    //The buffer is acquired from the pool of the BufferHandler and is released on close if it has not been shared
+    private boolean pooled;
+    private boolean shared;
 
     public ByteBufferOutputStream(ByteBuffer buffer) {
         this.buffer = buffer;
@@ -49,26 +52,35 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     public ByteBufferOutputStream(int initialCapacity) {
-        this(BufferHandler.allocate(initialCapacity));
+        this(BufferHandler.acquire(initialCapacity));
+        this.initialCapacity = initialCapacity;
+        this.pooled = true;
     }
 
     @Override
 	public void write(int b) {
-    	buffer = BufferHandler.ensureRemaining(buffer, 1, initialPosition);
+    	buffer = ensureRemaining(1);
         buffer.put((byte) b);
     }
 
     @Override
 	public void write(byte[] bytes, int off, int len) {
-    	buffer = BufferHandler.ensureRemaining(buffer, len, initialPosition);
+    	buffer = ensureRemaining(len);
         buffer.put(bytes, off, len);
     }
 
     public void write(ByteBuffer sourceBuffer) {
-    	buffer = BufferHandler.ensureRemaining(buffer, BufferHandler.remaining(sourceBuffer), initialPosition);
+    	buffer = ensureRemaining(BufferHandler.remaining(sourceBuffer));
         buffer.put(sourceBuffer);
     }
 
+    private ByteBuffer ensureRemaining(int requiredBytes) {
+    	if (pooled && !shared) {
+    		return BufferHandler.ensureRemainingOfAcquired(buffer, requiredBytes);
+    	}
+    	return BufferHandler.ensureRemaining(buffer, requiredBytes, initialPosition);
+    }
+
     public int position() {
         return BufferHandler.position(buffer);
     }
@@ -82,7 +94,7 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     public void position(int position) {
-    	buffer = BufferHandler.ensureRemaining(buffer, position - BufferHandler.position(buffer), initialPosition);
+    	buffer = ensureRemaining(position - BufferHandler.position(buffer));
         BufferHandler.position(buffer, position);
     }
 
@@ -91,19 +103,30 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     InputStream toBufferedInputStream() {
-        return new ByteBufferInputStream(buffer);
+    	shared = true;
+        return new ByteBufferInputStream(content());
     }
 
 	public ByteBuffer toByteBuffer() {
-		return BufferHandler.shareContent(buffer);
+		shared = true;
+		return pooled ? content() : BufferHandler.shareContent(buffer);
 	}
 
 	public byte[] toByteArray() {
-		return BufferHandler.toByteArray(toByteBuffer());
+		return BufferHandler.toByteArray(content());
+	}
+
+	//A recycled buffer may contain the data of its previous user beyond the position: its content is always
+	//delimited by the position, also when nothing has been written
+	private ByteBuffer content() {
+		return pooled ? BufferHandler.flip(BufferHandler.duplicate(buffer)) : buffer;
 	}
 
     @Override
     public void close() {
+    	if (pooled && !shared && buffer != null) {
+    		BufferHandler.release(buffer);
+    	}
     	this.initialCapacity = null;
 		this.initialPosition = null;
 		this.buffer = null;
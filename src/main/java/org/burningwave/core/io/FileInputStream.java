@@ -29,12 +29,15 @@
 package org.burningwave.core.io;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.function.Executor;
@@ -85,8 +88,29 @@ public class FileInputStream extends java.io.FileInputStream implements Componen
 
 	public ByteBuffer toByteBuffer() {
 		return Cache.pathForContents.getOrUploadIfAbsent(
-			absolutePath, () ->
-			Streams.toByteBuffer(this)
+			absolutePath, () -> {
+				try {
+					//The content is read through the channel so that it is transferred directly into the target buffer
+					FileChannel channel = getChannel();
+					long size = channel.size() - channel.position();
+					return Streams.toByteBuffer(channel, size <= Integer.MAX_VALUE ? (int)size : -1);
+				} catch (IOException exc) {
+					return Driver.throwException(exc);
+				}
+			}
+		);
+	}
+
+	public ByteBuffer toMappedByteBuffer() {
+		return Cache.pathForContents.getOrUploadIfAbsent(
+			absolutePath, () -> {
+				try {
+					FileChannel channel = getChannel();
+					return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				} catch (IOException exc) {
+					return Driver.throwException(exc);
+				}
+			}
 		);
 	}
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ package org.burningwave.core.io;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
@@ -54,6 +55,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -72,9 +74,30 @@ import java.util.regex.Pattern;
 import org.burningwave.core.classes.JavaClass;
 import org.burningwave.core.function.Executor;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 @SuppressWarnings("resource")
 public class FileSystemItem implements Comparable<FileSystemItem> {
+	public static abstract class Configuration {
+		public static abstract class Key {
+			public static final String ARCHIVES_MEMORY_MAPPING_ENABLED = "file-system-item.archives.memory-mapping.enabled";
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues =  new HashMap<>();
+
+			//Disabled by default: a mapped archive stays locked on Windows until the buffer is
+			//garbage collected and truncating it while mapped (e.g. on hot reload) crashes the reader
+			defaultValues.put(
+				Key.ARCHIVES_MEMORY_MAPPING_ENABLED,
+				false
+			);
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
 
 	private final static Function<String, Boolean> isContainer = conventionedAbsolutePath ->
 		conventionedAbsolutePath.endsWith("/");
@@ -95,6 +118,8 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		conventionedAbsolutePath.endsWith(IterableZipContainer.PATH_SUFFIX);
 
 	private final static String instanceIdPrefix;
+	//Prefix of the mutexes bound to the paths, also used by the Streams to store the files
+	final static String mutexIdPrefixForPaths;
 	private final static Supplier<Collection<FileSystemItem>> newCollectionSupplier;
 
 	private Map.Entry<String, String> absolutePath;
@@ -104,9 +129,13 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	private Collection<FileSystemItem> allChildren;
 	private String instanceId;
 	private AtomicReference<JavaClass> javaClassWrapper;
+	//Guards the java class wrapper: it is bound to this instance so no mutex id is built on each class loading
+	private final Object javaClassWrapperMutex = new Object();
+	private AtomicReference<Integer> signatureWrapper;
 
 	static {
 		instanceIdPrefix = FileSystemItem.class.getName();
+		mutexIdPrefixForPaths = instanceIdPrefix + "_path_";
 		newCollectionSupplier = ArrayList::new;
 	}
 
@@ -148,7 +177,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		FileSystemItem parentContainer = this.parentContainer;
 		String absolutePath = this.absolutePath.getKey();
 		if ((conventionedAbsolutePath == null) || parentContainer == null) {
-			conventionedAbsolutePath = Synchronizer.execute(absolutePath, () -> {
+			conventionedAbsolutePath = Synchronizer.execute(mutexIdPrefixForPaths, absolutePath, () -> {
 				FileSystemItem parentContainerTemp = this.parentContainer;
 				String conventionedAbsolutePathTemp = this.absolutePath.getValue();
 				if (conventionedAbsolutePathTemp == null || parentContainerTemp == null) {
@@ -645,7 +674,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						.create(parentContainer.getAbsolutePath(), parentContainer.toByteBuffer())) {
 					Set<String> folderRelPaths = new HashSet<>();
 					Collection<FileSystemItem> allChildren = newCollectionSupplier.get();
-					zipInputStream.findAllAndConvert(() -> allChildren, zipEntryPredicate, zEntry -> {
+					Function<IterableZipContainer.Entry, FileSystemItem> converter = zEntry -> {
 						FileSystemItem fileSystemItem = FileSystemItem
 								.ofPath(parentContainer.getAbsolutePath() + "/" + zEntry.getName());
 						fileSystemItem.absolutePath.setValue(
@@ -657,11 +686,34 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 							Optional.ofNullable(fileSystemItem.getAllChildren())
 									.ifPresent(fileSystemItemChildrens -> allChildren.addAll(fileSystemItemChildrens));
 						}
-						if (isJModArchive) {
-							extractAndAddAllFoldersName(folderRelPaths, zEntry.getName());
-						}
 						return fileSystemItem;
-					}, zEntry -> true);
+					};
+					Collection<String> allChildrenNames = zipInputStream.findAllChildrenNames(
+						isArchive() ? "" : computeConventionedAbsolutePath().substring(
+							computeConventionedAbsolutePath().lastIndexOf(IterableZipContainer.PATH_SUFFIX)
+								+ IterableZipContainer.PATH_SUFFIX.length()
+						)
+					);
+					if (allChildrenNames != null) {
+						for (String childName : allChildrenNames) {
+							IterableZipContainer.Entry zEntry = zipInputStream.getEntry(childName);
+							if (zEntry != null) {
+								if (!childName.equals("/")) {
+									zEntry.toByteBuffer();
+									allChildren.add(converter.apply(zEntry));
+								}
+							} else if (isJModArchive) {
+								folderRelPaths.add(childName);
+							}
+						}
+					} else {
+						zipInputStream.findAllAndConvert(() -> allChildren, zipEntryPredicate, zEntry -> {
+							if (isJModArchive) {
+								extractAndAddAllFoldersName(folderRelPaths, zEntry.getName());
+							}
+							return converter.apply(zEntry);
+						}, zEntry -> true);
+					}
 					for (String folderRelPath : folderRelPaths) {
 						FileSystemItem fileSystemItem = FileSystemItem
 								.ofPath(zipInputStream.getAbsolutePath() + "/" + folderRelPath);
@@ -713,10 +765,8 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						conventionedAbsolutePath.indexOf(IterableZipContainer.PATH_SUFFIX));
 				File file = new File(zipFilePath);
 				if (file.exists()) {
-					try (FileInputStream fIS = FileInputStream.create(file)) {
-						return retrieveChildren(() -> IterableZipContainer.create(fIS), conventionedAbsolutePath
-							.replaceFirst(zipFilePath + IterableZipContainer.PATH_SUFFIX, ""));
-					}
+					return retrieveChildren(() -> IterableZipContainer.create(zipFilePath, toByteBuffer()), conventionedAbsolutePath
+						.replaceFirst(zipFilePath + IterableZipContainer.PATH_SUFFIX, ""));
 				}
 			} else {
 				File file = new File(conventionedAbsolutePath);
@@ -767,6 +817,15 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return clear(removeLinkedResourcesFromCache, false);
 	}
 
+	//Discards only the lists of the children: the children and their contents remain cached
+	public FileSystemItem resetChildrenList() {
+		return Synchronizer.execute(instanceId, () -> {
+			this.allChildren = null;
+			this.children = null;
+			return this;
+		});
+	}
+
 	public void destroy() {
 		clear(true, true);
 	}
@@ -785,6 +844,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						child.parent = null;
 						child.allChildren = null;
 						child.children = null;
+						child.signatureWrapper = null;
 						clearJavaClassWrapper(child);
 						if (removeLinkedResourcesFromCache) {
 							removeFromCache(child, removeFromCache);
@@ -799,6 +859,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 			absolutePath.setValue(null);
 			parentContainer = null;
 			parent = null;
+			signatureWrapper = null;
 			clearJavaClassWrapper(this);
 			if (removeLinkedResourcesFromCache) {
 				removeFromCache(this, removeFromCache);
@@ -814,9 +875,9 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 			if (javaClass != null) {
 				javaClass.close();
 			} else {
-				Synchronizer.execute(instanceId + "_loadJavaClass", () -> {
+				synchronized (fileSystemItem.javaClassWrapperMutex) {
 					fileSystemItem.javaClassWrapper = null;
-				});
+				}
 			}
 		}
 	}
@@ -824,6 +885,26 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	private Collection<FileSystemItem> retrieveChildren(Supplier<IterableZipContainer> zipInputStreamSupplier,
 			String itemToSearch) {
 		try (IterableZipContainer zipInputStream = zipInputStreamSupplier.get()) {
+			Collection<String> childrenNames = zipInputStream.findChildrenNames(itemToSearch);
+			if (childrenNames != null) {
+				boolean isJModArchive = Streams.isJModArchive(zipInputStream.toByteBuffer());
+				Collection<FileSystemItem> children = newCollectionSupplier.get();
+				for (String childName : childrenNames) {
+					boolean isEntry = zipInputStream.getEntry(childName) != null;
+					if (isEntry || isJModArchive) {
+						FileSystemItem fileSystemItem = FileSystemItem
+								.ofPath(zipInputStream.getAbsolutePath() + "/" + childName);
+						if (fileSystemItem.parentContainer == null) {
+							fileSystemItem.parentContainer = FileSystemItem
+									.ofPath(zipInputStream.getAbsolutePath());
+						}
+						if (isEntry || this.isParentOf(fileSystemItem)) {
+							children.add(fileSystemItem);
+						}
+					}
+				}
+				return children;
+			}
 			final String itemToSearchRegEx = itemToSearch.replace("/", "\\/") + "(.*?)\\/";
 			Pattern itemToSearchRegExPattern = Pattern.compile(itemToSearchRegEx);
 			boolean isJModArchive = Streams.isJModArchive(zipInputStream.toByteBuffer());
@@ -1063,6 +1144,16 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return BufferHandler.toByteArray(toByteBuffer());
 	}
 
+	private static boolean isArchivesMemoryMappingEnabled() {
+		return Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.ARCHIVES_MEMORY_MAPPING_ENABLED)
+				.on(GlobalProperties)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+	}
+
 	private ByteBuffer toByteBuffer0() {
 		String absolutePath = getAbsolutePath();
 		ByteBuffer resource = Cache.pathForContents.get(absolutePath);
@@ -1095,10 +1186,11 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 				}
 				return Cache.pathForContents.get(absolutePath);
 			} else {
+				boolean mapToMemory = isArchive() && isArchivesMemoryMappingEnabled();
 				return Cache.pathForContents.getOrUploadIfAbsent(
 					absolutePath, () -> {
 						try (FileInputStream fIS = FileInputStream.create(getAbsolutePath())) {
-							return fIS.toByteBuffer();
+							return mapToMemory ? fIS.toMappedByteBuffer() : fIS.toByteBuffer();
 						}
 					}
 				);
@@ -1107,6 +1199,31 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return null;
 	}
 
+	//Returns the first four bytes of the file or null if it is a folder or if it is not longer than four bytes:
+	//the content of the files that are not compressed is not loaded
+	public Integer getSignature() {
+		AtomicReference<Integer> signatureWrapper = this.signatureWrapper;
+		if (signatureWrapper == null) {
+			this.signatureWrapper = signatureWrapper = new AtomicReference<>(Executor.get(this::readSignature));
+		}
+		return signatureWrapper.get();
+	}
+
+	private Integer readSignature() throws IOException {
+		if (isFolder() || !exists()) {
+			return null;
+		}
+		ByteBuffer content = Cache.pathForContents.get(getAbsolutePath());
+		if (content == null && isCompressed()) {
+			//The entries of the archives can be read only by inflating their content
+			content = toByteBuffer();
+		}
+		if (content != null) {
+			return Streams.getSignature(content);
+		}
+		return Streams.getSignature(new File(getAbsolutePath()));
+	}
+
 	public InputStream toInputStream() {
 		return new ByteBufferInputStream(toByteBuffer());
 	}
@@ -1116,7 +1233,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		if (javaClassWrapper != null) {
 			return javaClassWrapper.get();
 		} else {
-			return Synchronizer.execute(instanceId + "_loadJavaClass", () -> {
+			synchronized (javaClassWrapperMutex) {
 				AtomicReference<JavaClass> javaClassWrapperInternalRef = this.javaClassWrapper;
 				if (javaClassWrapperInternalRef != null) {
 					return javaClassWrapperInternalRef.get();
@@ -1134,19 +1251,19 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 
 						@Override
 						public void close() {
-							Synchronizer.execute(instanceId + "_loadJavaClass", () -> {
+							synchronized (javaClassWrapperMutex) {
 								AtomicReference<JavaClass> javaClassWrapperRef =
 									FileSystemItem.this.javaClassWrapper;
 								FileSystemItem.this.javaClassWrapper = null;
 								javaClassWrapperRef.set(null);
-							});
+							}
 						}
 
 					})).get();
 				} catch (Throwable exc) {
 					return (this.javaClassWrapper = new AtomicReference<>(null)).get();
 				}
-			});
+			}
 		}
 	}
 
@@ -1211,7 +1328,10 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						String name = file.getName();
 						return name.endsWith(".zip") || name.endsWith(".jar") || name.endsWith(".war")
 								|| name.endsWith(".ear") || name.endsWith(".jmod");
-					}, file -> Executor.get(() -> !file.isFolder() && Streams.isArchive(file.toByteBuffer())));
+					}, file -> {
+						Integer signature = file.getSignature();
+						return signature != null && Streams.isArchive(signature);
+					});
 				}
 			}
 
@@ -1222,7 +1342,10 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						String name = file.getName();
 						return name.endsWith(".class") && !name.endsWith("module-info.class")
 								&& !name.endsWith("package-info.class");
-					}, file -> Executor.get(() -> !file.isFolder() && Streams.isClass(file.toByteBuffer())));
+					}, file -> {
+						Integer signature = file.getSignature();
+						return signature != null && Streams.isClass(signature);
+					});
 
 				}
 
@@ -73,30 +73,60 @@ public interface IterableZipContainer extends Closeable {
 		if (Streams.isJModArchive(bytes)) {
 			return createZipFile(absolutePath, bytes);
 		} else if (Streams.isArchive(bytes)) {
-			return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+			return createMappedZipFile(absolutePath, bytes);
 		}
 		return null;
 	}
 
-	static IterableZipContainer createZipFile(String absolutePath, ByteBuffer bytes) {
-		final ZipFile zipFile = (ZipFile)Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
-			absolutePath, () -> new ZipFile(absolutePath, bytes)
+	static IterableZipContainer createMappedZipFile(String absolutePath, ByteBuffer bytes) {
+		final IterableZipContainer zipFile = Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
+			absolutePath, () -> MappedZipFile.create(absolutePath, bytes)
 		);
+		if (zipFile == null) {
+			return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+		}
 		try {
 			return zipFile.duplicate();
 		} catch (Throwable exc) {
 			Synchronizer.execute(IterableZipContainer.classId + "_" + absolutePath, () -> {
-				ZipFile oldZipFile = (ZipFile)Cache.pathForIterableZipContainers.get(absolutePath);
-				if (oldZipFile == null || oldZipFile == zipFile || oldZipFile.isDestroyed) {
+				IterableZipContainer oldZipFile = Cache.pathForIterableZipContainers.get(absolutePath);
+				if (oldZipFile == null || oldZipFile == zipFile || (oldZipFile instanceof MappedZipFile && ((MappedZipFile)oldZipFile).isDestroyed)) {
 					Cache.pathForIterableZipContainers.upload(
-						absolutePath, () -> new ZipFile(absolutePath, bytes), true
+						absolutePath, () -> MappedZipFile.create(absolutePath, bytes), true
 					);
 				}
 			});
-			return Cache.pathForIterableZipContainers.get(absolutePath).duplicate();
+			IterableZipContainer newZipFile = Cache.pathForIterableZipContainers.get(absolutePath);
+			if (newZipFile == null) {
+				return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+			}
+			return newZipFile.duplicate();
 		}
 	}
 
+	static IterableZipContainer createZipFile(String absolutePath, ByteBuffer bytes) {
+		final ZipFile zipFile = (ZipFile)Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
+			absolutePath, () -> new ZipFile(absolutePath, bytes)
+		);
+		if (zipFile != null) {
+			try {
+				return zipFile.duplicate();
+			} catch (Throwable exc) {
+				//The container has been destroyed in the meantime: it is uploaded again
+			}
+		}
+		//The containers not admitted by the cache are uploaded forcibly, since a jmod file can't be read as a stream
+		Synchronizer.execute(IterableZipContainer.classId + "_" + absolutePath, () -> {
+			ZipFile oldZipFile = (ZipFile)Cache.pathForIterableZipContainers.get(absolutePath);
+			if (oldZipFile == null || oldZipFile == zipFile || oldZipFile.isDestroyed) {
+				Cache.pathForIterableZipContainers.upload(
+					absolutePath, () -> new ZipFile(absolutePath, bytes), true
+				);
+			}
+		});
+		return Cache.pathForIterableZipContainers.get(absolutePath).duplicate();
+	}
+
 	@SuppressWarnings("resource")
 	public static IterableZipContainer create(String absolutePath, InputStream inputStream) {
 		ByteBufferInputStream iS = null;
@@ -112,7 +142,7 @@ public interface IterableZipContainer extends Closeable {
 			if (Streams.isJModArchive(iS.toByteBuffer())) {
 				return createZipFile(absolutePath, iS.toByteBuffer());
 			} else if (Streams.isArchive(iS.toByteBuffer())) {
-				return new ZipInputStream(absolutePath, new ByteBufferInputStream(iS.toByteBuffer()));
+				return createMappedZipFile(absolutePath, iS.toByteBuffer());
 			}
 		} finally {
 			try {
@@ -145,6 +175,19 @@ public interface IterableZipContainer extends Closeable {
 
 	public Entry getCurrentZipEntry();
 
+	//The following three methods return null if the container does not index its entries
+	public default Collection<String> findChildrenNames(String folderName) {
+		return null;
+	}
+
+	public default Collection<String> findAllChildrenNames(String folderName) {
+		return null;
+	}
+
+	public default Entry getEntry(String name) {
+		return null;
+	}
+
 	public Function<Entry, Entry> getEntrySupplier();
 
 	public void closeEntry();
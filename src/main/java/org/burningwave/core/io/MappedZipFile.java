@@ -0,0 +1,495 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+//Reads the entries from the central directory of the archive content (a mapped file or a slice of the
+//parent archive) and inflates each of them only when its content is requested
+@SuppressWarnings("unchecked")
+class MappedZipFile implements IterableZipContainer {
+	private final static int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+	private final static int CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE = 0x02014b50;
+	private final static int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private final static int END_OF_CENTRAL_DIRECTORY_MIN_SIZE = 22;
+	private final static int MAX_COMMENT_SIZE = 0xFFFF;
+	private final static int STORED = 0;
+	private final static int DEFLATED = 8;
+	//The deflate format can't compress more than 1032 to 1: a greater declared size is rejected
+	private final static long MAX_DEFLATE_RATIO = 1032;
+
+	String absolutePath;
+	String conventionedAbsolutePath;
+	IterableZipContainer parent;
+	IterableZipContainer.Entry currentZipEntry;
+	Iterator<Entry> entriesIterator;
+	List<Entry> entries;
+	ZipContainerTree tree;
+	Supplier<ByteBuffer> contentSupplier;
+	Boolean isDestroyed;
+
+	private MappedZipFile(String absolutePath, ByteBuffer content, List<Entry> entries) {
+		isDestroyed = Boolean.FALSE;
+		this.absolutePath = Paths.clean(absolutePath);
+		this.contentSupplier = () -> content;
+		this.entries = entries;
+	}
+
+	private MappedZipFile(String absolutePath, List<Entry> entries, ZipContainerTree tree, Supplier<ByteBuffer> contentSupplier) {
+		isDestroyed = Boolean.FALSE;
+		this.absolutePath = absolutePath;
+		this.entries = entries;
+		this.tree = tree;
+		this.entriesIterator = entries.iterator();
+		this.contentSupplier = contentSupplier;
+	}
+
+	//Returns null if the central directory can not be read (e.g. spanned or encrypted archives)
+	static MappedZipFile create(String absolutePath, ByteBuffer content) {
+		try {
+			ByteBuffer archive = BufferHandler.position(BufferHandler.duplicate(content), 0).slice().order(ByteOrder.LITTLE_ENDIAN);
+			List<Entry> entries = new ArrayList<>();
+			MappedZipFile zipFile = new MappedZipFile(absolutePath, archive, entries);
+			readCentralDirectory(zipFile, archive, entries);
+			zipFile.tree = new ZipContainerTree(entries);
+			zipFile.entriesIterator = entries.iterator();
+			return zipFile;
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logWarn(MappedZipFile.class::getName, "Could not read central directory of {}: {}", absolutePath, exc.getMessage());
+			return null;
+		}
+	}
+
+	private static void readCentralDirectory(MappedZipFile zipFile, ByteBuffer archive, List<Entry> entries) {
+		int endOfCentralDirectoryOffset = findEndOfCentralDirectory(archive);
+		long entryCount = archive.getShort(endOfCentralDirectoryOffset + 10) & 0xFFFF;
+		long centralDirectorySize = archive.getInt(endOfCentralDirectoryOffset + 12) & 0xFFFFFFFFL;
+		long centralDirectoryOffset = archive.getInt(endOfCentralDirectoryOffset + 16) & 0xFFFFFFFFL;
+		long centralDirectoryEnd = endOfCentralDirectoryOffset;
+		int locatorOffset = endOfCentralDirectoryOffset - 20;
+		if (locatorOffset >= 0 && archive.getInt(locatorOffset) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+			int zip64EndOfCentralDirectoryOffset = toInt(archive.getLong(locatorOffset + 8));
+			if (archive.getInt(zip64EndOfCentralDirectoryOffset) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				//The archive has been prefixed (e.g. by a launch script): the locator offset is relative to the zip start
+				zip64EndOfCentralDirectoryOffset = locatorOffset - 56;
+				if (archive.getInt(zip64EndOfCentralDirectoryOffset) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+					throw new IllegalArgumentException("zip64 end of central directory not found");
+				}
+			}
+			entryCount = archive.getLong(zip64EndOfCentralDirectoryOffset + 32);
+			centralDirectorySize = archive.getLong(zip64EndOfCentralDirectoryOffset + 40);
+			centralDirectoryOffset = archive.getLong(zip64EndOfCentralDirectoryOffset + 48);
+			centralDirectoryEnd = zip64EndOfCentralDirectoryOffset;
+		}
+		//Bytes placed before the archive (self extracting or executable jars) shift all the offsets
+		int offsetShift = toInt(centralDirectoryEnd - centralDirectorySize - centralDirectoryOffset);
+		if (offsetShift < 0) {
+			throw new IllegalArgumentException("invalid central directory offset");
+		}
+		int position = toInt(centralDirectoryOffset + offsetShift);
+		for (long i = 0; i < entryCount; i++) {
+			if (archive.getInt(position) != CENTRAL_DIRECTORY_FILE_HEADER_SIGNATURE) {
+				throw new IllegalArgumentException("invalid central directory file header at " + position);
+			}
+			int flags = archive.getShort(position + 8) & 0xFFFF;
+			int method = archive.getShort(position + 10) & 0xFFFF;
+			long compressedSize = archive.getInt(position + 20) & 0xFFFFFFFFL;
+			long size = archive.getInt(position + 24) & 0xFFFFFFFFL;
+			int nameLength = archive.getShort(position + 28) & 0xFFFF;
+			int extraLength = archive.getShort(position + 30) & 0xFFFF;
+			int commentLength = archive.getShort(position + 32) & 0xFFFF;
+			long localHeaderOffset = archive.getInt(position + 42) & 0xFFFFFFFFL;
+			byte[] name = new byte[nameLength];
+			((ByteBuffer)BufferHandler.position(BufferHandler.duplicate(archive), position + 46)).get(name);
+			if (size == 0xFFFFFFFFL || compressedSize == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL) {
+				int extraPosition = position + 46 + nameLength;
+				int extraEnd = extraPosition + extraLength;
+				while (extraPosition + 4 <= extraEnd) {
+					int headerId = archive.getShort(extraPosition) & 0xFFFF;
+					int dataSize = archive.getShort(extraPosition + 2) & 0xFFFF;
+					if (headerId == 0x0001) {
+						int fieldPosition = extraPosition + 4;
+						if (size == 0xFFFFFFFFL) {
+							size = archive.getLong(fieldPosition);
+							fieldPosition += 8;
+						}
+						if (compressedSize == 0xFFFFFFFFL) {
+							compressedSize = archive.getLong(fieldPosition);
+							fieldPosition += 8;
+						}
+						if (localHeaderOffset == 0xFFFFFFFFL) {
+							localHeaderOffset = archive.getLong(fieldPosition);
+						}
+						break;
+					}
+					extraPosition += 4 + dataSize;
+				}
+			}
+			if ((flags & 1) != 0 || (method != STORED && method != DEFLATED)) {
+				throw new IllegalArgumentException("unsupported encryption or compression method for entry " + new String(name, StandardCharsets.UTF_8));
+			}
+			//The sizes are validated against the archive so that a crafted central directory can't force huge allocations
+			int archiveSize = BufferHandler.limit(archive);
+			if (compressedSize < 0 || compressedSize > archiveSize || localHeaderOffset < 0 || localHeaderOffset > archiveSize ||
+				localHeaderOffset + offsetShift + compressedSize > archiveSize ||
+				size < 0 || (method == STORED && size != compressedSize) ||
+				(method == DEFLATED && size > (compressedSize + 1) * MAX_DEFLATE_RATIO)
+			) {
+				throw new IllegalArgumentException("invalid sizes for entry " + new String(name, StandardCharsets.UTF_8));
+			}
+			entries.add(
+				new Entry(
+					zipFile,
+					archive,
+					new String(name, StandardCharsets.UTF_8),
+					method,
+					toInt(compressedSize),
+					toInt(size),
+					toInt(localHeaderOffset + offsetShift)
+				)
+			);
+			position += 46 + nameLength + extraLength + commentLength;
+		}
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer archive) {
+		int limit = BufferHandler.limit(archive);
+		int lowerBound = Math.max(0, limit - END_OF_CENTRAL_DIRECTORY_MIN_SIZE - MAX_COMMENT_SIZE);
+		for (int offset = limit - END_OF_CENTRAL_DIRECTORY_MIN_SIZE; offset >= lowerBound; offset--) {
+			if (archive.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+				offset + END_OF_CENTRAL_DIRECTORY_MIN_SIZE + (archive.getShort(offset + 20) & 0xFFFF) == limit
+			) {
+				return offset;
+			}
+		}
+		throw new IllegalArgumentException("end of central directory not found");
+	}
+
+	private static int toInt(long value) {
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("value " + value + " exceeds the max size of a buffer");
+		}
+		return (int)value;
+	}
+
+	@Override
+	public IterableZipContainer duplicate() {
+		MappedZipFile zipFile = new MappedZipFile(absolutePath, entries, tree, contentSupplier);
+		zipFile.conventionedAbsolutePath = conventionedAbsolutePath;
+		zipFile.parent = parent;
+		return zipFile;
+	}
+
+	@Override
+	public String getAbsolutePath() {
+		return absolutePath;
+	}
+
+	@Override
+	public String getConventionedAbsolutePath() {
+		if (conventionedAbsolutePath == null) {
+			synchronized (this) {
+				if (parent != null) {
+					conventionedAbsolutePath = parent.getConventionedAbsolutePath() + absolutePath.replace(parent.getAbsolutePath() + "/", "");
+				} else {
+					FileSystemItem zipFis = FileSystemItem.ofPath(absolutePath);
+					if (zipFis.getParentContainer().isArchive()) {
+						parent = IterableZipContainer.create(zipFis.getParentContainer().getAbsolutePath());
+						return getConventionedAbsolutePath();
+					} else {
+						conventionedAbsolutePath = absolutePath;
+					}
+				}
+				conventionedAbsolutePath += IterableZipContainer.PATH_SUFFIX;
+			}
+		}
+		return conventionedAbsolutePath;
+	}
+
+	@Override
+	public IterableZipContainer getParent() {
+		if (conventionedAbsolutePath == null) {
+			getConventionedAbsolutePath();
+		}
+		return parent;
+	}
+
+	@Override
+	public ByteBuffer toByteBuffer() {
+		return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), contentSupplier);
+	}
+
+	@Override
+	public Collection<String> findChildrenNames(String folderName) {
+		return tree.getChildrenNames(folderName);
+	}
+
+	@Override
+	public Collection<String> findAllChildrenNames(String folderName) {
+		return tree.getAllChildrenNames(folderName);
+	}
+
+	@Override
+	public IterableZipContainer.Entry getEntry(String name) {
+		return tree.getEntry(name);
+	}
+
+	@Override
+	public synchronized <Z extends IterableZipContainer.Entry> Z getNextEntry() {
+		return (Z) (currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
+	}
+
+	@Override
+	public synchronized IterableZipContainer.Entry getNextEntry(Predicate<IterableZipContainer.Entry> loadZipEntryData) {
+		currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null;
+		if (currentZipEntry != null && loadZipEntryData.test(currentZipEntry)) {
+			currentZipEntry.toByteBuffer();
+		}
+		return currentZipEntry;
+	}
+
+	@Override
+	public IterableZipContainer.Entry getCurrentZipEntry() {
+		return currentZipEntry;
+	}
+
+	@Override
+	public Function<IterableZipContainer.Entry, IterableZipContainer.Entry> getEntrySupplier() {
+		return (entry) -> entry;
+	}
+
+	@Override
+	public synchronized void closeEntry() {
+		currentZipEntry = null;
+	}
+
+	@Override
+	public void close() {
+		closeEntry();
+		this.parent = null;
+		this.entriesIterator = null;
+	}
+
+	@Override
+	public void destroy(boolean removeFromCache) {
+		boolean destroy = false;
+		synchronized (this) {
+			if (!isDestroyed) {
+				destroy = isDestroyed = Boolean.TRUE;
+			}
+		}
+		if (destroy) {
+			IterableZipContainer.super.destroy(removeFromCache);
+			close();
+			contentSupplier = null;
+			entries = null;
+			tree = null;
+			absolutePath = null;
+		}
+	}
+
+	public static class Entry implements IterableZipContainer.Entry {
+		private MappedZipFile zipFile;
+		private ByteBuffer zipFileContent;
+		private String cleanedName;
+		private String name;
+		private String absolutePath;
+		private int method;
+		private int compressedSize;
+		private int size;
+		private int localHeaderOffset;
+		private Boolean archive;
+
+		Entry(MappedZipFile zipFile, ByteBuffer archive, String name, int method, int compressedSize, int size, int localHeaderOffset) {
+			this.zipFile = zipFile;
+			this.zipFileContent = archive;
+			this.name = name;
+			this.absolutePath = Paths.clean(zipFile.getAbsolutePath() + "/" + name);
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+
+		//Only the header of the entry is inflated unless its content has been already loaded
+		@Override
+		public boolean isArchive() {
+			if (archive != null) {
+				return archive;
+			}
+			ByteBuffer content = Cache.pathForContents.get(getAbsolutePath());
+			Integer signature = content != null ? Streams.getSignature(content) : readSignature();
+			return archive = signature != null && Streams.isArchive(signature);
+		}
+
+		private Integer readSignature() {
+			if (size <= 4) {
+				return null;
+			}
+			try {
+				ByteBuffer data = getData();
+				return (method == STORED ? data : inflate(data, 4)).getInt();
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, "Could not read signature of {} of {}", exc, name, zipFile.getAbsolutePath());
+				return null;
+			}
+		}
+
+		@Override
+		public IterableZipContainer getParentContainer() {
+			return zipFile;
+		}
+
+		@Override
+		public String getCleanedName() {
+			if (cleanedName != null) {
+				return cleanedName;
+			}
+			String cleanedName = name;
+			if (!cleanedName.startsWith("/")) {
+				this.cleanedName = cleanedName;
+			} else {
+				if (!cleanedName.equals("/")) {
+					this.cleanedName =  cleanedName.substring(1, cleanedName.length());
+				} else {
+					this.cleanedName = "";
+				}
+			}
+			return this.cleanedName;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getAbsolutePath() {
+			return absolutePath;
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return name.endsWith("/");
+		}
+
+		@Override
+		public ByteBuffer toByteBuffer() {
+			return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), this::loadContent);
+		}
+
+		private ByteBuffer loadContent() {
+			try {
+				ByteBuffer data = getData();
+				if (method == STORED) {
+					return data;
+				}
+				return inflate(data, size);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, "Could not load content of {} of {}", exc, name, zipFile.getAbsolutePath());
+				return null;
+			}
+		}
+
+		private ByteBuffer getData() {
+			ByteBuffer archive = zipFileContent;
+			if (archive.getInt(localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+				throw new IllegalArgumentException("invalid local file header at " + localHeaderOffset);
+			}
+			int dataOffset = localHeaderOffset + 30 +
+				(archive.getShort(localHeaderOffset + 26) & 0xFFFF) +
+				(archive.getShort(localHeaderOffset + 28) & 0xFFFF);
+			ByteBuffer data = BufferHandler.limit(BufferHandler.duplicate(archive), dataOffset + compressedSize);
+			return BufferHandler.position(data, dataOffset).slice();
+		}
+
+		//The output grows as the data is actually inflated: the declared size is only its upper bound
+		private ByteBuffer inflate(ByteBuffer data, int bytesToInflate) throws DataFormatException {
+			Inflater inflater = new Inflater(true);
+			try {
+				byte[] input = BufferHandler.newByteArray(Math.min(Math.max(compressedSize, 1), BufferHandler.getDefaultBufferSize()));
+				byte[] output = new byte[Math.min(bytesToInflate, Math.max(compressedSize, BufferHandler.getDefaultBufferSize()))];
+				int inflated = 0;
+				boolean dummyByteSupplied = false;
+				while (inflated < bytesToInflate && !inflater.finished()) {
+					if (inflated == output.length) {
+						output = Arrays.copyOf(output, (int)Math.min(bytesToInflate, (long)output.length << 1));
+					}
+					if (inflater.needsInput()) {
+						int length = Math.min(input.length, BufferHandler.remaining(data));
+						if (length == 0) {
+							//The inflater in "nowrap" mode may need an extra dummy byte to complete
+							if (dummyByteSupplied) {
+								throw new DataFormatException("unexpected end of compressed data");
+							}
+							dummyByteSupplied = true;
+							input[0] = 0;
+							length = 1;
+						} else {
+							data.get(input, 0, length);
+						}
+						inflater.setInput(input, 0, length);
+					}
+					int count = inflater.inflate(output, inflated, output.length - inflated);
+					if (count == 0 && inflater.needsDictionary()) {
+						throw new DataFormatException("preset dictionary not supported");
+					}
+					inflated += count;
+				}
+				if (inflated != bytesToInflate) {
+					throw new DataFormatException("inflated " + inflated + " bytes instead of " + bytesToInflate);
+				}
+				return ByteBuffer.wrap(output);
+			} finally {
+				inflater.end();
+			}
+		}
+	}
+}
@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -56,14 +57,27 @@ public interface Streams {
 
 	public boolean isClass(ByteBuffer bytes);
 
+	public boolean isArchive(int fileSignature);
+
+	public boolean isJModArchive(int fileSignature);
+
+	public boolean isClass(int fileSignature);
+
 	public boolean is(File file, Predicate<Integer> predicate) throws IOException;
 
+	//The following two methods return the first four bytes or null if the content is not longer than four bytes
+	public Integer getSignature(File file) throws IOException;
+
+	public Integer getSignature(ByteBuffer bytes);
+
 	public byte[] toByteArray(InputStream inputStream);
 
 	public ByteBuffer toByteBuffer(InputStream inputStream, int size);
 
 	public ByteBuffer toByteBuffer(InputStream inputStream);
 
+	public ByteBuffer toByteBuffer(ReadableByteChannel channel, int size);
+
 	public void feelPropertiesMap(Supplier<InputStream> inputStreamSupplier, Map<?, ?> map);
 
 	public void feelPropertiesMap(InputStream inputStream, Map<?, ?> map);
@@ -39,8 +39,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.RandomAccessFile;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Predicate;
@@ -91,24 +95,44 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 
 	@Override
 	public boolean is(File file, Predicate<Integer> predicate) throws IOException {
-		try (RandomAccessFile raf = new RandomAccessFile(file, "r")){
-			return raf.length() > 4 && predicate.test(raf.readInt());
-	    }
+		Integer signature = getSignature(file);
+		return signature != null && predicate.test(signature);
 	}
 
 	private boolean is(ByteBuffer bytes, Predicate<Integer> predicate) {
-		return bytes.capacity() > 4 && bytes.limit() > 4 && predicate.test(BufferHandler.duplicate(bytes).getInt());
+		Integer signature = getSignature(bytes);
+		return signature != null && predicate.test(signature);
 	}
 
-	private boolean isArchive(int fileSignature) {
+	@Override
+	public Integer getSignature(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() <= 4) {
+				return null;
+			}
+			ByteBuffer header = ByteBuffer.allocate(4);
+			while (header.hasRemaining() && channel.read(header, header.position()) > 0) {}
+			return header.hasRemaining() ? null : BufferHandler.flip(header).getInt();
+		}
+	}
+
+	@Override
+	public Integer getSignature(ByteBuffer bytes) {
+		return bytes.capacity() > 4 && bytes.limit() > 4 ? BufferHandler.duplicate(bytes).getInt() : null;
+	}
+
+	@Override
+	public boolean isArchive(int fileSignature) {
 		return fileSignature == 0x504B0304 || fileSignature == 0x504B0506 || fileSignature == 0x504B0708 || isJModArchive(fileSignature);
 	}
 
-	private boolean isJModArchive(int fileSignature) {
+	@Override
+	public boolean isJModArchive(int fileSignature) {
 		return fileSignature == 0x4A4D0100 || fileSignature == 0x4A4D0000;
 	}
 
-	private boolean isClass(int fileSignature) {
+	@Override
+	public boolean isClass(int fileSignature) {
 		return fileSignature == 0xCAFEBABE;
 	}
 
@@ -131,7 +155,42 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 		try {
 			byte[] heapBuffer = BufferHandler.newByteArrayWithDefaultSize();
 			int bytesRead;
+			if (streamSize < 0) {
+				//When the size is unknown the content is collected in a pooled buffer that grows
+				//geometrically and then it is copied in a buffer of the exact size
+				ByteBuffer byteBuffer = BufferHandler.acquire(BufferHandler.getDefaultBufferSize());
+				try {
+					while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
+						byteBuffer = BufferHandler.ensureRemainingOfAcquired(byteBuffer, bytesRead);
+						byteBuffer.put(heapBuffer, 0, bytesRead);
+					}
+				} catch (Throwable exc) {
+					BufferHandler.release(byteBuffer);
+					throw exc;
+				}
+				return BufferHandler.copyAndRelease(byteBuffer);
+			}
+			//When the size is known the target buffer is allocated once and filled without intermediate copies
 			ByteBuffer byteBuffer = BufferHandler.newByteBuffer(streamSize);
+			if (byteBuffer.hasArray()) {
+				while (byteBuffer.hasRemaining() &&
+					-1 != (bytesRead = inputStream.read(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining()))
+				) {
+					BufferHandler.position(byteBuffer, byteBuffer.position() + bytesRead);
+				}
+			} else {
+				ReadableByteChannel channel = inputStream instanceof java.io.FileInputStream ?
+					((java.io.FileInputStream)inputStream).getChannel() :
+					Channels.newChannel(inputStream);
+				while (byteBuffer.hasRemaining() && -1 != channel.read(byteBuffer)) {}
+			}
+			int nextByte;
+			if (byteBuffer.hasRemaining() || -1 == (nextByte = inputStream.read())) {
+				return BufferHandler.flip(byteBuffer);
+			}
+			//The stream is longer than the declared size
+			byteBuffer = BufferHandler.ensureRemaining(byteBuffer, 1);
+			byteBuffer.put((byte)nextByte);
 			while (-1 != (bytesRead = inputStream.read(heapBuffer))) {
 				byteBuffer = BufferHandler.put(byteBuffer, heapBuffer, bytesRead);
 			}
@@ -141,6 +200,38 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 		}
 	}
 
+	@Override
+	public ByteBuffer toByteBuffer(ReadableByteChannel channel, int size) {
+		if (size < 0) {
+			return toByteBuffer(Channels.newInputStream(channel), size);
+		}
+		try {
+			ByteBuffer byteBuffer = BufferHandler.newByteBuffer(size);
+			while (byteBuffer.hasRemaining() && -1 != channel.read(byteBuffer)) {}
+			if (byteBuffer.hasRemaining()) {
+				return BufferHandler.flip(byteBuffer);
+			}
+			//The end of the channel is checked by reading a single byte so that no chunk is allocated when the
+			//declared size is the exact one
+			ByteBuffer nextBytes = BufferHandler.newByteBuffer(1);
+			if (-1 == channel.read(nextBytes)) {
+				return BufferHandler.flip(byteBuffer);
+			}
+			//The channel is longer than the declared size
+			byteBuffer = BufferHandler.ensureRemaining(byteBuffer, BufferHandler.flip(nextBytes).remaining());
+			byteBuffer.put(nextBytes);
+			nextBytes = BufferHandler.newByteBufferWithDefaultSize();
+			while (-1 != channel.read(nextBytes)) {
+				byteBuffer = BufferHandler.ensureRemaining(byteBuffer, BufferHandler.flip(nextBytes).remaining());
+				byteBuffer.put(nextBytes);
+				((Buffer)nextBytes).clear();
+			}
+			return BufferHandler.shareContent(byteBuffer);
+		} catch (Throwable exc) {
+			return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+		}
+	}
+
 	@Override
 	public ByteBuffer toByteBuffer(InputStream inputStream) {
 		return toByteBuffer(inputStream, -1);
@@ -185,7 +276,7 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener {
 	public FileSystemItem store(String fileAbsolutePath, ByteBuffer bytes) {
 		ByteBuffer content = BufferHandler.shareContent(bytes);
 		File file = new File(fileAbsolutePath);
-		Synchronizer.execute(fileAbsolutePath, () -> {
+		Synchronizer.execute(FileSystemItem.mutexIdPrefixForPaths, fileAbsolutePath, () -> {
 			if (!file.exists()) {
 				new File(file.getParent()).mkdirs();
 			} else {
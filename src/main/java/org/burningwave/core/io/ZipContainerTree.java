@@ -0,0 +1,98 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+//Index of the entries of a zip container built once from its central directory: the folders that
+//have no entry (e.g. in jmod archives) are registered as well
+class ZipContainerTree {
+	private final Map<String, IterableZipContainer.Entry> entryForName;
+	private final Map<String, Collection<String>> childrenNamesForFolderName;
+
+	ZipContainerTree(Collection<? extends IterableZipContainer.Entry> entries) {
+		entryForName = new HashMap<>();
+		childrenNamesForFolderName = new HashMap<>();
+		childrenNamesForFolderName.put("", new LinkedHashSet<>());
+		for (IterableZipContainer.Entry entry : entries) {
+			entryForName.putIfAbsent(entry.getName(), entry);
+			add(entry.getName());
+		}
+	}
+
+	private void add(String name) {
+		String folderName = getFolderName(name);
+		Collection<String> childrenNames = childrenNamesForFolderName.get(folderName);
+		if (childrenNames == null) {
+			childrenNamesForFolderName.put(folderName, childrenNames = new LinkedHashSet<>());
+			add(folderName);
+		}
+		childrenNames.add(name);
+	}
+
+	private String getFolderName(String name) {
+		int separatorIndex = name.lastIndexOf("/", name.length() - 2);
+		return separatorIndex < 0 ? "" : name.substring(0, separatorIndex + 1);
+	}
+
+	IterableZipContainer.Entry getEntry(String name) {
+		return entryForName.get(name);
+	}
+
+	Collection<String> getChildrenNames(String folderName) {
+		Collection<String> childrenNames = childrenNamesForFolderName.get(folderName);
+		return childrenNames != null ?
+			Collections.unmodifiableCollection(childrenNames) :
+			Collections.emptyList();
+	}
+
+	Collection<String> getAllChildrenNames(String folderName) {
+		Collection<String> allChildrenNames = new ArrayList<>();
+		addAllChildrenNames(folderName, allChildrenNames);
+		return allChildrenNames;
+	}
+
+	private void addAllChildrenNames(String folderName, Collection<String> allChildrenNames) {
+		Collection<String> childrenNames = childrenNamesForFolderName.get(folderName);
+		if (childrenNames != null) {
+			for (String childName : childrenNames) {
+				allChildrenNames.add(childName);
+				if (childName.endsWith("/") && !childName.equals(folderName)) {
+					addAllChildrenNames(childName, allChildrenNames);
+				}
+			}
+		}
+	}
+}
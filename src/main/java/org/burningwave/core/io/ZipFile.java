@@ -60,6 +60,7 @@ class ZipFile implements IterableZipContainer, Memorizer {
 	IterableZipContainer.Entry currentZipEntry;
 	Iterator<Entry> entriesIterator;
 	Collection<Entry> entries;
+	ZipContainerTree tree;
 	Runnable temporaryFileDeleter;
 	java.util.zip.ZipFile originalZipFile;
 	Boolean isDestroyed;
@@ -88,6 +89,7 @@ class ZipFile implements IterableZipContainer, Memorizer {
 				);
 			}
 			originalZipFile = null;
+			tree = new ZipContainerTree(entries);
 		} catch (IOException exc) {
 			org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
 		}
@@ -98,7 +100,7 @@ class ZipFile implements IterableZipContainer, Memorizer {
 		try (
 			InputStream zipEntryIS = retrieveFile(absolutePath, content).getInputStream(zipEntry);
 		){
-			 return Streams.toByteBuffer(zipEntryIS);
+			 return Streams.toByteBuffer(zipEntryIS, zipEntry.getSize() <= Integer.MAX_VALUE ? (int)zipEntry.getSize() : -1);
 		} catch (Throwable exc) {
 			if (recursive) {
 				ManagedLoggerRepository.logWarn(getClass()::getName, "Exception occurred while building zip entry {} of {}: {}", zipEntry.getName(), absolutePath, exc.getMessage());
@@ -146,16 +148,17 @@ class ZipFile implements IterableZipContainer, Memorizer {
 		return originalZipFile;
 	}
 
-	private ZipFile(String absolutePath, Collection<Entry> entries, Supplier<ByteBuffer> contentSupplier) {
+	private ZipFile(String absolutePath, Collection<Entry> entries, ZipContainerTree tree, Supplier<ByteBuffer> contentSupplier) {
 		this.absolutePath = absolutePath;
 		this.entries = entries;
+		this.tree = tree;
 		this.entriesIterator = entries.iterator();
 		this.contentSupplier = contentSupplier;
 	}
 
 	@Override
 	public IterableZipContainer duplicate() {
-		return new ZipFile(absolutePath, entries, contentSupplier);
+		return new ZipFile(absolutePath, entries, tree, contentSupplier);
 	}
 
 	@Override
@@ -198,6 +201,21 @@ class ZipFile implements IterableZipContainer, Memorizer {
 		return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), contentSupplier);
 	}
 
+	@Override
+	public Collection<String> findChildrenNames(String folderName) {
+		return tree.getChildrenNames(folderName);
+	}
+
+	@Override
+	public Collection<String> findAllChildrenNames(String folderName) {
+		return tree.getAllChildrenNames(folderName);
+	}
+
+	@Override
+	public IterableZipContainer.Entry getEntry(String name) {
+		return tree.getEntry(name);
+	}
+
 	@Override
 	public synchronized <Z extends IterableZipContainer.Entry> Z getNextEntry() {
 		return (Z) (currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
@@ -237,6 +255,7 @@ class ZipFile implements IterableZipContainer, Memorizer {
 		this.absolutePath = null;
 		this.entriesIterator = null;
 		this.entries = null;
+		this.tree = null;
 	}
 
 	@Override
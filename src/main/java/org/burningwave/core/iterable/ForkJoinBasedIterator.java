@@ -0,0 +1,248 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.iterable;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+@SuppressWarnings("unchecked")
+class ForkJoinBasedIterator extends IterableObjectHelperImpl.Iterator {
+
+	ForkJoinBasedIterator(IterableObjectHelperImpl iterableObjectHelper) {
+		super(iterableObjectHelper);
+	}
+
+	@Override
+	<I, IC, OC> OC iterate(
+		IC items,
+		Predicate<IC> predicateForParallelIteration,
+		OC output,
+		BiConsumer<I, Consumer<Consumer<OC>>> action,
+		Integer priority
+	) {
+		if (items == IterableObjectHelperImpl.Iterator.NO_ITEMS) {
+			return output;
+		}
+		Thread currentThread = Thread.currentThread();
+		int initialThreadPriority = currentThread.getPriority();
+		if (priority == null) {
+			priority = initialThreadPriority;
+		} else if (initialThreadPriority != priority) {
+			currentThread.setPriority(priority);
+		}
+		try {
+			if (predicateForParallelIteration == null) {
+				predicateForParallelIteration = collectionOrArray -> iterableObjectHelper.defaultMinimumCollectionSizeForParallelIterationPredicate.test(collectionOrArray);
+			}
+			if (iterableObjectHelper.getCountOfTasksThatCanBeCreated(items, predicateForParallelIteration) > 1) {
+				Spliterator<Object> spliterator;
+				Function<Object, I> itemRetriever;
+				if (items instanceof Collection) {
+					spliterator = ((Collection<Object>)items).spliterator();
+					itemRetriever = item -> (I)item;
+				} else if (!items.getClass().getComponentType().isPrimitive()) {
+					spliterator = Arrays.spliterator((Object[])items);
+					itemRetriever = item -> (I)item;
+				} else {
+					Function<Integer, ?> arrayValueRetriever = Classes.buildArrayValueRetriever(items);
+					spliterator = (Spliterator<Object>)(Spliterator<?>)IntStream.range(0, Array.getLength(items)).spliterator();
+					itemRetriever = index -> (I)arrayValueRetriever.apply((Integer)index);
+				}
+				ForkJoinPool pool = Pool.INSTANCE;
+				//Leaves of a few items allow the idle workers to steal the work left by the busy ones
+				long sizeThreshold = Math.max(1, spliterator.estimateSize() / (pool.getParallelism() << 2));
+				AtomicReference<Throwable> exceptionWrapper = new AtomicReference<>();
+				pool.invoke(
+					new Splitter<>(
+						spliterator,
+						itemRetriever,
+						action,
+						buildOutputCollectionHandler(output),
+						new AtomicReference<>(),
+						exceptionWrapper,
+						sizeThreshold,
+						priority
+					)
+				);
+				//As in the serial iteration the first exception thrown by the action is propagated to the caller
+				Throwable exception = exceptionWrapper.get();
+				if (exception != null) {
+					return Driver.throwException(exception);
+				}
+				return output;
+			}
+			Consumer<Consumer<OC>> outputItemsHandler =
+				output != null ?
+					(outputCollectionConsumer) -> {
+						outputCollectionConsumer.accept(output);
+					}
+				: null;
+			try {
+				if (items instanceof Collection) {
+					for (I item : (Collection<I>)items) {
+						action.accept(item, outputItemsHandler);
+					}
+				} else if (!items.getClass().getComponentType().isPrimitive()) {
+					I[] itemArray = (I[])items;
+					for (I item : itemArray) {
+						action.accept(item, outputItemsHandler);
+					}
+				} else {
+					Function<Integer, ?> itemRetriever = Classes.buildArrayValueRetriever(items);
+					int arrayLength = Array.getLength(items);
+					for (int i = 0; i < arrayLength; i++) {
+						action.accept((I)itemRetriever.apply(i), outputItemsHandler);
+					}
+				}
+			} catch (IterableObjectHelper.TerminateIteration t) {
+
+			}
+		} finally {
+			if (initialThreadPriority != priority) {
+				currentThread.setPriority(initialThreadPriority);
+			}
+		}
+		return output;
+	}
+
+	private class Splitter<I, OC> extends RecursiveAction {
+		private static final long serialVersionUID = 4105916567475478233L;
+
+		private Spliterator<Object> spliterator;
+		private final Function<Object, I> itemRetriever;
+		private final BiConsumer<I, Consumer<Consumer<OC>>> action;
+		private final Consumer<Consumer<OC>> outputItemsHandler;
+		// Used for break the iteration
+		private final AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification;
+		private final AtomicReference<Throwable> exceptionWrapper;
+		private final long sizeThreshold;
+		private final int priority;
+
+		Splitter(
+			Spliterator<Object> spliterator,
+			Function<Object, I> itemRetriever,
+			BiConsumer<I, Consumer<Consumer<OC>>> action,
+			Consumer<Consumer<OC>> outputItemsHandler,
+			AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
+			AtomicReference<Throwable> exceptionWrapper,
+			long sizeThreshold,
+			int priority
+		) {
+			this.spliterator = spliterator;
+			this.itemRetriever = itemRetriever;
+			this.action = action;
+			this.outputItemsHandler = outputItemsHandler;
+			this.terminateIterationNotification = terminateIterationNotification;
+			this.exceptionWrapper = exceptionWrapper;
+			this.sizeThreshold = sizeThreshold;
+			this.priority = priority;
+		}
+
+		@Override
+		protected void compute() {
+			Spliterator<Object> spliterator = this.spliterator;
+			this.spliterator = null;
+			List<Splitter<I, OC>> forkedSplitters = null;
+			Spliterator<Object> prefix;
+			while (terminateIterationNotification.get() == null &&
+				spliterator.estimateSize() > sizeThreshold &&
+				(prefix = spliterator.trySplit()) != null
+			) {
+				Splitter<I, OC> splitter = new Splitter<>(
+					prefix, itemRetriever, action, outputItemsHandler, terminateIterationNotification, exceptionWrapper, sizeThreshold, priority
+				);
+				splitter.fork();
+				if (forkedSplitters == null) {
+					forkedSplitters = new ArrayList<>();
+				}
+				forkedSplitters.add(splitter);
+			}
+			//The workers are shared: the priority of the iteration is applied only while they consume its items
+			Thread currentThread = Thread.currentThread();
+			int initialThreadPriority = currentThread.getPriority();
+			if (initialThreadPriority != priority) {
+				currentThread.setPriority(priority);
+			}
+			try {
+				while (terminateIterationNotification.get() == null &&
+					spliterator.tryAdvance(item -> action.accept(itemRetriever.apply(item), outputItemsHandler))
+				) {}
+			} catch (IterableObjectHelper.TerminateIteration exc) {
+				checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+			} catch (Throwable exc) {
+				exceptionWrapper.compareAndSet(null, exc);
+				terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
+			} finally {
+				if (initialThreadPriority != priority) {
+					currentThread.setPriority(initialThreadPriority);
+				}
+			}
+			if (forkedSplitters != null) {
+				for (Splitter<I, OC> splitter : forkedSplitters) {
+					splitter.join();
+				}
+			}
+		}
+	}
+
+	private static class Pool {
+		private static final ForkJoinPool INSTANCE;
+
+		static {
+			INSTANCE = new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				pool -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("Burningwave - Fork join iterator " + thread.getPoolIndex());
+					thread.setDaemon(true);
+					return thread;
+				},
+				null,
+				false
+			);
+		}
+	}
+
+}
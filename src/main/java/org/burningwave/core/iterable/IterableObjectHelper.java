@@ -317,6 +317,8 @@ public interface IterableObjectHelper {
 
 		public C threadBased();
 
+		public C forkJoinBased();
+
 		public static class WithOutputOfMap<I, IC, K, O, OM> extends IterableObjectHelperImpl.Iterator.Config.WithOutput<I, IC, WithOutputOfMap<I, IC, K, O, OM>> {
 
 			WithOutputOfMap(IterableObjectHelperImpl.Iterator.Config<I, IC> configuration) {
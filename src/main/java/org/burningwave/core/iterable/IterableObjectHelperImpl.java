@@ -47,6 +47,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -74,8 +75,12 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 	//Deferred initialized
 	private Supplier<Class<?>[]> parallelCollectionClassesSupplier;
 	private Class<?>[] parallelCollectionClasses;
+	private Map<String, Map<Integer, List<String>>> placeHoldersCache;
+	private Map<String, Pattern> patternsCache;
 
 	IterableObjectHelperImpl(Map<?, ?> config) {
+		this.placeHoldersCache = new ConcurrentHashMap<>();
+		this.patternsCache = new ConcurrentHashMap<>();
 		this.defaultValuesSeparator = resolveStringValue(
 			ResolveConfig.ForNamedKey.forNamedKey(
 				Configuration.Key.DEFAULT_VALUES_SEPERATOR
@@ -425,24 +430,55 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		String defaultValueSeparator,
 		boolean deleteUnresolvedPlaceHolder,
 		Map<?,?> defaultValues
+	) {
+		if (!(map instanceof Properties)) {
+			return resolve(map, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, null);
+		}
+		T value = ((Properties)map).getResolvedValuesCache().getOrResolve(
+			key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies ->
+				resolve(map, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies)
+		);
+		//The cached collections are shared so a copy is returned
+		if (value instanceof IterableObjectHelperImpl.ArrayList) {
+			Collection<Object> values = new IterableObjectHelperImpl.ArrayList<>();
+			values.addAll((Collection<?>)value);
+			return (T)values;
+		}
+		return value;
+	}
+
+	private <T> T resolve(
+		Map<?,?> map,
+		Object key,
+		String valuesSeparator,
+		String defaultValueSeparator,
+		boolean deleteUnresolvedPlaceHolder,
+		Map<?,?> defaultValues,
+		ResolvedValuesCache.Dependencies dependencies
 	) {
 		String valuesSeparatorForSplitting = valuesSeparator != null ? valuesSeparator : defaultValueSeparator != null ? defaultValueSeparator : defaultValuesSeparator;
 		T value = (T) map.get(key);
+		if (dependencies != null) {
+			dependencies.add(map, key, value);
+		}
 		if (value == null && defaultValues != null) {
-			value = (T) resolve(defaultValues, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, null);
+			value = (T) resolve(defaultValues, key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, null, dependencies);
 		}
 		if (value != null && value instanceof String) {
 			String stringValue = (String)value;
 			Collection<Object> values = new IterableObjectHelperImpl.ArrayList<>();
 			if (!Strings.isEmpty(stringValue)) {
-				Map<Integer, List<String>> subProperties = Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, stringValue);
+				Map<Integer, List<String>> subProperties = getPlaceHolders(stringValue);
 				if (!subProperties.isEmpty()) {
 					for (Map.Entry<Integer, List<String>> entry : subProperties.entrySet()) {
 						for (String placeHolder : entry.getValue()) {
 							Object valueObjects = null;
 							if (!placeHolder.startsWith("system.properties:")) {
-								valueObjects = resolve(map, placeHolder, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues);
+								valueObjects = resolve(map, placeHolder, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues, dependencies);
 							} else {
+								if (dependencies != null) {
+									dependencies.setAsNotCacheable();
+								}
 								valueObjects = StaticComponentContainer.SystemProperties.get(placeHolder.split(":")[1]);
 								if (valuesSeparatorForSplitting != null) {
 									valueObjects = ((String)valueObjects).replace(
@@ -452,7 +488,9 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 							}
 							if (valueObjects == null) {
 								if (deleteUnresolvedPlaceHolder) {
-									stringValue = stringValue.replaceAll("[^{" + valuesSeparatorForSplitting + "}]*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?" + valuesSeparatorForSplitting, "");
+									stringValue = getPattern(
+										"[^{" + valuesSeparatorForSplitting + "}]*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?" + valuesSeparatorForSplitting
+									).matcher(stringValue).replaceAll("");
 								}
 								continue;
 							}
@@ -469,7 +507,7 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 								regExpPattern = "(.*?" + Strings.placeHolderToRegEx("${" + placeHolder + "}") + ".*?)";
 							}
 							Map<Integer, List<String>> placeHolderedValues = Strings.extractAllGroups(
-								Pattern.compile(regExpPattern), stringValue
+								getPattern(regExpPattern), stringValue
 							);
 							for (Map.Entry<Integer, List<String>> placeHolderedValuesEntry : placeHolderedValues.entrySet()) {
 								for (String placeHolderedValue : placeHolderedValuesEntry.getValue()) {
@@ -520,6 +558,30 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 
 	}
 
+	//The place holders of each value and the patterns are parsed and compiled only once: the caches
+	//stop growing beyond a fixed size for the values that are not coming from configuration files
+	private Map<Integer, List<String>> getPlaceHolders(String value) {
+		Map<Integer, List<String>> placeHolders = placeHoldersCache.get(value);
+		if (placeHolders == null) {
+			placeHolders = Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, value);
+			if (placeHoldersCache.size() < 4096) {
+				placeHoldersCache.put(value, placeHolders);
+			}
+		}
+		return placeHolders;
+	}
+
+	private Pattern getPattern(String regEx) {
+		Pattern pattern = patternsCache.get(regEx);
+		if (pattern == null) {
+			pattern = Pattern.compile(regEx);
+			if (patternsCache.size() < 4096) {
+				patternsCache.put(regEx, pattern);
+			}
+		}
+		return pattern;
+	}
+
 	@Override
 	public Collection<String> getAllPlaceHolders(Map<?, ?> map) {
 		return getAllPlaceHolders(map, object -> true);
@@ -818,11 +880,13 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		static class Config<I, IC> implements IterableObjectHelper.IterationConfig<I, IC, Config<I, IC>>{
 			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> taskBasedIteratorSupplier;
 			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> threadBasedIteratorSupplier;
+			private final static Function<IterableObjectHelperImpl, IterableObjectHelperImpl.Iterator> forkJoinBasedIteratorSupplier;
 
 
 			static {
 				taskBasedIteratorSupplier = TaskBasedIterator::new;
 				threadBasedIteratorSupplier = ThreadBasedIterator::new;
+				forkJoinBasedIteratorSupplier = ForkJoinBasedIterator::new;
 			}
 
 			Object items;
@@ -883,6 +947,12 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 				return this;
 			}
 
+			@Override
+			public Config<I, IC> forkJoinBased() {
+				this.iteratorSupplier = forkJoinBasedIteratorSupplier;
+				return this;
+			}
+
 			@Override
 			public <O, OC extends Collection<O>> WithOutputOfCollection<I, IC, O, OC> withOutput(OC output) {
 				return new WithOutputOfCollection<>(setOutput(output));
@@ -936,6 +1006,12 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 					return (CWO)this;
 				}
 
+				@Override
+				public CWO forkJoinBased() {
+					wrappedConfiguration.forkJoinBased();
+					return (CWO)this;
+				}
+
 				@Override
 				public CWO withPriority(Integer priority) {
 					wrappedConfiguration.withPriority(priority);
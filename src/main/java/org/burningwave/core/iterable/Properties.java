@@ -53,6 +53,7 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 	}
 
 	private Set<Listener> listeners;
+	private transient volatile ResolvedValuesCache resolvedValuesCache;
 	private String defaultValuesSeparator;
 
 	public Properties() {
@@ -75,6 +76,18 @@ public class Properties extends ConcurrentHashMap<Object, Object> {
 		return listeners;
 	}
 
+	ResolvedValuesCache getResolvedValuesCache() {
+		ResolvedValuesCache resolvedValuesCache = this.resolvedValuesCache;
+		if (resolvedValuesCache == null) {
+			synchronized (this) {
+				if ((resolvedValuesCache = this.resolvedValuesCache) == null) {
+					this.resolvedValuesCache = resolvedValuesCache = new ResolvedValuesCache().listenTo(this);
+				}
+			}
+		}
+		return resolvedValuesCache;
+	}
+
 	public Properties load(Supplier<InputStream> inputStreamSupplier) {
 		Streams.feelPropertiesMap(inputStreamSupplier, this);
 		return this;
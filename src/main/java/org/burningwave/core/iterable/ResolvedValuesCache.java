@@ -0,0 +1,177 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.iterable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.burningwave.core.iterable.Properties.Event;
+
+//Holds the values resolved from a Properties: each value is stored with the raw values of the keys
+//from which it has been resolved, so that it can be invalidated on PUT and REMOVE events of these keys
+//and checked against the changes that have not been notified
+@SuppressWarnings("unchecked")
+class ResolvedValuesCache implements Properties.Listener {
+	private final Map<Key, Entry> entries;
+	private final Map<Object, Set<Key>> dependents;
+
+	ResolvedValuesCache() {
+		entries = new ConcurrentHashMap<>();
+		dependents = new ConcurrentHashMap<>();
+	}
+
+	<T> T getOrResolve(
+		Object key,
+		String valuesSeparator,
+		String defaultValueSeparator,
+		boolean deleteUnresolvedPlaceHolder,
+		Map<?, ?> defaultValues,
+		Function<Dependencies, T> resolver
+	) {
+		Key entryKey = new Key(key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, defaultValues);
+		Entry entry = entries.get(entryKey);
+		if (entry != null && entry.dependencies.areUnchanged()) {
+			return (T)entry.value;
+		}
+		Dependencies dependencies = new Dependencies();
+		T value = resolver.apply(dependencies);
+		if (dependencies.cacheable) {
+			entries.put(entryKey, new Entry(value, dependencies));
+			for (Dependencies.Item dependency : dependencies.items) {
+				dependents.computeIfAbsent(dependency.key, dependencyKey -> ConcurrentHashMap.newKeySet()).add(entryKey);
+			}
+		} else if (entry != null) {
+			entries.remove(entryKey);
+		}
+		return value;
+	}
+
+	@Override
+	public <K, V> void processChangeNotification(Properties properties, Event event, K key, V newValue, V previousValue) {
+		Set<Key> entryKeys = dependents.remove(key);
+		if (entryKeys != null) {
+			for (Key entryKey : entryKeys) {
+				entries.remove(entryKey);
+			}
+		}
+	}
+
+	static class Dependencies {
+		private Collection<Item> items;
+		private boolean cacheable;
+
+		private Dependencies() {
+			items = new ArrayList<>();
+			cacheable = true;
+		}
+
+		void add(Map<?, ?> map, Object key, Object value) {
+			items.add(new Item(map, key, value));
+		}
+
+		void setAsNotCacheable() {
+			cacheable = false;
+		}
+
+		private boolean areUnchanged() {
+			for (Item item : items) {
+				if (item.map.get(item.key) != item.value) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static class Item {
+			private final Map<?, ?> map;
+			private final Object key;
+			private final Object value;
+
+			private Item(Map<?, ?> map, Object key, Object value) {
+				this.map = map;
+				this.key = key;
+				this.value = value;
+			}
+		}
+	}
+
+	private static class Entry {
+		private final Object value;
+		private final Dependencies dependencies;
+
+		private Entry(Object value, Dependencies dependencies) {
+			this.value = value;
+			this.dependencies = dependencies;
+		}
+	}
+
+	private static class Key {
+		private final Object key;
+		private final String valuesSeparator;
+		private final String defaultValueSeparator;
+		private final boolean deleteUnresolvedPlaceHolder;
+		private final Map<?, ?> defaultValues;
+		private final int hashCode;
+
+		private Key(Object key, String valuesSeparator, String defaultValueSeparator, boolean deleteUnresolvedPlaceHolder, Map<?, ?> defaultValues) {
+			this.key = key;
+			this.valuesSeparator = valuesSeparator;
+			this.defaultValueSeparator = defaultValueSeparator;
+			this.deleteUnresolvedPlaceHolder = deleteUnresolvedPlaceHolder;
+			this.defaultValues = defaultValues;
+			this.hashCode = Objects.hash(
+				key, valuesSeparator, defaultValueSeparator, deleteUnresolvedPlaceHolder, System.identityHashCode(defaultValues)
+			);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key other = (Key)object;
+			//The default values are compared by identity to avoid iterating over their entries
+			return key.equals(other.key) &&
+				Objects.equals(valuesSeparator, other.valuesSeparator) &&
+				Objects.equals(defaultValueSeparator, other.defaultValueSeparator) &&
+				deleteUnresolvedPlaceHolder == other.deleteUnresolvedPlaceHolder &&
+				defaultValues == other.defaultValues;
+		}
+	}
+}
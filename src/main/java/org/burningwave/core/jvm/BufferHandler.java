@@ -32,9 +32,13 @@ package org.burningwave.core.jvm;
 import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.JVMInfo;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.nio.Buffer;
@@ -44,6 +48,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.burningwave.core.Component;
@@ -61,6 +69,9 @@ public class BufferHandler implements Component {
 
 			static final String BUFFER_SIZE = "buffer-handler.default-buffer-size";
 			static final String BUFFER_ALLOCATION_MODE = "buffer-handler.default-allocation-mode";
+			static final String POOL_ENABLED = "buffer-handler.pool.enabled";
+			static final String POOL_MAX_BUFFER_SIZE = "buffer-handler.pool.max-buffer-size";
+			static final String POOL_MAX_RETAINED_SIZE = "buffer-handler.pool.max-retained-size";
 
 		}
 
@@ -74,6 +85,9 @@ public class BufferHandler implements Component {
 				Key.BUFFER_ALLOCATION_MODE,
 				"ByteBuffer::allocateDirect"
 			);
+			defaultValues.put(Key.POOL_ENABLED, "true");
+			defaultValues.put(Key.POOL_MAX_BUFFER_SIZE, "4MB");
+			defaultValues.put(Key.POOL_MAX_RETAINED_SIZE, "64MB");
 
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -82,6 +96,7 @@ public class BufferHandler implements Component {
 	Field directAllocatedByteBufferAddressField;
 	int defaultBufferSize;
 	Function<Integer, ByteBuffer> defaultByteBufferAllocator;
+	Pool pool;
     final static float reallocationFactor = 1.1f;
 
 	public BufferHandler(Map<?, ?> config) {
@@ -91,6 +106,7 @@ public class BufferHandler implements Component {
 	void init(Map<?, ?> config) {
 		setDefaultByteBufferSize(config);
 		setDefaultByteBufferAllocationMode(config);
+		setPool(config);
 		checkAndListenTo(config);
 		Class<?> directByteBufferClass = ByteBuffer.allocateDirect(0).getClass();
 		mainCycle:
@@ -106,25 +122,47 @@ public class BufferHandler implements Component {
 	}
 
 	private void setDefaultByteBufferSize(Map<?, ?> config) {
-		String defaultBufferSize = IterableObjectHelper.resolveStringValue(
-			ResolveConfig.forNamedKey(Configuration.Key.BUFFER_SIZE)
+		this.defaultBufferSize = (int)resolveSize(config, Configuration.Key.BUFFER_SIZE);
+		ManagedLoggerRepository.logInfo(getClass()::getName, "default buffer size: {} bytes", this.defaultBufferSize);
+	}
+
+	private long resolveSize(Map<?, ?> config, String key) {
+		String size = IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(key)
 			.on(config)
 			.withDefaultValues(Configuration.DEFAULT_VALUES)
 		);
 		try {
-			this.defaultBufferSize = Integer.valueOf(defaultBufferSize);
+			return Long.valueOf(size);
 		} catch (Throwable exc) {
-			String unit = defaultBufferSize.substring(defaultBufferSize.length()-2);
-			String value = defaultBufferSize.substring(0, defaultBufferSize.length()-2);
+			String unit = size.substring(size.length()-2);
+			String value = size.substring(0, size.length()-2);
 			if (unit.equalsIgnoreCase("KB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024)).intValue();
+				return new BigDecimal(value).multiply(new BigDecimal(1024)).longValue();
 			} else if (unit.equalsIgnoreCase("MB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).intValue();
+				return new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).longValue();
 			} else {
-				this.defaultBufferSize = Integer.valueOf(value);
+				return Long.valueOf(value);
 			}
 		}
-		ManagedLoggerRepository.logInfo(getClass()::getName, "default buffer size: {} bytes", this.defaultBufferSize);
+	}
+
+	private void setPool(Map<?, ?> config) {
+		if (org.burningwave.core.assembler.StaticComponentContainer.Objects.toBoolean(
+			IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(Configuration.Key.POOL_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		)) {
+			this.pool = new Pool(
+				defaultByteBufferAllocator,
+				(int)resolveSize(config, Configuration.Key.POOL_MAX_BUFFER_SIZE),
+				resolveSize(config, Configuration.Key.POOL_MAX_RETAINED_SIZE)
+			);
+		} else {
+			this.pool = null;
+		}
 	}
 
 	private void setDefaultByteBufferAllocationMode(Map<?, ?> config) {
@@ -151,6 +189,9 @@ public class BufferHandler implements Component {
 					setDefaultByteBufferSize(config);
 				} else if (keyAsString.equals(Configuration.Key.BUFFER_ALLOCATION_MODE)) {
 					setDefaultByteBufferAllocationMode(config);
+					setPool(config);
+				} else if (keyAsString.startsWith("buffer-handler.pool.")) {
+					setPool(config);
 				}
 			}
 		}
@@ -168,6 +209,32 @@ public class BufferHandler implements Component {
 		return defaultByteBufferAllocator.apply(capacity);
 	}
 
+	//Returns a buffer, possibly recycled and with a capacity greater than the requested one, that
+	//must be returned through the release method when it is no longer used: its limit is set to
+	//the requested capacity and its content beyond the position must be considered dirty
+	public ByteBuffer acquire(int capacity) {
+		Pool pool = this.pool;
+		if (pool != null) {
+			return limit(pool.acquire(capacity), capacity);
+		}
+		return allocate(capacity);
+	}
+
+	//Only the buffers obtained through the acquire method must be passed: the pool can't tell them apart from the
+	//other buffers with the same capacity and kind, that would be recycled too. The buffer and its duplicates must
+	//not be used after calling this method
+	public void release(ByteBuffer buffer) {
+		Pool pool = this.pool;
+		if (pool != null && buffer != null) {
+			pool.release(buffer);
+		}
+	}
+
+	public Pool.Stats getPoolStats() {
+		Pool pool = this.pool;
+		return pool != null ? pool.getStats() : null;
+	}
+
 	public ByteBuffer allocateInHeap(int capacity) {
 		return ByteBuffer.allocate(capacity);
 	}
@@ -248,6 +315,33 @@ public class BufferHandler implements Component {
         return byteBuffer;
     }
 
+	//Like ensureRemaining but the new buffer is acquired and the old one, that must have been acquired, is released.
+	//Since the acquired buffers are rounded up to their size class, they are replaced only when the new limit
+	//exceeds their capacity
+	public ByteBuffer ensureRemainingOfAcquired(ByteBuffer acquiredBuffer, int requiredBytes) {
+		if (requiredBytes > remaining(acquiredBuffer)) {
+			int newLimit = Math.max((int)(limit(acquiredBuffer) * reallocationFactor), position(acquiredBuffer) + requiredBytes);
+			if (newLimit <= capacity(acquiredBuffer)) {
+				return limit(acquiredBuffer, newLimit);
+			}
+			ByteBuffer newBuffer = acquire(newLimit);
+			flip(acquiredBuffer);
+			newBuffer.put(acquiredBuffer);
+			release(acquiredBuffer);
+			return newBuffer;
+		}
+		return acquiredBuffer;
+	}
+
+	//Copies the content of the acquired buffer in a new buffer of the same size and releases the acquired one
+	public ByteBuffer copyAndRelease(ByteBuffer acquiredBuffer) {
+		ByteBuffer content = flip(duplicate(acquiredBuffer));
+		ByteBuffer copy = allocate(remaining(content));
+		copy.put(content);
+		release(acquiredBuffer);
+		return flip(copy);
+	}
+
 	public ByteBuffer expandBuffer(ByteBuffer byteBuffer, int requiredBytes) {
 		return expandBuffer(byteBuffer, requiredBytes, 0);
 	}
@@ -433,6 +527,185 @@ public class BufferHandler implements Component {
 		return null;
 	}
 
+	//Keeps the released buffers grouped by size classes (powers of two starting from 1KB): the smallest
+	//ones are cached by each platform thread, the others are shared up to the max retained size. The buffers
+	//cached by a thread are discarded when the thread dies
+	public static class Pool {
+		private static final int MIN_SIZE_CLASS_SHIFT = 10;
+		private static final int MAX_THREAD_CACHED_BUFFER_SIZE = 64 * 1024;
+		private static final MethodHandle IS_VIRTUAL_THREAD_CHECKER = retrieveIsVirtualThreadChecker();
+
+		private final Function<Integer, ByteBuffer> allocator;
+		private final boolean direct;
+		private final int maxBufferSize;
+		private final long maxRetainedSize;
+		private final Queue<ByteBuffer>[] sharedBuffers;
+		private final ThreadLocal<ByteBuffer[]> threadCachedBuffers;
+		//Used only to compute the retained size: the entries are removed when the threads die
+		private final Map<java.lang.Thread, ByteBuffer[]> allThreadCachedBuffers;
+		private final AtomicLong retainedSize;
+		private final AtomicLong hitCount;
+		private final AtomicLong missCount;
+
+		Pool(Function<Integer, ByteBuffer> allocator, int maxBufferSize, long maxRetainedSize) {
+			this.allocator = allocator;
+			this.direct = allocator.apply(0).isDirect();
+			this.maxBufferSize = maxBufferSize;
+			this.maxRetainedSize = maxRetainedSize;
+			int sizeClassesCount = Math.max(getSizeClass(maxBufferSize) + 1, 0);
+			this.sharedBuffers = new Queue[sizeClassesCount];
+			for (int i = 0; i < sizeClassesCount; i++) {
+				sharedBuffers[i] = new ConcurrentLinkedQueue<>();
+			}
+			int threadCachedSizeClassesCount = Math.min(getSizeClass(MAX_THREAD_CACHED_BUFFER_SIZE) + 1, sizeClassesCount);
+			this.allThreadCachedBuffers = new WeakHashMap<>();
+			this.threadCachedBuffers = ThreadLocal.withInitial(() -> {
+				ByteBuffer[] threadCachedBuffers = new ByteBuffer[threadCachedSizeClassesCount];
+				synchronized (allThreadCachedBuffers) {
+					allThreadCachedBuffers.put(java.lang.Thread.currentThread(), threadCachedBuffers);
+				}
+				return threadCachedBuffers;
+			});
+			this.retainedSize = new AtomicLong();
+			this.hitCount = new AtomicLong();
+			this.missCount = new AtomicLong();
+		}
+
+		private int getSizeClass(int capacity) {
+			if (capacity > maxBufferSize) {
+				return -1;
+			}
+			return Math.max(MIN_SIZE_CLASS_SHIFT, 32 - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_SIZE_CLASS_SHIFT;
+		}
+
+		//On JVMs that do not support virtual threads this method returns null
+		private static MethodHandle retrieveIsVirtualThreadChecker() {
+			if (JVMInfo.getVersion() < 21) {
+				return null;
+			}
+			try {
+				return MethodHandles.publicLookup().findVirtual(
+					java.lang.Thread.class,
+					"isVirtual",
+					MethodType.methodType(boolean.class)
+				);
+			} catch (NoSuchMethodException | IllegalAccessException exc) {
+				return null;
+			}
+		}
+
+		//The virtual threads are too many and too short-lived to keep a cache each: they use only the shared buffers
+		private ByteBuffer[] getThreadCachedBuffers() {
+			if (IS_VIRTUAL_THREAD_CHECKER != null) {
+				try {
+					if ((boolean)IS_VIRTUAL_THREAD_CHECKER.invokeExact(java.lang.Thread.currentThread())) {
+						return null;
+					}
+				} catch (Throwable exc) {
+					return Driver.throwException(exc);
+				}
+			}
+			return threadCachedBuffers.get();
+		}
+
+		ByteBuffer acquire(int capacity) {
+			int sizeClass = getSizeClass(capacity);
+			if (sizeClass < 0) {
+				missCount.incrementAndGet();
+				return allocator.apply(capacity);
+			}
+			ByteBuffer buffer = null;
+			ByteBuffer[] threadCachedBuffers = getThreadCachedBuffers();
+			if (threadCachedBuffers != null && sizeClass < threadCachedBuffers.length && (buffer = threadCachedBuffers[sizeClass]) != null) {
+				threadCachedBuffers[sizeClass] = null;
+			} else if ((buffer = sharedBuffers[sizeClass].poll()) != null) {
+				retainedSize.addAndGet(-buffer.capacity());
+			}
+			if (buffer != null) {
+				hitCount.incrementAndGet();
+				((Buffer)buffer).clear();
+				return buffer;
+			}
+			missCount.incrementAndGet();
+			return allocator.apply(1 << (sizeClass + MIN_SIZE_CLASS_SHIFT));
+		}
+
+		void release(ByteBuffer buffer) {
+			int capacity = buffer.capacity();
+			int sizeClass = getSizeClass(capacity);
+			//The buffers that could not have been allocated by this pool are discarded: the other ones are
+			//recycled, so the callers must release only the buffers they have acquired
+			if (sizeClass < 0 || capacity != 1 << (sizeClass + MIN_SIZE_CLASS_SHIFT) ||
+				buffer.isReadOnly() || buffer.isDirect() != direct) {
+				return;
+			}
+			ByteBuffer[] threadCachedBuffers = getThreadCachedBuffers();
+			if (threadCachedBuffers != null && sizeClass < threadCachedBuffers.length && threadCachedBuffers[sizeClass] == null) {
+				threadCachedBuffers[sizeClass] = buffer;
+			} else if (retainedSize.get() + capacity <= maxRetainedSize) {
+				retainedSize.addAndGet(capacity);
+				sharedBuffers[sizeClass].offer(buffer);
+			}
+		}
+
+		Stats getStats() {
+			long threadCachedSize = 0;
+			synchronized (allThreadCachedBuffers) {
+				for (ByteBuffer[] threadCachedBuffers : allThreadCachedBuffers.values()) {
+					for (ByteBuffer buffer : threadCachedBuffers) {
+						if (buffer != null) {
+							threadCachedSize += buffer.capacity();
+						}
+					}
+				}
+			}
+			return new Stats(hitCount.get(), missCount.get(), retainedSize.get(), threadCachedSize);
+		}
+
+		public static class Stats {
+			private final long hitCount;
+			private final long missCount;
+			private final long sharedRetainedSize;
+			private final long threadCachedSize;
+
+			Stats(long hitCount, long missCount, long sharedRetainedSize, long threadCachedSize) {
+				this.hitCount = hitCount;
+				this.missCount = missCount;
+				this.sharedRetainedSize = sharedRetainedSize;
+				this.threadCachedSize = threadCachedSize;
+			}
+
+			public long getHitCount() {
+				return hitCount;
+			}
+
+			public long getMissCount() {
+				return missCount;
+			}
+
+			public double getHitRate() {
+				long requestCount = hitCount + missCount;
+				return requestCount > 0 ? (double)hitCount / requestCount : 0d;
+			}
+
+			//The size of all the buffers held by the pool, including the ones cached by the living threads
+			public long getRetainedSize() {
+				return sharedRetainedSize + threadCachedSize;
+			}
+
+			//The size of the buffers cached by the living threads: it is not limited by the max retained size
+			public long getThreadCachedSize() {
+				return threadCachedSize;
+			}
+
+			@Override
+			public String toString() {
+				return "hit count: " + hitCount + ", miss count: " + missCount + ", retained size: " + getRetainedSize() +
+					" bytes (" + threadCachedSize + " bytes cached by the threads)";
+			}
+		}
+	}
+
 	@Deprecated/*(since="12.67.0")*/
 	public static interface Deallocator {
 
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.jvm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+//The event type is defined at runtime through jdk.jfr.EventFactory to keep the JDK 8 target: if the Flight Recorder
+//is not available no event is emitted
+public class FlightRecorderEvents {
+	public static final String EVENT_NAME = "org.burningwave.core.Operation";
+
+	private static final MethodHandle isEnabled;
+	private static final MethodHandle newEvent;
+	private static final MethodHandle begin;
+	private static final MethodHandle end;
+	private static final MethodHandle set;
+	private static final MethodHandle commit;
+
+	static {
+		MethodHandle isEnabledTemp = null;
+		MethodHandle newEventTemp = null;
+		MethodHandle beginTemp = null;
+		MethodHandle endTemp = null;
+		MethodHandle setTemp = null;
+		MethodHandle commitTemp = null;
+		try {
+			Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+			Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType");
+			Class<?> eventClass = Class.forName("jdk.jfr.Event");
+			Class<?> labelClass = Class.forName("jdk.jfr.Label");
+			Constructor<?> annotationElementConstructor = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+			Constructor<?> valueDescriptorConstructor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+			Object eventFactory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null,
+				Arrays.asList(
+					annotationElementConstructor.newInstance(Class.forName("jdk.jfr.Name"), EVENT_NAME),
+					annotationElementConstructor.newInstance(labelClass, "Burningwave Operation"),
+					annotationElementConstructor.newInstance(Class.forName("jdk.jfr.Category"), new String[] {"Burningwave"})
+				),
+				Arrays.asList(
+					valueDescriptorConstructor.newInstance(String.class, "name", Collections.singletonList(
+						annotationElementConstructor.newInstance(labelClass, "Name")
+					)),
+					valueDescriptorConstructor.newInstance(String.class, "target", Collections.singletonList(
+						annotationElementConstructor.newInstance(labelClass, "Target")
+					))
+				)
+			);
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			Object eventType = eventFactoryClass.getMethod("getEventType").invoke(eventFactory);
+			isEnabledTemp = lookup.findVirtual(eventTypeClass, "isEnabled", MethodType.methodType(boolean.class)).bindTo(eventType);
+			newEventTemp = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass))
+				.bindTo(eventFactory).asType(MethodType.methodType(Object.class));
+			beginTemp = lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class))
+				.asType(MethodType.methodType(void.class, Object.class));
+			endTemp = lookup.findVirtual(eventClass, "end", MethodType.methodType(void.class))
+				.asType(MethodType.methodType(void.class, Object.class));
+			setTemp = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class))
+				.asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+			commitTemp = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class))
+				.asType(MethodType.methodType(void.class, Object.class));
+		} catch (Throwable exc) {
+			isEnabledTemp = null;
+		}
+		isEnabled = isEnabledTemp;
+		newEvent = newEventTemp;
+		begin = beginTemp;
+		end = endTemp;
+		set = setTemp;
+		commit = commitTemp;
+	}
+
+	private FlightRecorderEvents() {}
+
+	public static boolean isAvailable() {
+		return isEnabled != null;
+	}
+
+	//Returns null if the event is not enabled in any running recording
+	public static Object begin() {
+		if (isEnabled == null) {
+			return null;
+		}
+		try {
+			if (!(boolean)isEnabled.invokeExact()) {
+				return null;
+			}
+			Object event = (Object)newEvent.invokeExact();
+			begin.invokeExact(event);
+			return event;
+		} catch (Throwable exc) {
+			return null;
+		}
+	}
+
+	public static void commit(Object event, String name, String target) {
+		try {
+			end.invokeExact(event);
+			set.invokeExact(event, 0, (Object)name);
+			set.invokeExact(event, 1, (Object)target);
+			commit.invokeExact(event);
+		} catch (Throwable exc) {
+			//The recording of an event must never break the measured operation
+		}
+	}
+
+}
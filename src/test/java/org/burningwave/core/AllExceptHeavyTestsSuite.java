@@ -13,12 +13,14 @@ import org.junit.runner.RunWith;
 	BackgroundExecutorTest.class,
 	ByteBufferHandlerTest.class,
 	ByteCodeHunterTest.class,
+	CacheTest.class,
     ClassesTest.class,
     ClassFactoryTest.class,
     ComponentContainerTest.class,
     ClassHunterTest.class,
     ClassLoadersTest.class,
     ClassPathHunterTest.class,
+    ClassRepositoriesIndexTest.class,
     CodeExecutorTest.class,
     ConstructorsTest.class,
     FieldsTest.class,
@@ -28,6 +30,7 @@ import org.junit.runner.RunWith;
     IterableObjectHelperTest.class,
     IterableZipContainerTest.class,
     ManagedLoggerRepositoryTest.class,
+    MetricsTest.class,
     MembersTest.class,
     MemoryClassLoaderTest.class,
     MethodsTest.class,
@@ -25,6 +25,7 @@ import org.junit.runner.RunWith;
 //    IterableZipContainerTest.class,
 //    LowLevelObjectsHandlerTest.class,
     ManagedLoggerRepositoryTest.class,
+    MetricsTest.class,
 //    MembersTest.class,
 //    MemoryClassLoaderTest.class,
 //    MethodsTest.class,
@@ -2,18 +2,23 @@ package org.burningwave.core;
 
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.concurrent.Thread.Supplier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -127,4 +132,89 @@ public class BackgroundExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	public void interruptInVirtualThreadTestOne() {
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>(GlobalProperties);
+			config.put(Supplier.Configuration.Key.VIRTUAL_THREADS_ENABLED, true);
+			Supplier threadSupplier = Supplier.create("Virtual thread supplier for test", config, false);
+			QueuedTaskExecutor queuedTaskExecutor = QueuedTaskExecutor.create(
+				"Virtual thread executor for test", threadSupplier, Thread.NORM_PRIORITY, true, false
+			);
+			try {
+				assertTrue(threadSupplier.isVirtualThreadsEnabled());
+				CountDownLatch started = new CountDownLatch(1);
+				CountDownLatch interrupted = new CountDownLatch(1);
+				CountDownLatch released = new CountDownLatch(1);
+				QueuedTaskExecutor.Task task = queuedTaskExecutor.createTask(() -> {
+					started.countDown();
+					try {
+						Thread.sleep(60000);
+					} catch (InterruptedException exc) {
+						interrupted.countDown();
+						released.await();
+					}
+				}).submit();
+				started.await();
+				assertTrue(task.getInfoAsString(), task.isStarted() && !task.isAborted() && !task.isTerminatedThreadNotAlive());
+				task.interrupt();
+				interrupted.await();
+				//The virtual thread is still running the task
+				assertTrue(task.getInfoAsString(), !task.isTerminatedThreadNotAlive());
+				released.countDown();
+				assertTrue(
+					task.getInfoAsString(),
+					task.waitForTerminatedThreadNotAlive(100, 3000).isTerminatedThreadNotAlive() && task.isAborted()
+				);
+			} finally {
+				queuedTaskExecutor.shutDown(false);
+				threadSupplier.shutDownAllThreads(false);
+			}
+		});
+	}
+
+	@Test
+	public void submitLaterTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicBoolean executed = new AtomicBoolean();
+			QueuedTaskExecutor.ProducerTask<String> task = BackgroundExecutor.createProducerTask(tsk -> {
+				executed.set(true);
+				return "executed";
+			}).submitLater();
+			AtomicReference<String> result = new AtomicReference<>();
+			CountDownLatch joining = new CountDownLatch(1);
+			Thread joiner = new Thread(() -> {
+				joining.countDown();
+				result.set(task.join());
+			});
+			joiner.start();
+			joining.await();
+			//The task can be joined at once but it is not executed until it is submitted
+			joiner.join(500);
+			assertTrue(task.getInfoAsString(), joiner.isAlive() && !executed.get() && !task.hasFinished());
+			task.submit();
+			joiner.join();
+			assertTrue(task.getInfoAsString(), executed.get() && "executed".equals(result.get()));
+		});
+	}
+
+	@Test
+	public void submitLaterTestTwo() {
+		testDoesNotThrow(() -> {
+			AtomicInteger executionsCount = new AtomicInteger();
+			QueuedTaskExecutor.Task task = BackgroundExecutor.createTask(tsk -> {
+				executionsCount.incrementAndGet();
+			}).submitLater();
+			//The task is marked as submitted: it can't be submitted later again but it can be queued only once
+			testThrow(() -> task.submitLater());
+			BackgroundExecutor.createTask(tsk -> {
+				task.submit();
+			}).submit();
+			task.waitForFinish();
+			testThrow(() -> task.submit());
+			assertTrue(task.getInfoAsString(), task.hasFinished() && executionsCount.get() == 1);
+		});
+	}
+
 }
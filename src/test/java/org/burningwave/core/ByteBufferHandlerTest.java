@@ -1,8 +1,14 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+
+import org.burningwave.core.io.ByteBufferOutputStream;
 import org.burningwave.core.jvm.BufferHandler.Deallocator;
+import org.junit.jupiter.api.Test;
 
 public class ByteBufferHandlerTest extends BaseTest {
 
@@ -32,4 +38,77 @@ public class ByteBufferHandlerTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void acquireAndReleaseTest() {
+		testNotNull(() -> {
+			ByteBuffer buffer = BufferHandler.acquire(1000);
+			BufferHandler.release(buffer);
+			ByteBuffer recycledBuffer = BufferHandler.acquire(1024);
+			BufferHandler.release(recycledBuffer);
+			return buffer == recycledBuffer && recycledBuffer.position() == 0 ? BufferHandler.getPoolStats() : null;
+		});
+	}
+
+	@Test
+	public void acquireAndReleaseTestTwo() {
+		testDoesNotThrow(() -> {
+			ByteBuffer buffer = BufferHandler.acquire(1000);
+			BufferHandler.release(buffer);
+			//The buffer is cached by the current thread and it is counted in the retained size
+			org.burningwave.core.jvm.BufferHandler.Pool.Stats stats = BufferHandler.getPoolStats();
+			assertTrue(stats.getThreadCachedSize() >= 1024);
+			assertTrue(stats.getRetainedSize() >= stats.getThreadCachedSize());
+			//A buffer that could not have been allocated by the pool is discarded
+			ByteBuffer notPooledBuffer = BufferHandler.allocate(1000);
+			BufferHandler.release(notPooledBuffer);
+			ByteBuffer recycledBuffer = BufferHandler.acquire(1000);
+			BufferHandler.release(recycledBuffer);
+			assertTrue(recycledBuffer != notPooledBuffer);
+		});
+	}
+
+	@Test
+	public void byteBufferOutputStreamGrowthTest() {
+		testNotNull(() -> {
+			byte[] content;
+			try (ByteBufferOutputStream outputStream = BufferHandler.newByteBufferOutputStream(16)) {
+				for (int i = 0; i < 10000; i++) {
+					outputStream.write(i);
+				}
+				content = outputStream.toByteArray();
+			}
+			for (int i = 0; i < content.length; i++) {
+				if (content[i] != (byte)i) {
+					return null;
+				}
+			}
+			return content.length == 10000 ? content : null;
+		});
+	}
+
+	@Test
+	public void byteBufferOutputStreamOnRecycledBufferTest() {
+		testDoesNotThrow(() -> {
+			ByteBuffer buffer = BufferHandler.acquire(1000);
+			while (buffer.hasRemaining()) {
+				buffer.put((byte)1);
+			}
+			BufferHandler.release(buffer);
+			try (ByteBufferOutputStream outputStream = BufferHandler.newByteBufferOutputStream(1000)) {
+				assertEquals(1000, outputStream.limit());
+				assertEquals(0, outputStream.toByteArray().length);
+				outputStream.write(new byte[] {2, 3}, 0, 2);
+				assertEquals(2, outputStream.toByteArray().length);
+			}
+			buffer = BufferHandler.acquire(1000);
+			while (buffer.hasRemaining()) {
+				buffer.put((byte)1);
+			}
+			BufferHandler.release(buffer);
+			try (ByteBufferOutputStream outputStream = BufferHandler.newByteBufferOutputStream(1000)) {
+				assertEquals(0, BufferHandler.limit(outputStream.toByteBuffer()));
+			}
+		});
+	}
+
 }
@@ -0,0 +1,123 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+public class CacheTest extends BaseTest {
+
+	@Test
+	public void evictionByMaxEntriesTestOne() {
+		Collection<String> destroyedItems = ConcurrentHashMap.newKeySet();
+		Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+			1L, item -> item, (path, item) -> destroyedItems.add(path),
+			Cache.EvictionConfig.create().setMaxEntries(2)
+		);
+		Object key = new Object();
+		cache.getOrUploadIfAbsent(key, "/one", () -> "one");
+		cache.getOrUploadIfAbsent(key, "/two", () -> "two");
+		cache.getOrUploadIfAbsent(key, "/one", () -> "one");
+		cache.getOrUploadIfAbsent(key, "/three", () -> "three");
+		assertTrue(destroyedItems.contains("/two"));
+		assertNull(cache.get(key, "/two"));
+		assertTrue(cache.getStatistics().getEvictionCount() == 1);
+		assertTrue(cache.getStatistics().getHitCount() == 1);
+	}
+
+	@Test
+	public void evictionByTimeToIdleTestOne() throws InterruptedException {
+		Collection<String> destroyedItems = ConcurrentHashMap.newKeySet();
+		Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+			1L, item -> item, (path, item) -> destroyedItems.add(path),
+			Cache.EvictionConfig.create().setTimeToIdle(100)
+		);
+		Object key = new Object();
+		cache.getOrUploadIfAbsent(key, "/one", () -> "one");
+		Thread.sleep(250);
+		assertNull(cache.get(key, "/one"));
+		assertTrue(destroyedItems.contains("/one"));
+	}
+
+	@Test
+	public void getWithoutSupplierIsNotAMissTestOne() {
+		Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+			1L, item -> item, null, Cache.EvictionConfig.create().setMaxEntries(2)
+		);
+		Object key = new Object();
+		assertNull(cache.get(key, "/one"));
+		cache.getOrUploadIfAbsent(key, "/one", () -> "one");
+		cache.get(key, "/one");
+		assertTrue(cache.getStatistics().getMissCount() == 1);
+		assertTrue(cache.getStatistics().getHitCount() == 1);
+	}
+
+	@Test
+	public void evictionByMaxEntriesTestTwo() throws InterruptedException {
+		int maxEntries = 8;
+		int pathsCount = 512;
+		Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+			1L, item -> item, null, Cache.EvictionConfig.create().setMaxEntries(maxEntries)
+		);
+		Object key = new Object();
+		Collection<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			int threadIndex = i;
+			Thread thread = new Thread(() -> {
+				for (int j = 0; j < pathsCount; j++) {
+					String path = "/" + ((j * 7 + threadIndex) % pathsCount);
+					cache.getOrUploadIfAbsent(key, path, () -> path);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		int loadedItemsCount = 0;
+		for (int i = 0; i < pathsCount; i++) {
+			if (cache.get(key, "/" + i) != null) {
+				loadedItemsCount++;
+			}
+		}
+		//Every item left in the cache must be still tracked by the evictor
+		assertTrue(loadedItemsCount <= maxEntries);
+	}
+
+	@Test
+	public void frequencyBasedAdmissionTestOne() {
+		Collection<String> destroyedItems = ConcurrentHashMap.newKeySet();
+		Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+			1L, item -> item, (path, item) -> destroyedItems.add(path),
+			Cache.EvictionConfig.create().setMaxEntries(1).setFrequencyBasedAdmission(true)
+		);
+		Object key = new Object();
+		cache.getOrUploadIfAbsent(key, "/one", () -> "one");
+		for (int i = 0; i < 3; i++) {
+			cache.get(key, "/one");
+		}
+		//The new item is less frequently used than the one it would replace: it is released like an evicted one
+		assertNull(cache.getOrUploadIfAbsent(key, "/two", () -> "two"));
+		assertTrue(destroyedItems.contains("/two"));
+		assertTrue(cache.get(key, "/one") != null);
+	}
+
+	@Test
+	public void toWeightTestOne() {
+		testDoesNotThrow(() -> {
+			Cache cache = org.burningwave.core.assembler.StaticComponentContainer.Cache;
+			assertEquals(8L, (long)Methods.invokeDirect(cache, "toWeight", "8"));
+			assertEquals(64L, (long)Methods.invokeDirect(cache, "toWeight", "64"));
+			assertEquals(2048L, (long)Methods.invokeDirect(cache, "toWeight", "2KB"));
+			assertEquals(3L * 1024 * 1024, (long)Methods.invokeDirect(cache, "toWeight", "3mb"));
+		});
+	}
+
+}
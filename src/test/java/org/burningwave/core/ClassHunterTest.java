@@ -1,22 +1,38 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.burningwave.core.assembler.ComponentContainer;
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
+import org.burningwave.core.bean.PojoInterface;
 import org.burningwave.core.classes.ClassCriteria;
 import org.burningwave.core.classes.ClassHunter;
+import org.burningwave.core.classes.ClassPathScanner;
 import org.burningwave.core.classes.ConstructorCriteria;
+import org.burningwave.core.classes.JavaClass;
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.classes.PathScannerClassLoader;
 import org.burningwave.core.classes.SearchConfig;
@@ -1437,6 +1453,305 @@ public class ClassHunterTest extends BaseTest {
 		}, true);
 	}
 
+	@Test
+	public void findByJavaClassTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+				).by(
+					ClassCriteria.create().byJavaClass(javaClass ->
+						javaClass.getInterfaceNames().contains(Serializable.class.getName())
+					).and().className(className ->
+						className.startsWith("org.springframework.core")
+					)
+				)
+			),
+			(result) -> {
+				for (Class<?> cls : result.getClasses()) {
+					assertTrue(Serializable.class.isAssignableFrom(cls));
+				}
+				return result.getClasses();
+			}
+		);
+	}
+
+	@Test
+	public void findByJavaClassTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+				).by(
+					ClassCriteria.create().byJavaClass(javaClass -> {
+						//The classes for which the predicate fails are skipped without aborting the search
+						if (javaClass.getName().startsWith("org.springframework.core.io")) {
+							throw new IllegalStateException("Test exception for " + javaClass.getName());
+						}
+						return javaClass.getName().startsWith("org.springframework.core");
+					})
+				)
+			),
+			(result) -> {
+				for (Class<?> cls : result.getClasses()) {
+					assertTrue(!cls.getName().startsWith("org.springframework.core.io"));
+				}
+				return result.getClasses();
+			}
+		);
+	}
+
+	@Test
+	public void findByJavaClassWithPersistentIndexTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String jarAbsolutePath = componentSupplier.getPathHelper().getAbsolutePathOfResource(
+			"../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+		);
+		Map<String, Object> config = new HashMap<>();
+		config.put(ClassPathScanner.Configuration.Key.PERSISTENT_INDEX_ENABLED, true);
+		config.put(
+			ClassPathScanner.Configuration.Key.PERSISTENT_INDEX_FOLDER,
+			FileSystemHelper.getOrCreateTemporaryFolder("class-path-index").getAbsolutePath()
+		);
+		Supplier<Collection<String>> finder = () -> {
+			try (
+				ComponentSupplier componentContainer = ComponentContainer.create(config);
+				ClassHunter.SearchResult result = componentContainer.getClassHunter().findBy(
+					SearchConfig.forPaths(jarAbsolutePath).by(
+						ClassCriteria.create().byJavaClass(javaClass ->
+							javaClass.getInterfaceNames().contains(Serializable.class.getName())
+						)
+					)
+				)
+			) {
+				Collection<String> classNames = new ArrayList<>();
+				for (Class<?> cls : result.getClasses()) {
+					classNames.add(cls.getName());
+				}
+				return classNames;
+			}
+		};
+		testNotEmpty(() -> {
+			//The first search builds the index, the second one reads it from disk
+			Collection<String> classNamesFoundWithoutIndex = finder.get();
+			Collection<String> classNamesFoundWithIndex = finder.get();
+			assertEquals(classNamesFoundWithoutIndex.size(), classNamesFoundWithIndex.size());
+			assertTrue(classNamesFoundWithIndex.containsAll(classNamesFoundWithoutIndex));
+			return classNamesFoundWithIndex;
+		});
+	}
+
+	@Test
+	public void findByJavaClassWithPersistentIndexTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String jarAbsolutePath = componentSupplier.getPathHelper().getAbsolutePathOfResource(
+			"../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+		);
+		File indexFolder = new File(FileSystemHelper.getOrCreateTemporaryFolder("class-path-index-two").getAbsolutePath());
+		Map<String, Object> config = new HashMap<>();
+		config.put(ClassPathScanner.Configuration.Key.PERSISTENT_INDEX_ENABLED, true);
+		config.put(ClassPathScanner.Configuration.Key.PERSISTENT_INDEX_FOLDER, indexFolder.getAbsolutePath());
+		config.put(ClassPathScanner.Configuration.Key.PERSISTENT_INDEX_MAX_LOADED_CONTAINERS, 1);
+		Supplier<Collection<String>> finder = () -> {
+			try (
+				ComponentSupplier componentContainer = ComponentContainer.create(config);
+				ClassHunter.SearchResult result = componentContainer.getClassHunter().findBy(
+					SearchConfig.forPaths(jarAbsolutePath).by(
+						ClassCriteria.create().byJavaClass(javaClass ->
+							javaClass.getInterfaceNames().contains(Serializable.class.getName())
+						)
+					)
+				)
+			) {
+				Collection<String> classNames = new ArrayList<>();
+				for (Class<?> cls : result.getClasses()) {
+					classNames.add(cls.getName());
+				}
+				return classNames;
+			}
+		};
+		testNotEmpty(() -> {
+			Collection<String> classNamesFoundWithoutIndex = finder.get();
+			File[] indexFiles = indexFolder.listFiles((folder, name) -> name.endsWith(".index"));
+			assertTrue(indexFiles != null && indexFiles.length > 0);
+			//An index file that is not written in the index format (here a Java serialization stream header) is
+			//ignored and rebuilt
+			for (File indexFile : indexFiles) {
+				Files.write(indexFile.toPath(), new byte[] {(byte)0xAC, (byte)0xED, 0x00, 0x05, 0x73, 0x72});
+			}
+			Collection<String> classNamesFoundWithRebuiltIndex = finder.get();
+			assertEquals(classNamesFoundWithoutIndex.size(), classNamesFoundWithRebuiltIndex.size());
+			assertTrue(classNamesFoundWithRebuiltIndex.containsAll(classNamesFoundWithoutIndex));
+			for (File indexFile : indexFolder.listFiles((folder, name) -> name.endsWith(".index"))) {
+				try (DataInputStream inputStream = new DataInputStream(new FileInputStream(indexFile))) {
+					assertEquals(0x42574349, inputStream.readInt());
+				}
+			}
+			return classNamesFoundWithRebuiltIndex;
+		});
+	}
+
+	@Test
+	public void findByWatchingFoldersTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String folderAbsolutePath = FileSystemHelper.createTemporaryFolder("watched-class-path").getAbsolutePath();
+		JavaClass complexJavaClass = JavaClass.create(Complex.class);
+		complexJavaClass.storeToClassPath(folderAbsolutePath);
+		Supplier<Collection<String>> classNamesFinder = () -> {
+			try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders()
+			)) {
+				return result.getClasses().stream().map(Class::getName).collect(Collectors.toSet());
+			}
+		};
+		testNotEmpty(() -> {
+			assertTrue(classNamesFinder.get().contains(Complex.class.getName()));
+			//The changes are visible to the searches as soon as their events are delivered
+			JavaClass.create(PojoInterface.class).storeToClassPath(folderAbsolutePath);
+			assertTrue(
+				waitFor(classNamesFinder, classNames -> classNames.contains(PojoInterface.class.getName()))
+			);
+			new File(folderAbsolutePath + "/" + complexJavaClass.getPath()).delete();
+			assertTrue(
+				waitFor(classNamesFinder, classNames -> !classNames.contains(Complex.class.getName()))
+			);
+			return classNamesFinder.get();
+		});
+	}
+
+	//The file system events are notified asynchronously by the WatchService
+	private boolean waitFor(Supplier<Collection<String>> classNamesFinder, Predicate<Collection<String>> condition) throws InterruptedException {
+		long timeLimit = System.currentTimeMillis() + 30000;
+		while (!condition.test(classNamesFinder.get())) {
+			if (System.currentTimeMillis() > timeLimit) {
+				return false;
+			}
+			Thread.sleep(250);
+		}
+		return true;
+	}
+
+	@Test
+	public void findByWatchingFoldersTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String folderAbsolutePath = FileSystemHelper.createTemporaryFolder("watched-class-path-two").getAbsolutePath();
+		JavaClass complexJavaClass = JavaClass.create(Complex.class);
+		complexJavaClass.storeToClassPath(folderAbsolutePath);
+		Supplier<Collection<String>> classNamesFinder = () -> {
+			try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders()
+			)) {
+				return getClassNames(result);
+			}
+		};
+		testNotEmpty(() -> {
+			//The changes drained by a search must reach also the live searches made with other class loaders
+			try (
+				ClassHunter.SearchResult resultOne = componentSupplier.getClassHunter().findBy(
+					SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders()
+				);
+				ClassHunter.SearchResult resultTwo = componentSupplier.getClassHunter().findBy(
+					SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders().useNewIsolatedClassLoader()
+				)
+			) {
+				assertTrue(getClassNames(resultOne).contains(Complex.class.getName()));
+				assertTrue(getClassNames(resultTwo).contains(Complex.class.getName()));
+				new File(folderAbsolutePath + "/" + complexJavaClass.getPath()).delete();
+				assertTrue(
+					waitFor(classNamesFinder, classNames -> !classNames.contains(Complex.class.getName()))
+				);
+				assertTrue(!getClassNames(resultOne).contains(Complex.class.getName()));
+				assertTrue(!getClassNames(resultTwo).contains(Complex.class.getName()));
+			}
+			complexJavaClass.storeToClassPath(folderAbsolutePath);
+			assertTrue(
+				waitFor(classNamesFinder, classNames -> classNames.contains(Complex.class.getName()))
+			);
+			return classNamesFinder.get();
+		});
+	}
+
+	@Test
+	public void findByWatchingFoldersTestThree() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String folderAbsolutePath = FileSystemHelper.createTemporaryFolder("watched-class-path-three").getAbsolutePath();
+		JavaClass complexJavaClass = JavaClass.create(Complex.class);
+		complexJavaClass.storeToClassPath(folderAbsolutePath);
+		String complexClassFileAbsolutePath = folderAbsolutePath + "/" + complexJavaClass.getPath();
+		PathScannerClassLoader classLoader = PathScannerClassLoader.create(
+			componentSupplier.getPathScannerClassLoader(),
+			componentSupplier.getPathHelper(),
+			FileSystemItem.Criteria.forClassTypeFiles(FileSystemItem.CheckingOption.FOR_NAME)
+		);
+		classLoader.register(this);
+		//No class is loaded so the byte code found remains in the not loaded ones
+		Supplier<Collection<String>> classNamesFinder = () -> {
+			try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders()
+				.by(ClassCriteria.create().byJavaClass(javaClass -> false)).useClassLoader(classLoader)
+			)) {
+				return getClassNames(result);
+			}
+		};
+		try {
+			testDoesNotThrow(() -> {
+				classNamesFinder.get();
+				assertTrue(classLoader.getByteCodeOf(Complex.class.getName()) != null);
+				new File(complexClassFileAbsolutePath).delete();
+				//The content of the deleted file is evicted from the cache
+				FileSystemItem.ofPath(complexClassFileAbsolutePath).reset();
+				assertTrue(
+					waitFor(classNamesFinder, classNames -> classLoader.getByteCodeOf(Complex.class.getName()) == null)
+				);
+			});
+		} finally {
+			classLoader.unregister(this, true);
+		}
+	}
+
+	@Test
+	public void findByWatchingFoldersTestFour() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String folderAbsolutePath = FileSystemHelper.createTemporaryFolder("watched-class-path-four").getAbsolutePath();
+		JavaClass.create(Complex.class).storeToClassPath(folderAbsolutePath);
+		Supplier<Collection<String>> classNamesFinder = () -> {
+			try (ClassHunter.SearchResult result = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders()
+			)) {
+				return getClassNames(result);
+			}
+		};
+		testNotEmpty(() -> {
+			//The live searches must receive the added and the modified classes and not only the deleted ones
+			try (ClassHunter.SearchResult liveResult = componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(folderAbsolutePath).checkForAddedClassesByWatchingFolders()
+				.by(ClassCriteria.create().allThoseThatMatch(cls -> cls.isInterface()))
+			)) {
+				assertTrue(getClassNames(liveResult).isEmpty());
+				JavaClass pojoInterfaceJavaClass = JavaClass.create(PojoInterface.class);
+				pojoInterfaceJavaClass.storeToClassPath(folderAbsolutePath);
+				assertTrue(
+					waitFor(classNamesFinder, classNames -> classNames.contains(PojoInterface.class.getName()))
+				);
+				assertTrue(getClassNames(liveResult).contains(PojoInterface.class.getName()));
+				assertTrue(!getClassNames(liveResult).contains(Complex.class.getName()));
+				//A modified class replaces the item previously found
+				pojoInterfaceJavaClass.storeToClassPath(folderAbsolutePath);
+				assertTrue(
+					waitFor(classNamesFinder, classNames -> classNames.contains(PojoInterface.class.getName()))
+				);
+				assertTrue(getClassNames(liveResult).contains(PojoInterface.class.getName()));
+				return getClassNames(liveResult);
+			}
+		});
+	}
+
+	private Collection<String> getClassNames(ClassHunter.SearchResult result) {
+		return result.getClasses().stream().map(Class::getName).collect(Collectors.toSet());
+	}
+
 	@Test
 	public void findAllAnnotatedClassesWithoutDefaultConstructor() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
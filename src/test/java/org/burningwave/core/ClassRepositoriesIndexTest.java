@@ -0,0 +1,139 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.burningwave.core.bean.Complex;
+import org.burningwave.core.bean.PojoInterface;
+import org.burningwave.core.classes.JavaClass;
+import org.junit.jupiter.api.Test;
+
+public class ClassRepositoriesIndexTest extends BaseTest {
+
+	@Test
+	public void findTestOne() {
+		testDoesNotThrow(() -> {
+			String classRepository = createClassRepository("class-repositories-index-one");
+			JavaClass.create(Complex.class).storeToClassPath(classRepository + "/classes");
+			Object index = createIndex();
+			try {
+				Collection<String> classRepositories = Arrays.asList(classRepository);
+				assertTrue(findClassPathsForClassName(index, classRepositories, Complex.class.getName()).contains(classRepository + "/classes"));
+				Collection<String> classPaths = Methods.invokeDirect(index, "findClassPathsForClassSimpleName", classRepositories, Complex.class.getSimpleName());
+				assertTrue(classPaths.contains(classRepository + "/classes"));
+				classPaths = Methods.invokeDirect(index, "findClassPathsForPackageName", classRepositories, Complex.class.getPackage().getName());
+				assertTrue(classPaths.contains(classRepository + "/classes"));
+				String className = Methods.invokeDirect(index, "findAClassNameOfPackage", classRepositories, Complex.class.getPackage().getName());
+				assertEquals(Complex.class.getName(), className);
+			} finally {
+				Methods.invokeDirect(index, "close");
+			}
+		});
+	}
+
+	@Test
+	public void findTestTwo() {
+		testDoesNotThrow(() -> {
+			String classRepository = createClassRepository("class-repositories-index-two");
+			String otherClassRepository = createClassRepository("class-repositories-index-two-other");
+			JavaClass.create(Complex.class).storeToClassPath(classRepository + "/classes");
+			JavaClass.create(PojoInterface.class).storeToClassPath(otherClassRepository + "/classes");
+			Object index = createIndex();
+			try {
+				Collection<String> classRepositories = Arrays.asList(classRepository, otherClassRepository);
+				assertTrue(findClassPathsForClassName(index, classRepositories, "org.burningwave.NotExistingClass").isEmpty());
+				String className = Methods.invokeDirect(index, "findAClassNameOfPackage", classRepositories, "org.burningwave.notexisting");
+				assertNull(className);
+				//The search stops at the first repository that contains the class, so the other one is not indexed
+				Object otherIndex = createIndex();
+				try {
+					assertTrue(findClassPathsForClassName(otherIndex, classRepositories, Complex.class.getName()).contains(classRepository + "/classes"));
+					Map<String, ?> indexedRepositories = Fields.getDirect(otherIndex, "repositories");
+					assertTrue(indexedRepositories.containsKey(classRepository));
+					assertFalse(indexedRepositories.containsKey(otherClassRepository));
+				} finally {
+					Methods.invokeDirect(otherIndex, "close");
+				}
+			} finally {
+				Methods.invokeDirect(index, "close");
+			}
+		});
+	}
+
+	@Test
+	public void invalidateTestOne() {
+		testDoesNotThrow(() -> {
+			String classRepository = createClassRepository("class-repositories-index-three");
+			String otherClassRepository = createClassRepository("class-repositories-index-three-other");
+			JavaClass.create(Complex.class).storeToClassPath(classRepository + "/classes");
+			JavaClass.create(PojoInterface.class).storeToClassPath(otherClassRepository + "/classes");
+			Object index = createIndex();
+			try {
+				Collection<String> classRepositories = Arrays.asList(classRepository);
+				Collection<String> otherClassRepositories = Arrays.asList(otherClassRepository);
+				assertTrue(findClassPathsForClassName(index, classRepositories, Complex.class.getName()).contains(classRepository + "/classes"));
+				assertTrue(findClassPathsForClassName(index, otherClassRepositories, PojoInterface.class.getName()).contains(otherClassRepository + "/classes"));
+				//A class stored after the indexing is not found until its repository is invalidated
+				JavaClass.create(PojoInterface.class).storeToClassPath(classRepository + "/other-classes");
+				assertTrue(findClassPathsForClassName(index, classRepositories, PojoInterface.class.getName()).isEmpty());
+				Methods.invokeDirect(index, "invalidate", Arrays.asList(classRepository + "/other-classes"));
+				Map<String, ?> indexedRepositories = Fields.getDirect(index, "repositories");
+				assertFalse(indexedRepositories.containsKey(classRepository));
+				assertTrue(indexedRepositories.containsKey(otherClassRepository));
+				assertTrue(findClassPathsForClassName(index, classRepositories, PojoInterface.class.getName()).contains(classRepository + "/other-classes"));
+			} finally {
+				Methods.invokeDirect(index, "close");
+			}
+		});
+	}
+
+	@Test
+	public void addToIndexedRepositoriesTestOne() {
+		testDoesNotThrow(() -> {
+			String classRepository = createClassRepository("class-repositories-index-four");
+			JavaClass.create(Complex.class).storeToClassPath(classRepository + "/classes");
+			Object index = createIndex();
+			try {
+				Collection<String> classRepositories = Arrays.asList(classRepository);
+				assertTrue(findClassPathsForClassName(index, classRepositories, Complex.class.getName()).contains(classRepository + "/classes"));
+				Map<String, ?> indexedRepositories = Fields.getDirect(index, "repositories");
+				Object repository = indexedRepositories.get(classRepository);
+				//A class found by a full search is added to the indexed repository without indexing it again
+				JavaClass.create(PojoInterface.class).storeToClassPath(classRepository + "/other-classes");
+				Methods.invokeDirect(index, "addToIndexedRepositories", classRepository + "/other-classes", Arrays.asList(PojoInterface.class.getName()));
+				assertTrue(repository == indexedRepositories.get(classRepository));
+				assertTrue(findClassPathsForClassName(index, classRepositories, PojoInterface.class.getName()).contains(classRepository + "/other-classes"));
+				assertTrue(findClassPathsForClassName(index, classRepositories, Complex.class.getName()).contains(classRepository + "/classes"));
+			} finally {
+				Methods.invokeDirect(index, "close");
+			}
+		});
+	}
+
+	private String createClassRepository(String name) {
+		String classRepository = Paths.clean(FileSystemHelper.createTemporaryFolder(name).getAbsolutePath());
+		FileSystemHelper.delete(classRepository);
+		return classRepository;
+	}
+
+	private Object createIndex() throws ClassNotFoundException {
+		return Methods.invokeStaticDirect(
+			Class.forName("org.burningwave.core.classes.ClassRepositoriesIndex"), "create", getComponentSupplier().getClassPathHelper()
+		);
+	}
+
+	private Collection<String> findClassPathsForClassName(Object index, Collection<String> classRepositories, String className) {
+		return Methods.invokeDirect(index, "findClassPathsForClassName", classRepositories, className);
+	}
+
+}
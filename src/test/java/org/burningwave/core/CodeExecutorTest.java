@@ -1,10 +1,17 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.CodeExecutor;
 import org.burningwave.core.classes.ExecuteConfig;
 import org.burningwave.core.classes.MemoryClassLoader;
 import org.junit.jupiter.api.Test;
@@ -30,6 +37,61 @@ public class CodeExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void executeCodeTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Class<?> executorClass = componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forBodySourceGenerator()
+				.addCodeLine("return getClass();")
+			);
+			return componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forBodySourceGenerator()
+				.addCodeLine("return getClass();")
+			) == executorClass ? executorClass : null;
+		});
+	}
+
+	@Test
+	public void executeCodeWithBoundedCacheTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>(GlobalProperties);
+			config.put(CodeExecutor.Configuration.Key.COMPILED_CLASSES_CACHE_MAX_SIZE, 1);
+			CodeExecutor codeExecutor = CodeExecutor.create(
+				componentSupplier::getClassFactory, componentSupplier.getPathHelper(), config
+			);
+			try {
+				ClassLoader parentClassLoader = Thread.currentThread().getContextClassLoader();
+				Class<?> executorClass = codeExecutor.execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+					.useAsParentClassLoader(parentClassLoader)
+				);
+				assertSame(executorClass, codeExecutor.execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+					.useAsParentClassLoader(parentClassLoader)
+				));
+				try (MemoryClassLoader otherParentClassLoader = MemoryClassLoader.create(parentClassLoader)) {
+					//The same code with another parent class loader is compiled again and evicts the cached class
+					assertNotSame(executorClass, codeExecutor.execute(
+						ExecuteConfig.forBodySourceGenerator()
+						.addCodeLine("return getClass();")
+						.useAsParentClassLoader(otherParentClassLoader)
+					));
+				}
+				assertNotSame(executorClass, codeExecutor.execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+					.useAsParentClassLoader(parentClassLoader)
+				));
+			} finally {
+				((Component)codeExecutor).close();
+			}
+		});
+	}
+
 	@Test
 	public void executeCodeOfPropertiesFileTest() throws Exception {
 		ComponentSupplier componentSupplier = getComponentSupplier();
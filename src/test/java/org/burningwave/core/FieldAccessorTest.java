@@ -1,8 +1,12 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ByFieldOrByMethodPropertyAccessor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -13,6 +17,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.burningwave.core.bean.Complex;
+import org.burningwave.core.classes.FieldAccessor;
 import org.junit.jupiter.api.Test;
 
 public class FieldAccessorTest extends BaseTest {
@@ -24,6 +29,60 @@ public class FieldAccessorTest extends BaseTest {
 		assertNotNull(ByFieldOrByMethodPropertyAccessor.get(complex, "data.itemsMap[items][1][1].name"));
 	}
 
+	@Test
+	public void getTestTwo() {
+		Complex complex = new Complex();
+		FieldAccessor.CompiledPath path = ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.itemsMap[items][1][1].name");
+		assertEquals((Object)ByFieldOrByMethodPropertyAccessor.get(complex, "data.itemsMap[items][1][1].name"), path.get(complex));
+		assertEquals((Object)path.get(complex), path.get(new Complex()));
+	}
+
+	@Test
+	public void getTestThree() {
+		Complex complex = new Complex();
+		FieldAccessor.CompiledPath path = ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[first][1].name");
+		Exception exception = assertThrows(Exception.class, () -> path.get(complex));
+		assertFalse(exception instanceof NullPointerException);
+		assertTrue(exception.getMessage().contains("data.items[first]"));
+	}
+
+	@Test
+	public void getTestFour() {
+		Complex complex = new Complex();
+		//The list is null
+		FieldAccessor.CompiledPath path = ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.itemsList[0].name");
+		Exception exception = assertThrows(Exception.class, () -> path.get(complex));
+		assertFalse(exception instanceof NullPointerException);
+		assertTrue(exception.getMessage().contains("data.itemsList is null"));
+		complex.setData(null);
+		FieldAccessor.CompiledPath otherPath = ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[0][1].name");
+		exception = assertThrows(Exception.class, () -> otherPath.get(complex));
+		assertFalse(exception instanceof NullPointerException);
+		assertTrue(exception.getMessage().contains("data is null"));
+	}
+
+	@Test
+	public void getTestFive() {
+		//Each item is of a different class: the accessors beyond the inline cache are taken from the map
+		Complex.Data.Item[] items = new Complex.Data.Item[] {
+			new Complex.Data.Item("zero"),
+			new Complex.Data.Item("one") {},
+			new Complex.Data.Item("two") {},
+			new Complex.Data.Item("three") {},
+			new Complex.Data.Item("four") {},
+			new Complex.Data.Item("five") {}
+		};
+		FieldAccessor.CompiledPath path = ByFieldOrByMethodPropertyAccessor.compile(null, "name");
+		for (int i = 0; i < 2; i++) {
+			for (Complex.Data.Item item : items) {
+				assertEquals(item.getName(), (Object)path.get(item));
+			}
+		}
+		Object segment = ((Object[])Fields.getDirect(path, "segments"))[0];
+		assertEquals(4, ((Object[])Fields.getDirect(segment, "inlineCache")).length);
+		assertEquals(2, ((Map<?, ?>)Fields.getDirect(segment, "accessors")).size());
+	}
+
 	@Test
 	public void setTestOne() {
 		Complex complex = new Complex();
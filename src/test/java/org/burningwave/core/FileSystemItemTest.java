@@ -60,6 +60,33 @@ public class FileSystemItemTest extends BaseTest {
 	}
 
 
+	@Test
+	public void getSignatureTestOne() {
+		testNotNull(() -> {
+				ComponentSupplier componentSupplier = getComponentSupplier();
+				FileSystemItem fIS = componentSupplier.getPathHelper().getResource(
+					"/../../src/test/external-resources/libs-for-test.zip"
+				).reset();
+				Integer signature = fIS.getSignature();
+				return StaticComponentContainer.Streams.isArchive(signature) &&
+					StaticComponentContainer.Cache.pathForContents.get(fIS.getAbsolutePath()) == null ? signature : null;
+			}
+		);
+	}
+
+	@Test
+	public void getSignatureTestTwo() {
+		testNotNull(() -> {
+				ComponentSupplier componentSupplier = getComponentSupplier();
+				Integer signature = componentSupplier.getPathHelper().getResource(
+					"/../../src/test/external-resources/libs-for-test.zip/ESC-Lib.ear/APP-INF/lib/bcel-5.1.jar/org/apache/bcel/generic/MethodGen$BranchTarget.class"
+				).getSignature();
+				return StaticComponentContainer.Streams.isClass(signature) ? signature : null;
+			}
+		);
+	}
+
+
 	@Test
 	public void readTestTwo() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
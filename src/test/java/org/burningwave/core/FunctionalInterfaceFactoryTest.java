@@ -3,12 +3,16 @@ package org.burningwave.core;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
 import java.util.function.Supplier;
 
 import org.burningwave.core.assembler.ComponentSupplier;
@@ -256,4 +260,33 @@ public class FunctionalInterfaceFactoryTest extends BaseTest {
 			service.printName();
 		});
 	}
+
+	@Test
+	public void getOrBuildPrimitiveSpecializedClassTestOne() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			IntBinaryOperator virtualObj = componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(Service.class, "staticSum", int.class, int.class);
+			return virtualObj.applyAsInt(1, 2) == 3 ? virtualObj : null;
+		});
+	}
+
+	@Test
+	public void getOrBuildPrimitiveSpecializedClassTestTwo() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			MultiParamsFunction<Integer> virtualObj = componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(Service.class, "compute", long.class, double.class);
+			Class<?> functionalInterface = null;
+			for (Class<?> implementedInterface : virtualObj.getClass().getInterfaces()) {
+				if (implementedInterface.getSimpleName().startsWith("FunctionFor")) {
+					functionalInterface = implementedInterface;
+				}
+			}
+			//The primitive method of the generated interface is invoked without passing through the boxing varargs method
+			MethodHandle primitiveMethod = MethodHandles.publicLookup().findVirtual(
+				functionalInterface, "apply", MethodType.methodType(int.class, Object.class, long.class, double.class)
+			).asType(MethodType.methodType(int.class, Object.class, Object.class, long.class, double.class));
+			int result = (int)primitiveMethod.invokeExact((Object)virtualObj, (Object)new Service(), 2L, 1.5D);
+			return result == 3 && virtualObj.apply(new Service(), 2L, 1.5D) == 3 ? virtualObj : null;
+		});
+	}
 }
@@ -1,6 +1,7 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -147,6 +148,66 @@ public class IterableObjectHelperTest extends BaseTest {
 //		);
 	}
 	
+	@Test
+	public void iterateParallelTestFour() {
+		Collection<Integer> input = IntStream.rangeClosed(1, 1000000).boxed().collect(Collectors.toList());
+		testNotEmpty(() -> {
+			return IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(input)
+				.parallelIf(inputColl -> inputColl.size() > 2)
+				.withOutput(new ArrayList<Integer>())
+				.withAction((number, outputCollectionSupplier) -> {
+					if ((number % 2) == 0) {
+						outputCollectionSupplier.accept(outputCollection ->
+							outputCollection.add(number)
+						);
+					}
+				}).forkJoinBased()
+			);
+		}, false);
+	}
+
+	@Test
+	public void iterateParallelTestFive() {
+		Collection<Integer> input = IntStream.rangeClosed(1, 1000000).boxed().collect(Collectors.toList());
+		testNotNull(() -> {
+			Collection<Integer> output = IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(input)
+				.parallelIf(inputColl -> inputColl.size() > 2)
+				.withOutput(new HashSet<Integer>())
+				.withAction((number, outputCollectionSupplier) -> {
+					if (number == 1000) {
+						IterableObjectHelper.terminateIteration();
+					}
+					outputCollectionSupplier.accept(outputCollection ->
+						outputCollection.add(number)
+					);
+				}).forkJoinBased()
+			);
+			return output.size() < input.size() ? output : null;
+		});
+	}
+
+	@Test
+	public void iterateParallelTestSix() {
+		Collection<Integer> input = IntStream.rangeClosed(1, 100000).boxed().collect(Collectors.toList());
+		assertThrows(IllegalStateException.class, () ->
+			IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(input)
+				.parallelIf(inputColl -> inputColl.size() > 2)
+				.withOutput(new HashSet<Integer>())
+				.withAction((number, outputCollectionSupplier) -> {
+					if (number == 50000) {
+						throw new IllegalStateException("Test exception on item " + number);
+					}
+					outputCollectionSupplier.accept(outputCollection ->
+						outputCollection.add(number)
+					);
+				}).forkJoinBased()
+			)
+		);
+	}
+
 	@Test
 	public void resolveTestThree() {
 		testNotNull(() -> {
@@ -161,6 +222,20 @@ public class IterableObjectHelperTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void resolveTestFour() {
+		testNotNull(() -> {
+			Properties properties = new Properties();
+			properties.put("path-01", "${path-02}/lib");
+			properties.put("path-02", "${path-03}/home");
+			properties.put("path-03", "/old");
+			String oldValue = properties.resolveStringValue("path-01");
+			properties.put("path-03", "/new");
+			String newValue = properties.resolveStringValue("path-01");
+			return "/old/home/lib".equals(oldValue) && "/new/home/lib".equals(newValue) ? newValue : null;
+		});
+	}
+
 	@Test
 	public void containsTestOne() {
 		testNotNull(() -> {
@@ -1,6 +1,16 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.io.ByteBufferInputStream;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
 import org.junit.jupiter.api.Test;
@@ -34,4 +44,65 @@ public class IterableZipContainerTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void findAllTestOne() {
+		testNotEmpty(() ->{
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			FileSystemItem fIS = componentSupplier.getPathHelper().getResource(
+				"/../../src/test/external-resources/libs-for-test.zip/ESC-Lib.ear/APP-INF/lib/bcel-5.1.jar"
+			);
+			fIS.reset();
+			ByteBuffer content = fIS.toByteBuffer();
+			Collection<IterableZipContainer.Entry> entries;
+			try (IterableZipContainer zip = IterableZipContainer.create(fIS.getAbsolutePath(), content)) {
+				entries = zip.findAll(ArrayList::new, entry -> !entry.isDirectory(), entry -> true);
+			}
+			int entryCount = 0;
+			try (ZipInputStream zipInputStream = new ZipInputStream(new ByteBufferInputStream(content))) {
+				ZipEntry zipEntry;
+				while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+					if (zipEntry.isDirectory()) {
+						continue;
+					}
+					String entryName = zipEntry.getName();
+					IterableZipContainer.Entry entry = entries.stream().filter(
+						iterableZipContainerEntry -> iterableZipContainerEntry.getName().equals(entryName)
+					).findFirst().get();
+					if (!Arrays.equals(Streams.toByteArray(zipInputStream), entry.toByteArray())) {
+						throw new IllegalStateException("Content of " + entryName + " does not match");
+					}
+					entryCount++;
+				}
+			}
+			if (entryCount != entries.size()) {
+				throw new IllegalStateException("Found " + entries.size() + " entries instead of " + entryCount);
+			}
+			return entries;
+		});
+	}
+
+	@Test
+	public void findChildrenNamesTestOne() {
+		testNotEmpty(() ->{
+			ComponentSupplier componentSupplier = getComponentSupplier();
+			FileSystemItem fIS = componentSupplier.getPathHelper().getResource(
+				"/../../src/test/external-resources/libs-for-test.zip/ESC-Lib.ear/APP-INF/lib/bcel-5.1.jar"
+			);
+			fIS.reset();
+			try (IterableZipContainer zip = IterableZipContainer.create(fIS.getAbsolutePath())) {
+				Collection<String> childrenNames = zip.findChildrenNames("org/apache/bcel/");
+				for (String childName : childrenNames) {
+					String relativeName = childName.substring("org/apache/bcel/".length());
+					if (!childName.startsWith("org/apache/bcel/") || relativeName.substring(0, relativeName.length() - 1).contains("/")) {
+						throw new IllegalStateException(childName + " is not a child of org/apache/bcel/");
+					}
+				}
+				if (!zip.findAllChildrenNames("org/apache/bcel/").containsAll(childrenNames)) {
+					throw new IllegalStateException("Children are not contained in all children");
+				}
+				return childrenNames;
+			}
+		});
+	}
+
 }
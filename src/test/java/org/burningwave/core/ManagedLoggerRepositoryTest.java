@@ -19,4 +19,20 @@ public class ManagedLoggerRepositoryTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void asyncWritingLogInfoTest() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.putAll(GlobalProperties);
+			config.put(ManagedLogger.Repository.Configuration.Key.TYPE, SimpleManagedLoggerRepository.class.getName());
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_WRITING_ENABLED, "true");
+			config.put(ManagedLogger.Repository.Configuration.Key.ASYNC_WRITING_BUFFER_SIZE, "2");
+			ManagedLogger.Repository managedLoggerRepository = ManagedLogger.Repository.create(config);
+			for (int i = 0; i < 8; i++) {
+				managedLoggerRepository.logInfo(() -> ManagedLoggerRepositoryTest.class.getName(), "{} {}", "Hello world", i);
+			}
+			managedLoggerRepository.close();
+		});
+	}
+
 }
@@ -1,7 +1,15 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.MethodCriteria;
@@ -251,6 +259,75 @@ public class MethodsTest extends BaseTest {
 		});
 	}
 
+	@Test
+	public void invokeStaticDirectTestTwo() throws Throwable {
+		testDoesNotThrow(() -> {
+			//The target argument is dropped from the cached invoker of a static method
+			for (int i = 0; i < 2; i++) {
+				assertEquals(Integer.valueOf(3), (Integer)Methods.invokeStaticDirect(Service.class, "staticSum", 1, 2));
+			}
+			Object directInvoker = getDirectInvoker(Service.class, "staticSum", Integer.class, Integer.class);
+			assertNotNull(directInvoker);
+			assertNotNull(Fields.getDirect(directInvoker, "invoker"));
+		});
+	}
+
+	@Test
+	public void invokeDirectTestTwo() throws Throwable {
+		testDoesNotThrow(() -> {
+			Service service = new Service();
+			//The invokers are selected on the runtime types of the arguments
+			for (int i = 0; i < 2; i++) {
+				assertEquals("Hello", (String)Methods.invokeDirect(service, "apply", "Hello"));
+				assertEquals(Long.valueOf(1L), (Long)Methods.invokeDirect(service, "apply", 1L));
+			}
+			assertNotNull(getDirectInvoker(Service.class, "apply", String.class));
+			assertNotNull(getDirectInvoker(Service.class, "apply", Long.class));
+		});
+	}
+
+	@Test
+	public void invokeDirectWithVarArgsTestOne() throws Throwable {
+		testDoesNotThrow(() -> {
+			//The variable arity methods are invoked through the generic path
+			for (int i = 0; i < 2; i++) {
+				assertEquals("", (String)Methods.invokeStaticDirect(Service.class, "staticApply", "Hello", "World!", "How are you?", "I'm well"));
+			}
+			Object directInvoker = getDirectInvoker(Service.class, "staticApply", String.class, String.class, String.class, String.class);
+			assertNotNull(directInvoker);
+			assertNull(Fields.getDirect(directInvoker, "invoker"));
+		});
+	}
+
+	@Test
+	public void invokeDirectWithNullArgumentsTestOne() throws Throwable {
+		testDoesNotThrow(() -> {
+			Service service = new Service();
+			//A null array of arguments is invoked through the generic path as a single null argument
+			Methods.invokeDirect(service, "accept", (Object[])null);
+			//A null argument has its own invoker
+			for (int i = 0; i < 2; i++) {
+				assertTrue((Boolean)Methods.invokeDirect(service, "test", null, "Hello", "World!"));
+				assertTrue((Boolean)Methods.invokeDirect(service, "test", service, "Hello", "World!"));
+			}
+			assertNotNull(getDirectInvoker(Service.class, "test", null, String.class, String.class));
+			assertNotNull(getDirectInvoker(Service.class, "test", Service.class, String.class, String.class));
+		});
+	}
+
+	private Object getDirectInvoker(Class<?> targetClass, String methodName, Class<?>... argumentTypes) {
+		ClassValue<Map<String, Object[]>> directInvokers = Fields.getDirect(Methods, "directInvokers");
+		Object[] directInvokersForMethodName = directInvokers.get(targetClass).get(methodName);
+		if (directInvokersForMethodName != null) {
+			for (Object directInvoker : directInvokersForMethodName) {
+				if (Arrays.equals(argumentTypes, (Class<?>[])Fields.getDirect(directInvoker, "argumentTypes"))) {
+					return directInvoker;
+				}
+			}
+		}
+		return null;
+	}
+
 	@Test
 	public void findAllTestOne() {
         testNotEmpty(() ->
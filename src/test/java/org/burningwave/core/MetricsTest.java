@@ -0,0 +1,78 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.burningwave.core.assembler.StaticComponentContainer;
+import org.burningwave.core.iterable.Properties;
+import org.junit.jupiter.api.Test;
+
+
+public class MetricsTest extends BaseTest {
+
+	@Test
+	public void inMemoryMetricsTest() {
+		testNotNull(() -> {
+			Properties config = new Properties();
+			config.putAll(GlobalProperties);
+			config.put(Metrics.Configuration.Key.TYPE, "in-memory");
+			InMemoryMetrics metrics = (InMemoryMetrics)Metrics.create(config);
+			metrics.incrementCounter("test.counter");
+			metrics.incrementCounter("test.counter", 2);
+			metrics.registerGauge("test.gauge", () -> 7L);
+			metrics.startSample("test.sample").stop("target");
+			InMemoryMetrics.Distribution distribution = metrics.getDistribution("test.sample");
+			boolean checked = metrics.getCounter("test.counter") == 3 &&
+				metrics.getGauge("test.gauge") == 7L &&
+				distribution != null && distribution.getCount() == 1;
+			metrics.close();
+			return checked ? distribution : null;
+		});
+	}
+
+	@Test
+	public void noOpMetricsTest() {
+		testNotNull(() -> {
+			Properties config = new Properties();
+			config.putAll(GlobalProperties);
+			config.put(Metrics.Configuration.Key.TYPE, "none");
+			Metrics metrics = Metrics.create(config);
+			metrics.incrementCounter("test.counter");
+			metrics.startSample("test.sample").stop();
+			return !metrics.isEnabled() ? metrics : null;
+		});
+	}
+
+	@Test
+	public void instrumentedComponentsTest() {
+		testDoesNotThrow(() -> {
+			//The gauges of the Cache have been registered on the registry that is replaced here
+			GlobalProperties.put(Metrics.Configuration.Key.TYPE, "in-memory");
+			try {
+				InMemoryMetrics metrics = (InMemoryMetrics)StaticComponentContainer.Metrics;
+				String hitCountGaugeName = org.burningwave.core.Cache.Configuration.Key.PREFIX + org.burningwave.core.Cache.Configuration.Key.PATH_FOR_CONTENTS + ".hit-count";
+				Long initialHitCount = metrics.getGauge(hitCountGaugeName);
+				assertNotNull(initialHitCount);
+				String path = "/metrics-test/content";
+				Cache.pathForContents.getOrUploadIfAbsent(path, () -> ByteBuffer.allocate(1));
+				Cache.pathForContents.get(path);
+				Cache.pathForContents.remove(path, false);
+				assertTrue(metrics.getGauge(hitCountGaugeName) > initialHitCount);
+				BackgroundExecutor.createTask(task -> {}).submit().waitForFinish();
+				assertTrue(
+					metrics.getSnapshot().keySet().stream().anyMatch(name ->
+						name.startsWith("queued-task-executor.") && name.endsWith(".task-waiting-time")
+					)
+				);
+			} finally {
+				GlobalProperties.put(Metrics.Configuration.Key.TYPE, "none");
+			}
+		});
+	}
+
+}
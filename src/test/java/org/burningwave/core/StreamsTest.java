@@ -0,0 +1,33 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+
+import org.junit.jupiter.api.Test;
+
+public class StreamsTest extends BaseTest {
+
+	@Test
+	public void toByteBufferTestOne() {
+		testDoesNotThrow(() -> {
+			byte[] content = new byte[10000];
+			for (int i = 0; i < content.length; i++) {
+				content[i] = (byte)i;
+			}
+			//The declared size is the exact one, a greater one, a smaller one or it is unknown
+			for (int size : new int[] {content.length, content.length * 2, 16, -1}) {
+				assertArrayEquals(
+					content,
+					BufferHandler.toByteArray(
+						Streams.toByteBuffer(Channels.newChannel(new ByteArrayInputStream(content)), size)
+					)
+				);
+			}
+		});
+	}
+
+}
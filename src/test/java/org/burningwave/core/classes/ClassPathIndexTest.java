@@ -0,0 +1,70 @@
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.burningwave.core.BaseTest;
+import org.burningwave.core.io.FileSystemItem;
+import org.junit.jupiter.api.Test;
+
+public class ClassPathIndexTest extends BaseTest {
+
+	@Test
+	public void getContainerTestOne() {
+		testDoesNotThrow(() -> {
+			File jar = new File(FileSystemHelper.createTemporaryFolder("class-path-index-archive").getAbsolutePath(), "spring-core.jar");
+			Files.copy(
+				new File(
+					getComponentSupplier().getPathHelper().getAbsolutePathOfResource(
+						"../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar"
+					)
+				).toPath(),
+				jar.toPath(),
+				StandardCopyOption.REPLACE_EXISTING
+			);
+			String jarAbsolutePath = Paths.clean(jar.getAbsolutePath());
+			String indexFolder = FileSystemHelper.createTemporaryFolder("class-path-index-three").getAbsolutePath();
+			FileSystemItem archive = FileSystemItem.ofPath(jarAbsolutePath);
+			FileSystemItem child = FileSystemItem.ofPath(jarAbsolutePath + "/org/springframework/core/io/Resource.class");
+			ClassPathIndex classPathIndex = ClassPathIndex.create(indexFolder, 16);
+			ClassPathIndex.Container container = classPathIndex.getContainer(archive);
+			assertNull(container.getEntries());
+			assertNull(container.toJavaClass(child));
+			container.setEntries(Arrays.asList(child));
+			container.index(child, child.toJavaClass());
+			classPathIndex.store();
+			classPathIndex.close();
+			ClassPathIndex reloadedClassPathIndex = ClassPathIndex.create(indexFolder, 16);
+			try {
+				container = reloadedClassPathIndex.getContainer(archive);
+				assertEquals(
+					Arrays.asList(child.getAbsolutePath()),
+					container.getEntries().stream().map(FileSystemItem::getAbsolutePath).collect(Collectors.toList())
+				);
+				//The class file structure is served by the index and the byte code is read only on demand
+				JavaClass javaClass = container.toJavaClass(child);
+				assertEquals("org.springframework.core.io.Resource", javaClass.getName());
+				assertEquals("org/springframework/core/io/Resource.class", javaClass.getPath());
+				assertTrue(javaClass.getInterfaceNames().contains("org.springframework.core.io.InputStreamSource"));
+				assertEquals(child.toJavaClass().getByteCode(), javaClass.getByteCode());
+				//A change of the last modified time of the archive invalidates its index
+				assertTrue(jar.setLastModified(jar.lastModified() + 2000));
+				container = reloadedClassPathIndex.getContainer(archive);
+				assertNull(container.getEntries());
+				assertNull(container.toJavaClass(child));
+			} finally {
+				reloadedClassPathIndex.close();
+			}
+		});
+	}
+
+}
@@ -0,0 +1,138 @@
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.burningwave.core.BaseTest;
+import org.burningwave.core.bean.Complex;
+import org.burningwave.core.bean.PojoInterface;
+import org.junit.jupiter.api.Test;
+
+public class JavaFileManagerPoolTest extends BaseTest {
+
+	@Test
+	public void reuseTestOne() {
+		testDoesNotThrow(() -> {
+			String classPath = createClassPath("java-file-manager-pool-one");
+			String otherClassPath = createClassPath("java-file-manager-pool-one-other");
+			JavaFileManagerPool pool = JavaFileManagerPool.create(ToolProvider.getSystemJavaCompiler());
+			try {
+				JavaFileManagerPool.Entry entry = pool.get(optionsFor(classPath), null, 4, 0);
+				StandardJavaFileManager fileManager = entry.getFileManager();
+				entry.release(Arrays.asList(classPath), 4);
+				entry = pool.get(optionsFor(classPath), null, 4, 0);
+				assertSame(fileManager, entry.getFileManager());
+				//The class paths added by the next attempts of a compilation don't change the key
+				entry.release(Arrays.asList(classPath, otherClassPath), 4);
+				entry = pool.get(optionsFor(classPath), null, 4, 0);
+				assertSame(fileManager, entry.getFileManager());
+				//A discarded file manager is closed instead of being returned to the pool
+				entry.discard();
+				entry.release(Arrays.asList(classPath), 4);
+				assertNotSame(fileManager, pool.get(optionsFor(classPath), null, 4, 0).getFileManager());
+			} finally {
+				pool.close();
+			}
+		});
+	}
+
+	@Test
+	public void invalidationTestOne() {
+		testDoesNotThrow(() -> {
+			String classPath = createClassPath("java-file-manager-pool-two");
+			JavaClass.create(Complex.class).storeToClassPath(classPath);
+			JavaFileManagerPool pool = JavaFileManagerPool.create(ToolProvider.getSystemJavaCompiler());
+			try {
+				JavaFileManagerPool.Entry entry = pool.get(optionsFor(classPath), null, 4, 0);
+				StandardJavaFileManager fileManager = entry.getFileManager();
+				entry.release(Arrays.asList(classPath), 4);
+				//A class file added in a sub folder doesn't change the size and the last modified time of the class path folder
+				JavaClass.create(PojoInterface.class).storeToClassPath(classPath);
+				entry = pool.get(optionsFor(classPath), null, 4, 0);
+				assertNotSame(fileManager, entry.getFileManager());
+				fileManager = entry.getFileManager();
+				entry.release(Arrays.asList(classPath), 4);
+				File classFile = new File(classPath + "/" + Complex.class.getName().replace(".", "/") + ".class");
+				classFile.setLastModified(classFile.lastModified() - 60000);
+				assertNotSame(fileManager, pool.get(optionsFor(classPath), null, 4, 0).getFileManager());
+			} finally {
+				pool.close();
+			}
+		});
+	}
+
+	@Test
+	public void invalidationTestTwo() {
+		testDoesNotThrow(() -> {
+			String classPath = createClassPath("java-file-manager-pool-four");
+			File archive = new File(createClassPath("java-file-manager-pool-four-archive"), "library.jar");
+			Files.write(archive.toPath(), new byte[] {1});
+			JavaClass.create(Complex.class).storeToClassPath(classPath);
+			Map<String, String> options = new HashMap<>();
+			options.put("-classpath", classPath + File.pathSeparator + Paths.clean(archive.getAbsolutePath()));
+			JavaFileManagerPool pool = JavaFileManagerPool.create(ToolProvider.getSystemJavaCompiler());
+			try {
+				JavaFileManagerPool.Entry entry = pool.get(options, null, 4, Long.MAX_VALUE);
+				StandardJavaFileManager fileManager = entry.getFileManager();
+				entry.release(Arrays.asList(classPath), 4);
+				//The folders are not walked again before the revalidation interval is elapsed
+				JavaClass.create(PojoInterface.class).storeToClassPath(classPath);
+				entry = pool.get(options, null, 4, Long.MAX_VALUE);
+				assertSame(fileManager, entry.getFileManager());
+				entry.release(Arrays.asList(classPath), 4);
+				//The archives are always checked
+				Files.write(archive.toPath(), new byte[] {1, 2});
+				assertNotSame(fileManager, pool.get(options, null, 4, Long.MAX_VALUE).getFileManager());
+			} finally {
+				pool.close();
+			}
+		});
+	}
+
+	@Test
+	public void evictionTestOne() {
+		testDoesNotThrow(() -> {
+			String classPath = createClassPath("java-file-manager-pool-three");
+			String otherClassPath = createClassPath("java-file-manager-pool-three-other");
+			JavaFileManagerPool pool = JavaFileManagerPool.create(ToolProvider.getSystemJavaCompiler());
+			try {
+				JavaFileManagerPool.Entry entry = pool.get(optionsFor(classPath), null, 1, 0);
+				JavaFileManagerPool.Entry otherEntry = pool.get(optionsFor(otherClassPath), null, 1, 0);
+				StandardJavaFileManager fileManager = entry.getFileManager();
+				StandardJavaFileManager otherFileManager = otherEntry.getFileManager();
+				entry.release(Arrays.asList(classPath), 1);
+				//The pool exceeds its max size: the least recently used file manager is closed
+				otherEntry.release(Arrays.asList(otherClassPath), 1);
+				assertNotSame(fileManager, pool.get(optionsFor(classPath), null, 1, 0).getFileManager());
+				assertSame(otherFileManager, pool.get(optionsFor(otherClassPath), null, 1, 0).getFileManager());
+			} finally {
+				pool.close();
+			}
+		});
+	}
+
+	private String createClassPath(String name) {
+		String classPath = Paths.clean(FileSystemHelper.createTemporaryFolder(name).getAbsolutePath());
+		FileSystemHelper.delete(classPath);
+		new File(classPath).mkdirs();
+		return classPath;
+	}
+
+	private Map<String, String> optionsFor(String classPath) {
+		Map<String, String> options = new HashMap<>();
+		options.put("-classpath", classPath + File.pathSeparator);
+		return options;
+	}
+
+}
@@ -0,0 +1,107 @@
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+
+import org.burningwave.core.BaseTest;
+import org.burningwave.core.concurrent.QueuedTaskExecutor.ProducerTask;
+import org.burningwave.core.iterable.Properties;
+import org.junit.jupiter.api.Test;
+
+public class JavaMemoryCompilerTest extends BaseTest {
+
+	@Test
+	public void compileInBatchTestOne() {
+		testDoesNotThrow(() -> {
+			Properties config = createConfig(2000);
+			ClassPathHelperImpl classPathHelper = (ClassPathHelperImpl)ClassPathHelper.create(getComponentSupplier().getClassPathHunter(), config);
+			JavaMemoryCompilerImpl javaMemoryCompiler = createJavaMemoryCompiler(classPathHelper, config);
+			try {
+				ProducerTask<JavaMemoryCompiler.Compilation.Result> firstTask = javaMemoryCompiler.compile(
+					createCompilationConfig("package org.burningwave.core.batch; public class BatchFirst { public static String get() { return \"first\"; } }")
+				);
+				//The second class can be compiled only together with the first one, since this one is not stored
+				ProducerTask<JavaMemoryCompiler.Compilation.Result> secondTask = javaMemoryCompiler.compile(
+					createCompilationConfig("package org.burningwave.core.batch; public class BatchSecond { public static String get() { return BatchFirst.get(); } }")
+				);
+				assertEquals(Collections.singleton("org.burningwave.core.batch.BatchFirst"), firstTask.join().getCompiledFiles().keySet());
+				assertEquals(Collections.singleton("org.burningwave.core.batch.BatchSecond"), secondTask.join().getCompiledFiles().keySet());
+			} finally {
+				javaMemoryCompiler.close();
+				classPathHelper.close();
+			}
+		});
+	}
+
+	@Test
+	public void compileInBatchTestTwo() {
+		testDoesNotThrow(() -> {
+			Properties config = createConfig(2000);
+			ClassPathHelperImpl classPathHelper = (ClassPathHelperImpl)ClassPathHelper.create(getComponentSupplier().getClassPathHunter(), config);
+			JavaMemoryCompilerImpl javaMemoryCompiler = createJavaMemoryCompiler(classPathHelper, config);
+			try {
+				ProducerTask<JavaMemoryCompiler.Compilation.Result> validTask = javaMemoryCompiler.compile(
+					createCompilationConfig("package org.burningwave.core.batch; public class BatchThird { public static String get() { return \"third\"; } }")
+				);
+				ProducerTask<JavaMemoryCompiler.Compilation.Result> wrongTask = javaMemoryCompiler.compile(
+					createCompilationConfig("package org.burningwave.core.batch; public class BatchFourth { public static String get() { return \"fourth\" } }")
+				);
+				//The batch fails, so the requests are compiled one by one and only the wrong one fails
+				assertEquals(Collections.singleton("org.burningwave.core.batch.BatchThird"), validTask.join().getCompiledFiles().keySet());
+				assertThrows(JavaMemoryCompiler.Compilation.Exception.class, () -> wrongTask.join());
+			} finally {
+				javaMemoryCompiler.close();
+				classPathHelper.close();
+			}
+		});
+	}
+
+	@Test
+	public void closeTestOne() {
+		testDoesNotThrow(() -> {
+			Properties config = createConfig(60000);
+			ClassPathHelperImpl classPathHelper = (ClassPathHelperImpl)ClassPathHelper.create(getComponentSupplier().getClassPathHunter(), config);
+			JavaMemoryCompilerImpl javaMemoryCompiler = createJavaMemoryCompiler(classPathHelper, config);
+			try {
+				ProducerTask<JavaMemoryCompiler.Compilation.Result> task = javaMemoryCompiler.compile(
+					createCompilationConfig("package org.burningwave.core.batch; public class BatchFifth { public static String get() { return \"fifth\"; } }")
+				);
+				String batchesFlusherName = Fields.getDirect(javaMemoryCompiler, "batchesFlusherName");
+				assertNotNull(batchesFlusherName);
+				javaMemoryCompiler.close();
+				//The pending batch is compiled on closing without waiting for the window to elapse
+				assertEquals(Collections.singleton("org.burningwave.core.batch.BatchFifth"), task.join().getCompiledFiles().keySet());
+				assertNull(Fields.getDirect(javaMemoryCompiler, "batchesFlusherName"));
+				//The flusher is stopped and released by the thread holder
+				assertFalse(ThreadHolder.isAlive(batchesFlusherName));
+			} finally {
+				javaMemoryCompiler.close();
+				classPathHelper.close();
+			}
+		});
+	}
+
+	private Properties createConfig(long batchCompilationWindow) {
+		Properties config = new Properties();
+		config.putAll(GlobalProperties);
+		config.put(JavaMemoryCompiler.Configuration.Key.BATCH_COMPILATION_WINDOW, String.valueOf(batchCompilationWindow));
+		return config;
+	}
+
+	private JavaMemoryCompilerImpl createJavaMemoryCompiler(ClassPathHelper classPathHelper, Properties config) {
+		return (JavaMemoryCompilerImpl)JavaMemoryCompiler.create(getComponentSupplier().getPathHelper(), classPathHelper, config);
+	}
+
+	private JavaMemoryCompiler.Compilation.Config createCompilationConfig(String source) {
+		return JavaMemoryCompiler.Compilation.Config.withSource(source).storeCompiledClasses(false);
+	}
+
+}
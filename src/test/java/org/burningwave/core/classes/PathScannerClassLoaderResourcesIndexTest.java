@@ -0,0 +1,160 @@
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.burningwave.core.BaseTest;
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.io.FileSystemItem;
+import org.junit.jupiter.api.Test;
+
+public class PathScannerClassLoaderResourcesIndexTest extends BaseTest {
+	private static final String RESOURCES_FOLDER = "org/burningwave/core/resources-index/";
+
+	@Test
+	public void getResourceTestOne() {
+		String path = createPath("resources-index-one");
+		PathScannerClassLoader classLoader = createPathScannerClassLoader();
+		try {
+			testDoesNotThrow(() -> {
+				createFile(path, RESOURCES_FOLDER + "first.txt");
+				classLoader.scanPathsAndAddAllByteCodesFound(Arrays.asList(path));
+				Map<String, Collection<FileSystemItem>> resourcesIndex = getResourcesIndexes(classLoader).get(path);
+				assertNotNull(resourcesIndex);
+				assertEquals(1, resourcesIndex.get("first.txt").size());
+				assertNotNull(classLoader.getResource(RESOURCES_FOLDER + "first.txt"));
+				assertNotNull(classLoader.getResourceAsStream(RESOURCES_FOLDER + "first.txt"));
+				//The name must match the whole relative path and not only the file name
+				assertNull(classLoader.getResource("other/first.txt"));
+				//A file added after the scan is not in the index until the path is refreshed
+				createFile(path, RESOURCES_FOLDER + "second.txt");
+				assertNull(classLoader.getResource(RESOURCES_FOLDER + "second.txt"));
+			});
+		} finally {
+			classLoader.unregister(this, true);
+		}
+	}
+
+	@Test
+	public void refreshTestOne() {
+		String path = createPath("resources-index-two");
+		PathScannerClassLoader classLoader = createPathScannerClassLoader();
+		try {
+			testDoesNotThrow(() -> {
+				File firstFile = createFile(path, RESOURCES_FOLDER + "first.txt");
+				classLoader.scanPathsAndAddAllByteCodesFound(Arrays.asList(path));
+				Map<String, Collection<FileSystemItem>> resourcesIndex = getResourcesIndexes(classLoader).get(path);
+				createFile(path, RESOURCES_FOLDER + "second.txt");
+				classLoader.refresh();
+				//The index of the refreshed path is replaced and the stale one is dropped
+				assertNotSame(resourcesIndex, getResourcesIndexes(classLoader).get(path));
+				assertNotNull(classLoader.getResource(RESOURCES_FOLDER + "second.txt"));
+				FileSystemHelper.delete(firstFile);
+				classLoader.refresh();
+				assertNull(classLoader.getResource(RESOURCES_FOLDER + "first.txt"));
+				assertNull(getResourcesIndexes(classLoader).get(path).get("first.txt"));
+			});
+		} finally {
+			classLoader.unregister(this, true);
+		}
+	}
+
+	@Test
+	public void removeResourcesIndexTestOne() {
+		String path = createPath("resources-index-three");
+		PathScannerClassLoader classLoader = createPathScannerClassLoader();
+		try {
+			testDoesNotThrow(() -> {
+				createFile(path, RESOURCES_FOLDER + "first.txt");
+				classLoader.scanPathsAndAddAllByteCodesFound(Arrays.asList(path));
+				assertNotNull(getResourcesIndexes(classLoader).get(path));
+				//The ClassPathScanner removes the index of the paths that it refreshes or whose items are removed
+				classLoader.removeResourcesIndex(path);
+				assertNull(getResourcesIndexes(classLoader).get(path));
+				//The index is rebuilt on the next request
+				assertNotNull(classLoader.getResource(RESOURCES_FOLDER + "first.txt"));
+				assertNotNull(getResourcesIndexes(classLoader).get(path));
+			});
+		} finally {
+			classLoader.unregister(this, true);
+		}
+	}
+
+	@Test
+	public void getResourcesTestOne() {
+		String path = createPath("resources-index-four");
+		String otherPath = createPath("resources-index-four-other");
+		PathScannerClassLoader classLoader = createPathScannerClassLoader();
+		try {
+			testDoesNotThrow(() -> {
+				File file = createFile(path, RESOURCES_FOLDER + "duplicated.txt");
+				File otherFile = createFile(otherPath, RESOURCES_FOLDER + "duplicated.txt");
+				//Same file name but different relative path: it must not be returned
+				createFile(otherPath, "org/burningwave/core/duplicated.txt");
+				classLoader.scanPathsAndAddAllByteCodesFound(Arrays.asList(path, otherPath));
+				assertEquals(2, getResourcesIndexes(classLoader).get(otherPath).get("duplicated.txt").size());
+				assertEquals(
+					new HashSet<>(Arrays.asList(
+						Paths.clean(file.getAbsolutePath()),
+						Paths.clean(otherFile.getAbsolutePath())
+					)),
+					Collections.list(classLoader.getResources(RESOURCES_FOLDER + "duplicated.txt")).stream().map(url ->
+						Paths.convertURLPathToAbsolutePath(url.getPath())
+					).collect(Collectors.toSet())
+				);
+				assertTrue(
+					Collections.list(classLoader.getResources("org/burningwave/core/duplicated.txt")).size() == 1
+				);
+			});
+		} finally {
+			classLoader.unregister(this, true);
+		}
+	}
+
+	private PathScannerClassLoader createPathScannerClassLoader() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		PathScannerClassLoader classLoader = PathScannerClassLoader.create(
+			componentSupplier.getPathScannerClassLoader(),
+			componentSupplier.getPathHelper(),
+			FileSystemItem.Criteria.forClassTypeFiles(FileSystemItem.CheckingOption.FOR_NAME)
+		);
+		classLoader.register(this);
+		return classLoader;
+	}
+
+	private Map<String, Map<String, Collection<FileSystemItem>>> getResourcesIndexes(PathScannerClassLoader classLoader) {
+		return Fields.getDirect(classLoader, "resourcesIndexes");
+	}
+
+	private String createPath(String name) {
+		String path = Paths.clean(FileSystemHelper.createTemporaryFolder(name).getAbsolutePath());
+		FileSystemHelper.delete(path);
+		new File(path).mkdirs();
+		FileSystemItem.ofPath(path).reset();
+		return path;
+	}
+
+	private File createFile(String path, String relativePath) throws IOException {
+		File file = new File(path + "/" + relativePath);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), relativePath.getBytes());
+		return file;
+	}
+
+}
@@ -0,0 +1,129 @@
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.burningwave.core.BaseTest;
+import org.junit.jupiter.api.Test;
+
+public class TasksQueueTest extends BaseTest {
+
+	@Test
+	public void removeFromTheMiddleTestOne() {
+		TasksQueue queue = new TasksQueue(Integer.MAX_VALUE);
+		List<QueuedTaskExecutor.Task> tasks = createTasks(10);
+		for (QueuedTaskExecutor.Task task : tasks) {
+			queue.add(task);
+		}
+		assertTrue(queue.remove(tasks.get(3)));
+		assertTrue(queue.remove(tasks.get(4)));
+		assertTrue(queue.remove(tasks.get(7)));
+		assertFalse(queue.remove(tasks.get(4)));
+		assertFalse(queue.contains(tasks.get(3)));
+		assertTrue(queue.contains(tasks.get(5)));
+		assertTrue(queue.size() == 7);
+		Collection<QueuedTaskExecutor.Task> iteratedTasks = new ArrayList<>();
+		for (TaskAbst<?, ?> task : queue) {
+			iteratedTasks.add((QueuedTaskExecutor.Task)task);
+		}
+		assertTrue(iteratedTasks.size() == 7 && !iteratedTasks.contains(tasks.get(7)));
+		for (int index : new int[] {0, 1, 2, 5, 6, 8, 9}) {
+			assertSame(tasks.get(index), queue.poll());
+		}
+		assertNull(queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void concurrentRemovalTestOne() throws InterruptedException {
+		int tasksCount = 4000;
+		TasksQueue queue = new TasksQueue(Integer.MAX_VALUE);
+		List<QueuedTaskExecutor.Task> tasks = createTasks(tasksCount);
+		for (QueuedTaskExecutor.Task task : tasks) {
+			queue.add(task);
+		}
+		AtomicInteger removedTasksCount = new AtomicInteger();
+		Collection<java.lang.Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			//Every thread tries to remove all the odd tasks: each of them must be removed only once
+			java.lang.Thread thread = new java.lang.Thread(() -> {
+				for (int j = 1; j < tasksCount; j += 2) {
+					if (queue.remove(tasks.get(j))) {
+						removedTasksCount.incrementAndGet();
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (java.lang.Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue(removedTasksCount.get() == tasksCount / 2);
+		assertTrue(queue.size() == tasksCount / 2);
+		for (int i = 0; i < tasksCount; i += 2) {
+			assertSame(tasks.get(i), queue.poll());
+		}
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void concurrentPollAndRemovalTestOne() throws InterruptedException {
+		int tasksCount = 4000;
+		TasksQueue queue = new TasksQueue(Integer.MAX_VALUE);
+		List<QueuedTaskExecutor.Task> tasks = createTasks(tasksCount);
+		for (QueuedTaskExecutor.Task task : tasks) {
+			queue.add(task);
+		}
+		Set<TaskAbst<?, ?>> takenTasks = ConcurrentHashMap.newKeySet();
+		AtomicInteger duplicatesCount = new AtomicInteger();
+		Collection<java.lang.Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			threads.add(new java.lang.Thread(() -> {
+				TaskAbst<?, ?> task;
+				while ((task = queue.poll()) != null) {
+					if (!takenTasks.add(task)) {
+						duplicatesCount.incrementAndGet();
+					}
+				}
+			}));
+			int offset = i;
+			threads.add(new java.lang.Thread(() -> {
+				for (int j = tasksCount - 1 - offset; j >= 0; j -= 2) {
+					QueuedTaskExecutor.Task task = tasks.get(j);
+					if (queue.remove(task) && !takenTasks.add(task)) {
+						duplicatesCount.incrementAndGet();
+					}
+				}
+			}));
+		}
+		for (java.lang.Thread thread : threads) {
+			thread.start();
+		}
+		for (java.lang.Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue(duplicatesCount.get() == 0);
+		assertTrue(takenTasks.size() == tasksCount);
+		assertTrue(queue.isEmpty());
+	}
+
+	private List<QueuedTaskExecutor.Task> createTasks(int count) {
+		List<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			tasks.add(BackgroundExecutor.createTask(task -> {}));
+		}
+		return tasks;
+	}
+
+}
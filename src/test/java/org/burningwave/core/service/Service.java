@@ -94,6 +94,14 @@ public class Service implements Component, ServiceInterface {
 		return "";
 	}
 
+	public static int staticSum(int value_01, int value_02) {
+		return value_01 + value_02;
+	}
+
+	public int compute(long value_01, double value_02) {
+		return (int)(value_01 * value_02);
+	}
+
 	public boolean test(Object value_01, String value_02, String value_03) {
 		ManagedLoggerRepository.logInfo(this.getClass()::getName, "TriPredicate: " + value_01 + " " + value_02 + " " + value_03);
 		return true;